@@ -6,6 +6,7 @@ import gregtech.api.block.UnlistedIntegerProperty;
 import gregtech.api.block.UnlistedStringProperty;
 import gregtech.api.capability.GregtechDataCodes;
 import gregtech.api.cover.Cover;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.IFacadeCover;
 import gregtech.api.items.toolitem.ToolClasses;
 import gregtech.api.items.toolitem.ToolHelper;
@@ -449,6 +450,7 @@ public class BlockMachine extends BlockCustomParticle implements ITileEntityProv
             if (metaTileEntity != null) {
                 metaTileEntity.updateInputRedstoneSignals();
                 metaTileEntity.onNeighborChanged();
+                if (facing != null) CoverTickScheduler.wakeCover(metaTileEntity.getCoverAtSide(facing));
             }
         }
     }
@@ -458,7 +460,11 @@ public class BlockMachine extends BlockCustomParticle implements ITileEntityProv
         TileEntity holder = world.getTileEntity(pos);
         if (holder instanceof IGregTechTileEntity gregTechTile) {
             EnumFacing facing = GTUtility.getFacingToNeighbor(pos, neighbor);
-            if (facing != null) gregTechTile.onNeighborChanged(facing);
+            if (facing != null) {
+                gregTechTile.onNeighborChanged(facing);
+                MetaTileEntity metaTileEntity = gregTechTile.getMetaTileEntity();
+                if (metaTileEntity != null) CoverTickScheduler.wakeCover(metaTileEntity.getCoverAtSide(facing));
+            }
         }
     }
 
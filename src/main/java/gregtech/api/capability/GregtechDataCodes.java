@@ -1,22 +1,43 @@
 package gregtech.api.capability;
 
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
 public class GregtechDataCodes {
 
     private static int nextId = 0;
+    private static final IntSet stateIds = new IntOpenHashSet();
 
     public static int assignId() {
         return nextId++;
     }
 
+    /**
+     * Assigns an id for data which always contains the whole state it updates. When several updates with such an id
+     * are sent by the same tile entity in the same tick, only the last one has to be sent.
+     */
+    public static int assignStateId() {
+        int id = assignId();
+        stateIds.add(id);
+        return id;
+    }
+
+    /**
+     * @return if the id was assigned with {@link #assignStateId()}
+     */
+    public static boolean isStateId(int id) {
+        return stateIds.contains(id);
+    }
+
     // MTE implementation update codes
     public static final int INITIALIZE_MTE = assignId();
-    public static final int UPDATE_FRONT_FACING = assignId();
-    public static final int UPDATE_PAINTING_COLOR = assignId();
+    public static final int UPDATE_FRONT_FACING = assignStateId();
+    public static final int UPDATE_PAINTING_COLOR = assignStateId();
     public static final int SYNC_MTE_TRAITS = assignId();
     public static final int COVER_ATTACHED_MTE = assignId();
     public static final int COVER_REMOVED_MTE = assignId();
     public static final int UPDATE_COVER_DATA_MTE = assignId();
-    public static final int UPDATE_SOUND_MUFFLED = assignId();
+    public static final int UPDATE_SOUND_MUFFLED = assignStateId();
 
     public static final int UPDATE_OUTPUT_FACING = assignId();
     public static final int UPDATE_AUTO_OUTPUT_ITEMS = assignId();
@@ -33,7 +54,7 @@ public class GregtechDataCodes {
     public static final int NEEDS_VENTING = assignId();
     public static final int VENTING_SIDE = assignId();
     public static final int VENTING_STUCK = assignId();
-    public static final int BOILER_HEAT = assignId();
+    public static final int BOILER_HEAT = assignStateId();
     public static final int BOILER_LAST_TICK_STEAM = assignId();
 
     // Misc TEs (Transformer, World Accelerator)
@@ -49,7 +70,7 @@ public class GregtechDataCodes {
     public static final int PUMP_HEAD_LEVEL = assignId();
 
     // Item Collector, Magic Energy Absorber, Large Boiler, Steam Oven
-    public static final int IS_WORKING = assignId();
+    public static final int IS_WORKING = assignStateId();
 
     // Adjustable Transformer, Adjustable Energy Hatch, Diode
     public static final int AMP_INDEX = assignId();
@@ -59,18 +80,18 @@ public class GregtechDataCodes {
 
     // Pipe implementation update codes
     public static final int UPDATE_INSULATION_COLOR = assignId();
-    public static final int UPDATE_CONNECTIONS = assignId();
+    public static final int UPDATE_CONNECTIONS = assignStateId();
     public static final int SYNC_COVER_IMPLEMENTATION = assignId();
     public static final int UPDATE_PIPE_TYPE = assignId();
     public static final int UPDATE_PIPE_MATERIAL = assignId();
-    public static final int UPDATE_BLOCKED_CONNECTIONS = assignId();
+    public static final int UPDATE_BLOCKED_CONNECTIONS = assignStateId();
     public static final int UPDATE_FRAME_MATERIAL = assignId();
     public static final int UPDATE_COVER_DATA_PIPE = assignId();
     public static final int COVER_ATTACHED_PIPE = assignId();
     public static final int COVER_REMOVED_PIPE = assignId();
     public static final int PIPE_OPTICAL_ACTIVE = assignId();
     public static final int PIPE_LASER_ACTIVE = assignId();
-    public static final int CABLE_TEMPERATURE = assignId();
+    public static final int CABLE_TEMPERATURE = assignStateId();
 
     // Multiblock implementation update codes
     public static final int SYNC_CONTROLLER = assignId();
@@ -102,7 +123,7 @@ public class GregtechDataCodes {
     public static final int UPDATE_ALL = assignId();
     public static final int UPDATE_COVERS = assignId();
     public static final int UPDATE_HEIGHT = assignId();
-    public static final int UPDATE_ACTIVE = assignId();
+    public static final int UPDATE_ACTIVE = assignStateId();
     public static final int UPDATE_PLUGIN_ITEM = assignId();
 
     // Central Monitor Plugin
@@ -130,14 +151,14 @@ public class GregtechDataCodes {
     public static final int LOAD_PHANTOM_FLUID_STACK_FROM_NBT = assignId();
 
     // Recipe Logic
-    public static final int WORKABLE_ACTIVE = assignId();
-    public static final int WORKING_ENABLED = assignId();
+    public static final int WORKABLE_ACTIVE = assignStateId();
+    public static final int WORKING_ENABLED = assignStateId();
 
     // Creative Energy
     public static final int UPDATE_IO_SPEED = assignId();
 
     // Quantum Chest/Tank
-    public static final int UPDATE_ITEM_COUNT = assignId();
+    public static final int UPDATE_ITEM_COUNT = assignStateId();
     public static final int UPDATE_FLUID_AMOUNT = assignId();
 
     // Quantum Storage Controller
@@ -0,0 +1,45 @@
+package gregtech.api.capability;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * For item handlers over many storages, which know which storages hold each kind of item, so items can be inserted
+ * and extracted without checking every slot.
+ */
+public interface IIndexedItemHandler extends IItemHandler {
+
+    /**
+     * Inserts a stack into the storages already holding its item, then into empty storages.
+     *
+     * @param stack    the stack to insert
+     * @param simulate if the insertion should only be simulated
+     * @return the part of the stack which could not be inserted
+     */
+    @NotNull
+    ItemStack insertItem(@NotNull ItemStack stack, boolean simulate);
+
+    /**
+     * @param stack    the item, metadata and NBT to extract
+     * @param amount   the most items to extract
+     * @param simulate if the extraction should only be simulated
+     * @return the extracted stack
+     */
+    @NotNull
+    ItemStack extractItem(@NotNull ItemStack stack, int amount, boolean simulate);
+
+    /**
+     * @param stack the item, metadata and NBT to count
+     * @return the amount of the item stored in all storages
+     */
+    long getItemCount(@NotNull ItemStack stack);
+
+    /**
+     * @return the amount stored of each kind of item, keyed by stacks of one
+     */
+    @NotNull
+    Object2LongMap<ItemStack> getItemCounts();
+}
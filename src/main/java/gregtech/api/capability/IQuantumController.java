@@ -12,6 +12,31 @@ public interface IQuantumController extends ICapabilityProvider {
      */
     void rebuildNetwork();
 
+    /**
+     * Called when a storage joins the network of this controller, next to one of its storages or to itself.
+     *
+     * @param storage the storage
+     */
+    default void onStorageAdded(IQuantumStorage<?> storage) {
+        rebuildNetwork();
+    }
+
+    /**
+     * Called when a storage of this controller's network is removed, while it is still in the world.
+     *
+     * @param storage the storage
+     */
+    default void onStorageRemoved(IQuantumStorage<?> storage) {
+        rebuildNetwork();
+    }
+
+    /**
+     * Called when the kind of contents of a storage of this controller's network changes.
+     *
+     * @param storage the storage
+     */
+    default void onStorageContentsChanged(IQuantumStorage<?> storage) {}
+
     /**
      * Return whether this storage block can connect. Can be used to implement a maximum distance from controller for
      * example.
@@ -56,7 +56,7 @@ public interface IQuantumStorage<T> extends CoverableView {
                 }
             }
             if (candidate != null) {
-                candidate.rebuildNetwork();
+                candidate.onStorageAdded(this);
                 return;
             }
         }
@@ -0,0 +1,41 @@
+package gregtech.api.capability;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * For Item and Fluid handlers which count the changes made to their contents
+ */
+public interface IVersionedHandler {
+
+    /**
+     * The version of a handler which does not count changes to its contents
+     */
+    long UNTRACKED = -1;
+
+    /**
+     * The version must change every time the contents of the handler change, and never decrease.
+     *
+     * @return the version of the contents of this handler, or {@link #UNTRACKED} if changes are not counted
+     */
+    long getContentsVersion();
+
+    /**
+     * @param handler the handler
+     * @return the version of the contents of the handler, or {@link #UNTRACKED} if the handler is not versioned
+     */
+    static long getContentsVersion(@Nullable Object handler) {
+        return handler instanceof IVersionedHandler versioned ? versioned.getContentsVersion() : UNTRACKED;
+    }
+
+    /**
+     * Combines the versions of several handlers into one version, which changes whenever one of them changes.
+     *
+     * @param first  the version of the first handler
+     * @param second the version of the second handler
+     * @return the combined version, or {@link #UNTRACKED} if either handler is untracked
+     */
+    static long combine(long first, long second) {
+        if (first == UNTRACKED || second == UNTRACKED) return UNTRACKED;
+        return first + second;
+    }
+}
@@ -127,7 +127,7 @@ public class BoilerRecipeLogic extends AbstractRecipeLogic implements ICategoryO
                     this.excessFuel %= 80;
                     setMaxProgress(excessProgress +
                             adjustBurnTimeForThrottle(boiler.boilerType.runtimeBoost(fuelBurnTime / 80)));
-                    stack.shrink(1);
+                    importItems.extractItem(i, 1, false);
                     didStartRecipe = true;
                     break;
                 }
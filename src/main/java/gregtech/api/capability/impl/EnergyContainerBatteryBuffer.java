@@ -2,6 +2,7 @@ package gregtech.api.capability.impl;
 
 import gregtech.api.GTValues;
 import gregtech.api.capability.*;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
@@ -223,6 +224,7 @@ public class EnergyContainerBatteryBuffer extends EnergyContainerHandler {
     }
 
     public void notifyEnergyListener(boolean isInitialChange) {
+        CoverTickScheduler.wakeCovers(metaTileEntity);
         if (metaTileEntity instanceof IEnergyChangeListener) {
             ((IEnergyChangeListener) metaTileEntity).onEnergyChanged(this, isInitialChange);
         }
@@ -4,6 +4,7 @@ import gregtech.api.GTValues;
 import gregtech.api.capability.FeCompat;
 import gregtech.api.capability.GregtechCapabilities;
 import gregtech.api.capability.IElectricItem;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
@@ -167,6 +168,7 @@ public class EnergyContainerBatteryCharger extends EnergyContainerHandler {
     }
 
     public void notifyEnergyListener(boolean isInitialChange) {
+        CoverTickScheduler.wakeCovers(metaTileEntity);
         if (metaTileEntity instanceof IEnergyChangeListener) {
             ((IEnergyChangeListener) metaTileEntity).onEnergyChanged(this, isInitialChange);
         }
@@ -2,6 +2,7 @@ package gregtech.api.capability.impl;
 
 import gregtech.api.GTValues;
 import gregtech.api.capability.*;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.metatileentity.MTETrait;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.GTUtility;
@@ -126,6 +127,7 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
     }
 
     protected void notifyEnergyListener(boolean isInitialChange) {
+        CoverTickScheduler.wakeCovers(metaTileEntity);
         if (metaTileEntity instanceof IEnergyChangeListener) {
             ((IEnergyChangeListener) metaTileEntity).onEnergyChanged(this, isInitialChange);
         }
@@ -2,6 +2,7 @@ package gregtech.api.capability.impl;
 
 import gregtech.api.capability.IFilter;
 import gregtech.api.capability.IFilteredFluidContainer;
+import gregtech.api.capability.IVersionedHandler;
 
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
@@ -10,10 +11,11 @@ import net.minecraftforge.fluids.FluidTank;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public class FilteredFluidHandler extends FluidTank implements IFilteredFluidContainer {
+public class FilteredFluidHandler extends FluidTank implements IFilteredFluidContainer, IVersionedHandler {
 
     @Nullable
     private IFilter<FluidStack> filter;
+    private long contentsVersion;
 
     public FilteredFluidHandler(int capacity) {
         super(capacity);
@@ -49,4 +51,22 @@ public class FilteredFluidHandler extends FluidTank implements IFilteredFluidCon
     public boolean canFillFluidType(FluidStack fluid) {
         return canFill() && (this.filter == null || this.filter.test(fluid));
     }
+
+    @Override
+    protected void onContentsChanged() {
+        super.onContentsChanged();
+        this.contentsVersion++;
+    }
+
+    @Override
+    public void setFluid(@Nullable FluidStack fluid) {
+        super.setFluid(fluid);
+        // FluidTank does not report contents set directly as a change
+        this.contentsVersion++;
+    }
+
+    @Override
+    public long getContentsVersion() {
+        return contentsVersion;
+    }
 }
@@ -1,5 +1,7 @@
 package gregtech.api.capability.impl;
 
+import gregtech.api.capability.IVersionedHandler;
+
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
@@ -7,7 +9,7 @@ import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public class FluidHandlerDelegate implements IFluidHandler {
+public class FluidHandlerDelegate implements IFluidHandler, IVersionedHandler {
 
     public final IFluidHandler delegate;
 
@@ -36,4 +38,9 @@ public class FluidHandlerDelegate implements IFluidHandler {
     public FluidStack drain(int maxDrain, boolean doDrain) {
         return delegate.drain(maxDrain, doDrain);
     }
+
+    @Override
+    public long getContentsVersion() {
+        return IVersionedHandler.getContentsVersion(delegate);
+    }
 }
@@ -1,5 +1,7 @@
 package gregtech.api.capability.impl;
 
+import gregtech.api.capability.IVersionedHandler;
+
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
@@ -10,7 +12,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Collections;
 import java.util.List;
 
-public class FluidHandlerProxy implements IFluidHandler {
+public class FluidHandlerProxy implements IFluidHandler, IVersionedHandler {
 
     public IFluidHandler input;
     public IFluidHandler output;
@@ -51,4 +53,10 @@ public class FluidHandlerProxy implements IFluidHandler {
     public FluidStack drain(int maxDrain, boolean doDrain) {
         return output.drain(maxDrain, doDrain);
     }
+
+    @Override
+    public long getContentsVersion() {
+        return IVersionedHandler.combine(IVersionedHandler.getContentsVersion(input),
+                IVersionedHandler.getContentsVersion(output));
+    }
 }
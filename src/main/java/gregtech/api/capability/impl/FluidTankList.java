@@ -1,6 +1,7 @@
 package gregtech.api.capability.impl;
 
 import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.capability.IVersionedHandler;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -18,7 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
-public class FluidTankList implements IMultipleTankHandler, INBTSerializable<NBTTagCompound> {
+public class FluidTankList implements IMultipleTankHandler, INBTSerializable<NBTTagCompound>, IVersionedHandler {
 
     private final MultiFluidTankEntry[] fluidTanks;
     private final boolean allowSameFluidFill;
@@ -221,6 +222,15 @@ public class FluidTankList implements IMultipleTankHandler, INBTSerializable<NBT
         }
     }
 
+    @Override
+    public long getContentsVersion() {
+        long version = 0;
+        for (MultiFluidTankEntry tank : fluidTanks) {
+            version = IVersionedHandler.combine(version, IVersionedHandler.getContentsVersion(tank.getDelegate()));
+        }
+        return version;
+    }
+
     @Override
     public String toString() {
         return toString(false);
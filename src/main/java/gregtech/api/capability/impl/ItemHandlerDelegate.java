@@ -1,11 +1,13 @@
 package gregtech.api.capability.impl;
 
+import gregtech.api.capability.IVersionedHandler;
+
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 
 import org.jetbrains.annotations.NotNull;
 
-public class ItemHandlerDelegate implements IItemHandler {
+public class ItemHandlerDelegate implements IItemHandler, IVersionedHandler {
 
     public final IItemHandler delegate;
 
@@ -40,4 +42,9 @@ public class ItemHandlerDelegate implements IItemHandler {
     public int getSlotLimit(int slot) {
         return delegate.getSlotLimit(slot);
     }
+
+    @Override
+    public long getContentsVersion() {
+        return IVersionedHandler.getContentsVersion(delegate);
+    }
 }
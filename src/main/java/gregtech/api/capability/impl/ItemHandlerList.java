@@ -1,5 +1,7 @@
 package gregtech.api.capability.impl;
 
+import gregtech.api.capability.IVersionedHandler;
+
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
@@ -13,10 +15,11 @@ import java.util.*;
 /**
  * Efficiently delegates calls into multiple item handlers
  */
-public class ItemHandlerList implements IItemHandlerModifiable {
+public class ItemHandlerList implements IItemHandlerModifiable, IVersionedHandler {
 
     private final Int2ObjectMap<IItemHandler> handlerBySlotIndex = new Int2ObjectOpenHashMap<>();
     private final Map<IItemHandler, Integer> baseIndexOffset = new IdentityHashMap<>();
+    private final IItemHandler[] handlers;
 
     public ItemHandlerList(List<? extends IItemHandler> itemHandlerList) {
         int currentSlotIndex = 0;
@@ -31,6 +34,7 @@ public class ItemHandlerList implements IItemHandlerModifiable {
             }
             currentSlotIndex += slotsCount;
         }
+        this.handlers = itemHandlerList.toArray(new IItemHandler[0]);
     }
 
     @Override
@@ -78,4 +82,13 @@ public class ItemHandlerList implements IItemHandlerModifiable {
     public Collection<IItemHandler> getBackingHandlers() {
         return Collections.unmodifiableCollection(handlerBySlotIndex.values());
     }
+
+    @Override
+    public long getContentsVersion() {
+        long version = 0;
+        for (IItemHandler handler : handlers) {
+            version = IVersionedHandler.combine(version, IVersionedHandler.getContentsVersion(handler));
+        }
+        return version;
+    }
 }
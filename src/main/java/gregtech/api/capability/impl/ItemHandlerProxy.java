@@ -1,11 +1,13 @@
 package gregtech.api.capability.impl;
 
+import gregtech.api.capability.IVersionedHandler;
+
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 
 import org.jetbrains.annotations.NotNull;
 
-public class ItemHandlerProxy implements IItemHandler {
+public class ItemHandlerProxy implements IItemHandler, IVersionedHandler {
 
     private final IItemHandler insertHandler;
     private final IItemHandler extractHandler;
@@ -45,4 +47,10 @@ public class ItemHandlerProxy implements IItemHandler {
         return slot < insertHandler.getSlots() ? insertHandler.getSlotLimit(slot) :
                 extractHandler.getSlotLimit(slot - insertHandler.getSlots());
     }
+
+    @Override
+    public long getContentsVersion() {
+        return IVersionedHandler.combine(IVersionedHandler.getContentsVersion(insertHandler),
+                IVersionedHandler.getContentsVersion(extractHandler));
+    }
 }
@@ -16,6 +16,7 @@ import gregtech.api.recipes.properties.RecipePropertyStorage;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
 
+import net.minecraft.item.ItemStack;
 import net.minecraft.util.Tuple;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
@@ -35,6 +36,8 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
     protected int lastRecipeIndex = 0;
     protected IItemHandlerModifiable currentDistinctInputBus;
     protected List<IItemHandlerModifiable> invalidatedInputList = new ArrayList<>();
+    // subclasses overriding findRecipe, such as the processing array, must search each distinct bus through it
+    private final boolean overridesFindRecipe = overridesFindRecipe(getClass());
 
     public MultiblockRecipeLogic(RecipeMapMultiblockController tileEntity) {
         super(tileEntity, tileEntity.recipeMap);
@@ -214,22 +217,26 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
             }
         }
 
-        // On a cache miss, our efficiency is much worse, as it will check
-        // each bus individually instead of the combined inventory all at once.
-        for (int i = 0; i < importInventory.size(); i++) {
-            IItemHandlerModifiable bus = importInventory.get(i);
+        // On a cache miss, search every bus which is not invalidated at once
+        List<IItemHandlerModifiable> searchedBuses = new ArrayList<>(importInventory.size());
+        for (IItemHandlerModifiable bus : importInventory) {
             // Skip this bus if no recipe was found last time
-            if (invalidatedInputList.contains(bus)) {
-                continue;
+            if (!invalidatedInputList.contains(bus)) {
+                searchedBuses.add(bus);
             }
-            // Look for a new recipe after a cache miss
-            currentRecipe = findRecipe(maxVoltage, bus, importFluids);
+        }
+        if (searchedBuses.isEmpty()) return;
+
+        Recipe[] recipes = findRecipes(maxVoltage, searchedBuses, importFluids);
+        for (int i = 0; i < searchedBuses.size(); i++) {
+            IItemHandlerModifiable bus = searchedBuses.get(i);
+            currentRecipe = recipes[i];
             // Cache the current recipe, if one is found
             if (currentRecipe != null && checkRecipe(currentRecipe)) {
                 this.previousRecipe = currentRecipe;
                 currentDistinctInputBus = bus;
                 if (prepareRecipeDistinct(currentRecipe)) {
-                    lastRecipeIndex = i;
+                    lastRecipeIndex = importInventory.indexOf(bus);
                     return;
                 }
             }
@@ -240,6 +247,53 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
         }
     }
 
+    /**
+     * Find recipes for several input buses at once, which share the fluid inputs.
+     * <p>
+     * If this logic overrides {@link #findRecipe(long, IItemHandlerModifiable, IMultipleTankHandler)}, each bus is
+     * searched through it instead.
+     *
+     * @param maxVoltage  the maximum voltage the recipes can have
+     * @param inputs      the input buses to search with
+     * @param fluidInputs the fluid inputs shared by all buses
+     * @return the recipe found for each bus, or null at the index of a bus with no recipe
+     */
+    @NotNull
+    protected Recipe[] findRecipes(long maxVoltage, @NotNull List<IItemHandlerModifiable> inputs,
+                                   @NotNull IMultipleTankHandler fluidInputs) {
+        Recipe[] recipes = new Recipe[inputs.size()];
+        if (overridesFindRecipe) {
+            for (int i = 0; i < inputs.size(); i++) {
+                recipes[i] = findRecipe(maxVoltage, inputs.get(i), fluidInputs);
+            }
+            return recipes;
+        }
+
+        RecipeMap<?> map = getRecipeMap();
+        if (map == null || !isRecipeMapValid(map)) return recipes;
+
+        List<List<ItemStack>> items = new ArrayList<>(inputs.size());
+        for (IItemHandlerModifiable input : inputs) {
+            items.add(GTUtility.itemHandlerToList(input));
+        }
+        return map.findRecipes(maxVoltage, items, GTUtility.fluidHandlerToList(fluidInputs), false);
+    }
+
+    /**
+     * @param clazz the class of a recipe logic
+     * @return if the class overrides findRecipe, which the batched search does not call
+     */
+    private static boolean overridesFindRecipe(@NotNull Class<?> clazz) {
+        for (; clazz != AbstractRecipeLogic.class; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod("findRecipe", long.class, IItemHandlerModifiable.class,
+                        IMultipleTankHandler.class);
+                return true;
+            } catch (NoSuchMethodException ignored) {}
+        }
+        return false;
+    }
+
     @Override
     public void invalidateInputs() {
         MultiblockWithDisplayBase controller = (MultiblockWithDisplayBase) metaTileEntity;
@@ -1,17 +1,22 @@
 package gregtech.api.capability.impl;
 
 import gregtech.api.capability.INotifiableHandler;
+import gregtech.api.capability.IVersionedHandler;
 import gregtech.api.metatileentity.MetaTileEntity;
 
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.ArrayList;
 import java.util.List;
 
-public class NotifiableFluidTank extends FluidTank implements INotifiableHandler {
+public class NotifiableFluidTank extends FluidTank implements INotifiableHandler, IVersionedHandler {
 
     List<MetaTileEntity> notifiableEntities = new ArrayList<>();
     private final boolean isExport;
+    private long contentsVersion;
 
     public NotifiableFluidTank(int capacity, MetaTileEntity entityToNotify, boolean isExport) {
         super(capacity);
@@ -22,6 +27,7 @@ public class NotifiableFluidTank extends FluidTank implements INotifiableHandler
     @Override
     protected void onContentsChanged() {
         super.onContentsChanged();
+        this.contentsVersion++;
         for (MetaTileEntity metaTileEntity : notifiableEntities) {
             if (metaTileEntity != null && metaTileEntity.isValid()) {
                 addToNotifiedList(metaTileEntity, this, isExport);
@@ -29,6 +35,18 @@ public class NotifiableFluidTank extends FluidTank implements INotifiableHandler
         }
     }
 
+    @Override
+    public void setFluid(@Nullable FluidStack fluid) {
+        super.setFluid(fluid);
+        // FluidTank does not report contents set directly as a change
+        this.contentsVersion++;
+    }
+
+    @Override
+    public long getContentsVersion() {
+        return contentsVersion;
+    }
+
     @Override
     public void addNotifiableMetaTileEntity(MetaTileEntity metaTileEntity) {
         this.notifiableEntities.add(metaTileEntity);
@@ -10,6 +10,7 @@ import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.GTUtility;
+import gregtech.api.worldgen.generator.OreVeinIndex;
 import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.common.ConfigHolder;
@@ -24,19 +25,23 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -57,7 +62,10 @@ public class MinerLogic {
 
     private final ICubeRenderer PIPE_TEXTURE;
 
-    private final LinkedList<BlockPos> blocksToMine = new LinkedList<>();
+    private final LongArrayFIFOQueue blocksToMine = new LongArrayFIFOQueue();
+    /** Whether each chunk in the area may have ores in the section at {@link #scannedSectionY} */
+    private final Long2BooleanOpenHashMap sectionsWithOres = new Long2BooleanOpenHashMap();
+    private int scannedSectionY = Integer.MIN_VALUE;
 
     private final AtomicInteger x = new AtomicInteger(Integer.MAX_VALUE);
     private final AtomicInteger y = new AtomicInteger(Integer.MAX_VALUE);
@@ -73,9 +81,14 @@ public class MinerLogic {
     private int pipeLength = 0;
     private int currentRadius;
     private boolean isDone;
+    // the ore vein index is checked once per mining area, before its first layer
+    private boolean checkedOreVeinIndex;
     private boolean isActive = false;
     private boolean isWorkingEnabled = true;
     protected boolean wasActiveAndNeedsUpdate;
+    private boolean mineDeferred;
+    /** The last tick of the {@link MiningBudget} this miner was counted in */
+    long budgetTick = -1;
 
     private final IBlockState oreReplacementBlock = findMiningReplacementBlock();
 
@@ -165,30 +178,51 @@ public class MinerLogic {
             incrementPipeLength();
         }
 
+        MiningBudget budget = getMiningBudget();
+        if (budget != null) {
+            budget.register(this);
+        }
+
         // check if the miner needs new blocks to mine and get them if needed
         checkBlocksToMine();
 
         // if there are blocks to mine and the correct amount of time has passed, do the mining
-        if (metaTileEntity.getOffsetTimer() % this.speed == 0 && !blocksToMine.isEmpty()) {
+        boolean shouldMine = (metaTileEntity.getOffsetTimer() % this.speed == 0 || mineDeferred) &&
+                !blocksToMine.isEmpty();
+        if (shouldMine && budget != null && !budget.canMine(mineDeferred)) {
+            // the budget is spent, so mine on the next tick, when it can no longer refuse
+            mineDeferred = true;
+            shouldMine = false;
+        } else {
+            mineDeferred = false;
+        }
+
+        if (shouldMine) {
+            long startTime = System.nanoTime();
             NonNullList<ItemStack> blockDrops = NonNullList.create();
-            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+            BlockPos blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blockToMine);
 
             // check to make sure the ore is still there,
             while (!GTUtility.isOre(GTUtility.toItem(blockState))) {
-                blocksToMine.removeFirst();
+                blocksToMine.dequeueLong();
                 if (blocksToMine.isEmpty()) break;
-                blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+                blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+                blockState = metaTileEntity.getWorld().getBlockState(blockToMine);
             }
             // When we are here we have an ore to mine! I'm glad we aren't threaded
             if (!blocksToMine.isEmpty() && GTUtility.isOre(GTUtility.toItem(blockState))) {
                 // get the small ore drops, if a small ore
-                getSmallOreBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getSmallOreBlockDrops(blockDrops, world, blockToMine, blockState);
                 // get the block's drops.
-                getRegularBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getRegularBlockDrops(blockDrops, world, blockToMine, blockState);
                 // try to insert them
                 mineAndInsertItems(blockDrops, world);
             }
 
+            if (budget != null) {
+                budget.onMined(System.nanoTime() - startTime);
+            }
         }
 
         if (blocksToMine.isEmpty()) {
@@ -198,7 +232,7 @@ public class MinerLogic {
             z.set(mineZ.get());
 
             // attempt to get more blocks to mine, if there are none, the miner is done mining
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
             if (blocksToMine.isEmpty()) {
                 this.isDone = true;
                 this.wasActiveAndNeedsUpdate = true;
@@ -286,11 +320,11 @@ public class MinerLogic {
         // remove the ore block's position from the mining queue
         if (GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), true, blockDrops)) {
             GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), false, blockDrops);
-            world.setBlockState(blocksToMine.getFirst(), oreReplacementBlock);
-            mineX.set(blocksToMine.getFirst().getX());
-            mineZ.set(blocksToMine.getFirst().getZ());
-            mineY.set(blocksToMine.getFirst().getY());
-            blocksToMine.removeFirst();
+            BlockPos blockToMine = BlockPos.fromLong(blocksToMine.dequeueLong());
+            world.setBlockState(blockToMine, oreReplacementBlock);
+            mineX.set(blockToMine.getX());
+            mineZ.set(blockToMine.getZ());
+            mineY.set(blockToMine.getY());
             onMineOperation();
 
             // if the inventory was previously considered full, mark it as not since an item was able to fit
@@ -309,6 +343,7 @@ public class MinerLogic {
      * @param currentRadius the currently set mining radius
      */
     public void initPos(@NotNull BlockPos pos, int currentRadius) {
+        checkedOreVeinIndex = false;
         x.set(pos.getX() - currentRadius);
         z.set(pos.getZ() - currentRadius);
         y.set(pos.getY() - 1);
@@ -339,7 +374,7 @@ public class MinerLogic {
      */
     public void checkBlocksToMine() {
         if (blocksToMine.isEmpty())
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
     }
 
     /**
@@ -355,20 +390,43 @@ public class MinerLogic {
     }
 
     /**
-     * Gets the blocks to mine
-     *
-     * @return a {@link LinkedList} of {@link BlockPos} for each ore to mine
+     * Finds the next blocks to mine, and adds them to the queue of blocks to mine
      */
-    private LinkedList<BlockPos> getBlocksToMine() {
-        LinkedList<BlockPos> blocks = new LinkedList<>();
-
+    private void findBlocksToMine() {
         // determine how many blocks to retrieve this time
-        double quotient = getQuotient(getMeanTickTime(metaTileEntity.getWorld()));
-        int calcAmount = quotient < 1 ? 1 : (int) (Math.min(quotient, Short.MAX_VALUE));
+        MiningBudget budget = getMiningBudget();
+        int calcAmount;
+        if (budget != null) {
+            calcAmount = budget.getScanQuota();
+        } else {
+            double quotient = getQuotient(getMeanTickTime(metaTileEntity.getWorld()));
+            calcAmount = quotient < 1 ? 1 : (int) (Math.min(quotient, Short.MAX_VALUE));
+        }
+
+        long startTime = System.nanoTime();
+        if (ConfigHolder.performance.oreVeinIndexLookups && !checkedOreVeinIndex) {
+            skipLayersAboveIndexedOres();
+        }
+        int steps = ConfigHolder.performance.sectionOreScanning ? findBlocksToMineBySection(calcAmount) :
+                findBlocksToMineByBlock(calcAmount);
+        if (budget != null) {
+            budget.onScanned(steps, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Finds the next blocks to mine a block at a time
+     *
+     * @param calcAmount the amount of blocks to check after the first block was found
+     * @return the amount of steps taken
+     */
+    private int findBlocksToMineByBlock(int calcAmount) {
         int calculated = 0;
+        int steps = 0;
 
         // keep getting blocks until the target amount is reached
         while (calculated < calcAmount) {
+            steps++;
             // moving down the y-axis
             if (y.get() > 0) {
                 // moving across the z-axis
@@ -380,7 +438,7 @@ public class MinerLogic {
                         if (state.getBlock().blockHardness >= 0 &&
                                 metaTileEntity.getWorld().getTileEntity(blockPos) == null &&
                                 GTUtility.isOre(GTUtility.toItem(state))) {
-                            blocks.addLast(blockPos);
+                            blocksToMine.enqueue(blockPos.toLong());
                         }
                         // move to the next x position
                         x.incrementAndGet();
@@ -395,13 +453,126 @@ public class MinerLogic {
                     y.decrementAndGet();
                 }
             } else
-                return blocks;
+                return steps;
 
             // only count iterations where blocks were found
-            if (!blocks.isEmpty())
+            if (!blocksToMine.isEmpty())
                 calculated++;
         }
-        return blocks;
+        return steps;
+    }
+
+    /**
+     * Finds the next blocks to mine like {@link #findBlocksToMineByBlock(int)}, but a chunk section row at a time,
+     * skipping sections and whole layers of sections without any ores in their palette.
+     *
+     * @param calcAmount the amount of section rows to check after the first block was found
+     * @return the amount of steps taken
+     */
+    private int findBlocksToMineBySection(int calcAmount) {
+        World world = metaTileEntity.getWorld();
+        int endX = startX.get() + currentRadius * 2;
+        int endZ = startZ.get() + currentRadius * 2;
+        int calculated = 0;
+        int steps = 0;
+
+        while (calculated < calcAmount) {
+            int blockY = y.get();
+            if (blockY <= 0) return steps;
+            steps++;
+
+            if (z.get() > endZ) {
+                // reset z and move to the next y layer
+                z.set(startZ.get());
+                y.decrementAndGet();
+            } else if (x.get() > endX) {
+                // reset x and move to the next z layer
+                x.set(startX.get());
+                z.incrementAndGet();
+            } else if (x.get() == startX.get() && z.get() == startZ.get() && !layerMayContainOres(world, endX, endZ)) {
+                // move below the sections of this layer
+                y.set((blockY & ~15) - 1);
+            } else {
+                int blockX = x.get();
+                int blockZ = z.get();
+                int rowEndX = Math.min(blockX | 15, endX);
+                if (sectionMayContainOres(world, blockX >> 4, blockZ >> 4)) {
+                    ExtendedBlockStorage storage = world.getChunk(blockX >> 4, blockZ >> 4)
+                            .getBlockStorageArray()[blockY >> 4];
+                    for (int posX = blockX; posX <= rowEndX; posX++) {
+                        IBlockState state = storage.get(posX & 15, blockY & 15, blockZ & 15);
+                        if (!OreBlockStates.isOre(state) || state.getBlock().blockHardness < 0) continue;
+
+                        BlockPos blockPos = new BlockPos(posX, blockY, blockZ);
+                        if (world.getTileEntity(blockPos) == null) {
+                            blocksToMine.enqueue(blockPos.toLong());
+                        }
+                    }
+                }
+                // move to the next section along the x-axis
+                x.set(rowEndX + 1);
+            }
+
+            // only count iterations where blocks were found
+            if (!blocksToMine.isEmpty())
+                calculated++;
+        }
+        return steps;
+    }
+
+    /**
+     * Moves down to the highest ore in the mining area, if the whole area is in the {@link OreVeinIndex} and the
+     * current layer has not been started yet.
+     */
+    private void skipLayersAboveIndexedOres() {
+        if (x.get() != startX.get() || z.get() != startZ.get()) return;
+        checkedOreVeinIndex = true;
+        int highestOre = OreVeinIndex.get(metaTileEntity.getWorld()).getHighestOre(startX.get() >> 4,
+                startZ.get() >> 4, (startX.get() + currentRadius * 2) >> 4, (startZ.get() + currentRadius * 2) >> 4);
+        if (highestOre != Integer.MIN_VALUE && highestOre < y.get()) {
+            // nothing is left to mine once no indexed ore is above the bottom layer
+            y.set(Math.max(highestOre, 0));
+        }
+    }
+
+    /**
+     * @return if any section at the current y layer in the mining area may contain ores
+     */
+    private boolean layerMayContainOres(@NotNull World world, int endX, int endZ) {
+        for (int chunkX = startX.get() >> 4; chunkX <= endX >> 4; chunkX++) {
+            for (int chunkZ = startZ.get() >> 4; chunkZ <= endZ >> 4; chunkZ++) {
+                if (sectionMayContainOres(world, chunkX, chunkZ)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return if the section of a chunk at the current y layer may contain ores
+     */
+    private boolean sectionMayContainOres(@NotNull World world, int chunkX, int chunkZ) {
+        int sectionY = y.get() >> 4;
+        if (sectionY != scannedSectionY) {
+            sectionsWithOres.clear();
+            scannedSectionY = sectionY;
+        }
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        if (sectionsWithOres.containsKey(key)) {
+            return sectionsWithOres.get(key);
+        }
+        boolean mayContainOres = OreBlockStates.mayContainOres(
+                world.getChunk(chunkX, chunkZ).getBlockStorageArray()[sectionY]);
+        sectionsWithOres.put(key, mayContainOres);
+        return mayContainOres;
+    }
+
+    /**
+     * @return the mining budget of the miner's world, or {@code null} if miners pick their own amount of work
+     */
+    @Nullable
+    private MiningBudget getMiningBudget() {
+        if (ConfigHolder.performance.minerTickBudget <= 0) return null;
+        return MiningBudget.get(metaTileEntity.getWorld());
     }
 
     /**
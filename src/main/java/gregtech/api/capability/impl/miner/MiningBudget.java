@@ -0,0 +1,214 @@
+package gregtech.api.capability.impl.miner;
+
+import gregtech.api.GTValues;
+import gregtech.common.ConfigHolder;
+
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shares {@link ConfigHolder.PerformanceOptions#minerTickBudget} between all the {@link MinerLogic}s of a world.
+ * <p>
+ * Each tick, miners are given a share of what is left of the budget, split between the miners which have not
+ * ticked yet. The costs of a step looking for blocks and of mining a block are measured as the miners work. A miner
+ * which was not allowed to mine a block is always allowed on its next tick, so no miner is starved by the ones
+ * ticking before it.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public final class MiningBudget {
+
+    /** The weight of the last measurement in the estimated costs */
+    private static final double COST_SMOOTHING = 0.1;
+
+    private static final Map<World, MiningBudget> budgetsPerWorld = new HashMap<>();
+
+    private static long ticks;
+    private static long ticksOverBudget;
+    private static long scanSteps;
+    private static long scanNanos;
+    private static long blocksMined;
+    private static long mineNanos;
+    private static long minesDeferred;
+
+    private final World world;
+    private long tick;
+    private long budgetNanos;
+    private long spentNanos;
+    private int minersLastTick;
+    private int minersThisTick;
+    private double nanosPerScan = 1_000;
+    private double nanosPerMine = 50_000;
+
+    private MiningBudget(@NotNull World world) {
+        this.world = world;
+        this.budgetNanos = (long) (ConfigHolder.performance.minerTickBudget * 1_000_000);
+    }
+
+    /**
+     * @param world the world
+     * @return the budget of the world
+     */
+    @NotNull
+    public static MiningBudget get(@NotNull World world) {
+        return budgetsPerWorld.computeIfAbsent(world, MiningBudget::new);
+    }
+
+    /**
+     * Counts a miner as working this tick. Must be called every tick a miner works, before asking for quotas.
+     *
+     * @param miner the miner
+     */
+    public void register(@NotNull MinerLogic miner) {
+        if (miner.budgetTick != tick) {
+            miner.budgetTick = tick;
+            minersThisTick++;
+        }
+    }
+
+    /**
+     * @return how many more steps a miner may take looking for blocks to mine this tick, after it found its first block
+     */
+    public int getScanQuota() {
+        long remaining = budgetNanos - spentNanos;
+        if (remaining <= 0) return 1;
+
+        int minersLeft = Math.max(1, minersLastTick - minersThisTick + 1);
+        double quota = remaining / (double) minersLeft / nanosPerScan;
+        return (int) Math.max(1, Math.min(quota, Short.MAX_VALUE));
+    }
+
+    /**
+     * @param steps the amount of steps a miner took looking for blocks to mine
+     * @param nanos the time it took
+     */
+    public void onScanned(int steps, long nanos) {
+        spentNanos += nanos;
+        scanSteps += steps;
+        scanNanos += nanos;
+        if (steps > 0) {
+            nanosPerScan += (nanos / (double) steps - nanosPerScan) * COST_SMOOTHING;
+        }
+    }
+
+    /**
+     * @param deferred if the miner was not allowed to mine on its last tick
+     * @return if a miner may mine a block this tick
+     */
+    public boolean canMine(boolean deferred) {
+        if (deferred || spentNanos + nanosPerMine <= budgetNanos) return true;
+        minesDeferred++;
+        return false;
+    }
+
+    /**
+     * @param nanos the time it took to mine a block
+     */
+    public void onMined(long nanos) {
+        spentNanos += nanos;
+        blocksMined++;
+        mineNanos += nanos;
+        nanosPerMine += (nanos - nanosPerMine) * COST_SMOOTHING;
+    }
+
+    private void startTick() {
+        if (spentNanos > budgetNanos) {
+            ticksOverBudget++;
+        }
+        ticks++;
+        tick++;
+        budgetNanos = (long) (ConfigHolder.performance.minerTickBudget * 1_000_000);
+        spentNanos = 0;
+        minersLastTick = minersThisTick;
+        minersThisTick = 0;
+    }
+
+    @NotNull
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * @return the amount of miners which worked on the last tick
+     */
+    public int getMinersLastTick() {
+        return minersLastTick;
+    }
+
+    public double getNanosPerScan() {
+        return nanosPerScan;
+    }
+
+    public double getNanosPerMine() {
+        return nanosPerMine;
+    }
+
+    @NotNull
+    public static Collection<MiningBudget> getAllBudgets() {
+        return Collections.unmodifiableCollection(budgetsPerWorld.values());
+    }
+
+    public static long getTicks() {
+        return ticks;
+    }
+
+    public static long getTicksOverBudget() {
+        return ticksOverBudget;
+    }
+
+    public static long getScanSteps() {
+        return scanSteps;
+    }
+
+    public static long getScanNanos() {
+        return scanNanos;
+    }
+
+    public static long getBlocksMined() {
+        return blocksMined;
+    }
+
+    public static long getMineNanos() {
+        return mineNanos;
+    }
+
+    public static long getMinesDeferred() {
+        return minesDeferred;
+    }
+
+    public static void resetStats() {
+        ticks = 0;
+        ticksOverBudget = 0;
+        scanSteps = 0;
+        scanNanos = 0;
+        blocksMined = 0;
+        mineNanos = 0;
+        minesDeferred = 0;
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.START && !event.world.isRemote) {
+            MiningBudget budget = budgetsPerWorld.get(event.world);
+            if (budget != null) {
+                budget.startTick();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            budgetsPerWorld.remove(event.getWorld());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package gregtech.api.capability.impl.miner;
+
+import gregtech.api.GTValues;
+import gregtech.api.util.GTUtility;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.chunk.BlockStatePaletteRegistry;
+import net.minecraft.world.chunk.IBlockStatePalette;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.oredict.OreDictionary.OreRegisterEvent;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * Which block states are ores, by {@link Block#getStateId(IBlockState)}, as determined by
+ * {@link GTUtility#isOre(net.minecraft.item.ItemStack)}.
+ * <p>
+ * The states are computed on first use, and again after a new item is registered to the ore dictionary.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public final class OreBlockStates {
+
+    /** The most palette entries of a section to look at, before assuming it may contain ores */
+    private static final int MAX_PALETTE_SIZE = 256;
+
+    private static BitSet oreStates;
+
+    private OreBlockStates() {}
+
+    /**
+     * @param state the state to check
+     * @return if the state is an ore
+     */
+    public static boolean isOre(@NotNull IBlockState state) {
+        return getOreStates().get(Block.getStateId(state));
+    }
+
+    /**
+     * Checks the palette of a section, without looking at its blocks.
+     *
+     * @param storage the section to check
+     * @return if the section may contain ores
+     */
+    public static boolean mayContainOres(@Nullable ExtendedBlockStorage storage) {
+        if (storage == null || storage.isEmpty()) return false;
+
+        IBlockStatePalette palette = storage.getData().palette;
+        if (palette instanceof BlockStatePaletteRegistry) return true;
+
+        BitSet oreStates = getOreStates();
+        for (int i = 0; i < MAX_PALETTE_SIZE; i++) {
+            IBlockState state = palette.getBlockState(i);
+            if (state == null) return false;
+            if (oreStates.get(Block.getStateId(state))) return true;
+        }
+        return true;
+    }
+
+    @NotNull
+    private static BitSet getOreStates() {
+        BitSet oreStates = OreBlockStates.oreStates;
+        if (oreStates == null) {
+            oreStates = new BitSet();
+            for (Block block : Block.REGISTRY) {
+                for (IBlockState state : block.getBlockState().getValidStates()) {
+                    if (GTUtility.isOre(GTUtility.toItem(state))) {
+                        oreStates.set(Block.getStateId(state));
+                    }
+                }
+            }
+            OreBlockStates.oreStates = oreStates;
+        }
+        return oreStates;
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onOreRegistration(OreRegisterEvent event) {
+        oreStates = null;
+    }
+}
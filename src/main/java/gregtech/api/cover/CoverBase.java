@@ -19,6 +19,7 @@ import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Cuboid6;
 import codechicken.lib.vec.Matrix4;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +29,9 @@ public abstract class CoverBase implements Cover {
     private final CoverDefinition definition;
     private final CoverableView coverableView;
     private final EnumFacing attachedSide;
+    /** The entry of this cover in its world's {@link CoverTickScheduler}, if it is a scheduled cover */
+    @Nullable
+    CoverTickScheduler.Entry scheduleEntry;
 
     public CoverBase(@NotNull CoverDefinition definition, @NotNull CoverableView coverableView,
                      @NotNull EnumFacing attachedSide) {
@@ -86,7 +86,7 @@ public interface CoverHolder extends CoverableView {
         for (EnumFacing facing : EnumFacing.VALUES) {
             Cover cover = getCoverAtSide(facing);
             if (cover instanceof ITickable tickable) {
-                tickable.update();
+                CoverTickScheduler.onHolderTick(cover, tickable);
             }
         }
     }
@@ -0,0 +1,329 @@
+package gregtech.api.cover;
+
+import gregtech.api.GTValues;
+import gregtech.common.ConfigHolder;
+
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.ITickable;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Updates {@link ScheduledCover}s at the end of the tick, only on the ticks they do work on.
+ * <p>
+ * Covers are kept in a timing wheel, with one bucket for each tick they can be due on. Every time a cover accomplishes
+ * nothing its delay is doubled, up to {@link ConfigHolder.PerformanceOptions#coverTickBackoffCeiling}. Covers are
+ * woken when their holder's inventories or energy change, or the block they face changes.
+ * <p>
+ * Holders still report every tick they would have updated a scheduled cover, and covers whose holder did not tick
+ * are dropped from the wheel, so covers are never updated while their holder is not.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class CoverTickScheduler {
+
+    /** The amount of buckets in the wheel, which must be larger than the longest delay */
+    private static final int WHEEL_SIZE = 2048;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    /** The longest period or delay, in ticks */
+    private static final int MAX_DELAY = 1200;
+    /** The most times the delay of a cover is doubled */
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private static final Map<World, CoverTickScheduler> schedulersPerWorld = new HashMap<>();
+
+    private static final Object2LongOpenHashMap<String> updatesByType = new Object2LongOpenHashMap<>();
+    private static final Object2LongOpenHashMap<String> nanosByType = new Object2LongOpenHashMap<>();
+    private static long holderTicks;
+    private static long scheduledUpdates;
+
+    private final World world;
+    @SuppressWarnings("unchecked")
+    private final List<Entry>[] wheel = new List[WHEEL_SIZE];
+    private int scheduledCovers;
+
+    private CoverTickScheduler(@NotNull World world) {
+        this.world = world;
+    }
+
+    /**
+     * Updates a ticking cover for its holder, or lets the scheduler update it if it is a {@link ScheduledCover}.
+     * Must be called by holders every tick, for each of their ticking covers.
+     *
+     * @param cover    the cover
+     * @param tickable the cover, as a tickable
+     */
+    public static void onHolderTick(@NotNull Cover cover, @NotNull ITickable tickable) {
+        if (!ConfigHolder.performance.coverTickScheduler) {
+            tickable.update();
+            return;
+        }
+        if (cover instanceof ScheduledCover scheduledCover && cover instanceof CoverBase coverBase) {
+            Entry entry = coverBase.scheduleEntry;
+            if (entry == null || entry.removed) {
+                CoverTickScheduler scheduler = schedulersPerWorld.get(cover.getWorld());
+                if (scheduler != null) {
+                    entry = scheduler.add(scheduledCover);
+                    coverBase.scheduleEntry = entry;
+                }
+            }
+            if (entry != null) {
+                entry.lastHolderTick = entry.scheduler.world.getTotalWorldTime();
+                holderTicks++;
+                return;
+            }
+        }
+        long start = System.nanoTime();
+        tickable.update();
+        recordUpdate(cover, System.nanoTime() - start);
+    }
+
+    /**
+     * Wakes a scheduled cover which has been accomplishing nothing, so it is updated on its next tick again.
+     *
+     * @param cover the cover
+     */
+    public static void wakeCover(@Nullable Cover cover) {
+        if (cover instanceof CoverBase coverBase) {
+            Entry entry = coverBase.scheduleEntry;
+            if (entry != null && !entry.removed && entry.idleUpdates > 0) {
+                entry.idleUpdates = 0;
+                entry.scheduler.wake(entry);
+            }
+        }
+    }
+
+    /**
+     * Wakes all scheduled covers of a holder which have been accomplishing nothing.
+     *
+     * @param holder the holder
+     */
+    public static void wakeCovers(@NotNull CoverHolder holder) {
+        if (!ConfigHolder.performance.coverTickScheduler) return;
+        for (EnumFacing side : EnumFacing.VALUES) {
+            wakeCover(holder.getCoverAtSide(side));
+        }
+    }
+
+    @NotNull
+    private Entry add(@NotNull ScheduledCover cover) {
+        Entry entry = new Entry(this, cover, Math.max(1, Math.min(cover.getTickPeriod(), MAX_DELAY)));
+        // the holder skipped updating the cover this tick, so it may be due right away
+        schedule(entry, world.getTotalWorldTime() + getTicksUntilDue(entry, 0));
+        scheduledCovers++;
+        return entry;
+    }
+
+    private void wake(@NotNull Entry entry) {
+        // this tick's bucket may already have been updated
+        long due = world.getTotalWorldTime() + 1 + getTicksUntilDue(entry, 1);
+        if (due < entry.dueTick) {
+            schedule(entry, due);
+        }
+    }
+
+    private void schedule(@NotNull Entry entry, long due) {
+        entry.dueTick = due;
+        int index = (int) (due & WHEEL_MASK);
+        List<Entry> bucket = wheel[index];
+        if (bucket == null) {
+            bucket = new ObjectArrayList<>();
+            wheel[index] = bucket;
+        }
+        // a woken entry is also left in its old bucket, and skipped there as it is no longer due then
+        bucket.add(entry);
+    }
+
+    /**
+     * @return the amount of ticks from the given tick until the offset timer of the cover is a multiple of its period
+     */
+    private static int getTicksUntilDue(@NotNull Entry entry, int ticksAhead) {
+        int remainder = (int) Math.floorMod(entry.cover.getOffsetTimer() + ticksAhead, (long) entry.period);
+        return remainder == 0 ? 0 : entry.period - remainder;
+    }
+
+    private static int getDelay(@NotNull Entry entry) {
+        int period = entry.period;
+        if (entry.idleUpdates == 0) return period;
+        int ceiling = Math.max(period, ConfigHolder.performance.coverTickBackoffCeiling / period * period);
+        long delay = (long) period << Math.min(entry.idleUpdates, MAX_BACKOFF_SHIFT);
+        return (int) Math.min(delay, Math.min(ceiling, MAX_DELAY));
+    }
+
+    private void update() {
+        long now = world.getTotalWorldTime();
+        List<Entry> bucket = wheel[(int) (now & WHEEL_MASK)];
+        if (bucket == null || bucket.isEmpty()) return;
+        // every delay is shorter than the wheel, so updates never schedule entries into this bucket
+        for (int i = 0; i < bucket.size(); i++) {
+            Entry entry = bucket.get(i);
+            if (entry.removed || entry.dueTick != now) continue;
+            if (entry.lastHolderTick != now) {
+                // the cover was removed, or its holder stopped ticking
+                entry.removed = true;
+                scheduledCovers--;
+                continue;
+            }
+
+            ScheduledCover cover = entry.cover;
+            long start = System.nanoTime();
+            boolean accomplished = cover.updateScheduled();
+            recordUpdate(cover, System.nanoTime() - start);
+            scheduledUpdates++;
+
+            entry.idleUpdates = accomplished ? 0 : entry.idleUpdates + 1;
+            schedule(entry, now + getDelay(entry));
+        }
+        bucket.clear();
+    }
+
+    private void clear() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            List<Entry> bucket = wheel[i];
+            if (bucket == null) continue;
+            for (Entry entry : bucket) {
+                entry.removed = true;
+            }
+            wheel[i] = null;
+        }
+        scheduledCovers = 0;
+    }
+
+    private static void recordUpdate(@NotNull Cover cover, long nanos) {
+        String type = cover.getDefinition().getResourceLocation().toString();
+        updatesByType.addTo(type, 1);
+        nanosByType.addTo(type, nanos);
+    }
+
+    /**
+     * @return the amount of covers in the scheduler
+     */
+    public int getScheduledCovers() {
+        return scheduledCovers;
+    }
+
+    /**
+     * @return the amount of covers in the scheduler which are waiting longer than their period
+     */
+    public int getBackedOffCovers() {
+        int backedOff = 0;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            List<Entry> bucket = wheel[i];
+            if (bucket == null) continue;
+            for (Entry entry : bucket) {
+                if (!entry.removed && entry.idleUpdates > 0 && (entry.dueTick & WHEEL_MASK) == i) {
+                    backedOff++;
+                }
+            }
+        }
+        return backedOff;
+    }
+
+    @NotNull
+    public static Collection<CoverTickScheduler> getAllSchedulers() {
+        return Collections.unmodifiableCollection(schedulersPerWorld.values());
+    }
+
+    /**
+     * @return the amount of ticks holders left updating a scheduled cover to the scheduler
+     */
+    public static long getHolderTicks() {
+        return holderTicks;
+    }
+
+    /**
+     * @return the amount of updates done by the scheduler
+     */
+    public static long getScheduledUpdates() {
+        return scheduledUpdates;
+    }
+
+    /**
+     * @return the amount of cover updates while the scheduler is enabled, by cover definition
+     */
+    @NotNull
+    public static Object2LongMap<String> getUpdatesByType() {
+        return Object2LongMaps.unmodifiable(updatesByType);
+    }
+
+    /**
+     * @return the nanoseconds spent in cover updates while the scheduler is enabled, by cover definition
+     */
+    @NotNull
+    public static Object2LongMap<String> getNanosByType() {
+        return Object2LongMaps.unmodifiable(nanosByType);
+    }
+
+    public static void resetStats() {
+        updatesByType.clear();
+        nanosByType.clear();
+        holderTicks = 0;
+        scheduledUpdates = 0;
+    }
+
+    // runs before tile entity updates are sent at the end of the tick, so cover updates are sent right away
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public static void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote) {
+            CoverTickScheduler scheduler = schedulersPerWorld.get(event.world);
+            if (scheduler == null) return;
+            if (ConfigHolder.performance.coverTickScheduler) {
+                scheduler.update();
+            } else if (scheduler.scheduledCovers > 0) {
+                scheduler.clear();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            schedulersPerWorld.put(world, new CoverTickScheduler(world));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            CoverTickScheduler scheduler = schedulersPerWorld.remove(world);
+            if (scheduler != null) {
+                scheduler.clear();
+            }
+        }
+    }
+
+    static final class Entry {
+
+        private final CoverTickScheduler scheduler;
+        private final ScheduledCover cover;
+        private final int period;
+        private long dueTick;
+        private long lastHolderTick = Long.MIN_VALUE;
+        private int idleUpdates;
+        private boolean removed;
+
+        private Entry(@NotNull CoverTickScheduler scheduler, @NotNull ScheduledCover cover, int period) {
+            this.scheduler = scheduler;
+            this.cover = cover;
+            this.period = period;
+        }
+    }
+}
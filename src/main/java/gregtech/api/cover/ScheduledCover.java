@@ -0,0 +1,31 @@
+package gregtech.api.cover;
+
+import net.minecraft.util.ITickable;
+
+/**
+ * A ticking cover which only does work on the ticks where its {@link #getOffsetTimer() offset timer} is a multiple of
+ * its tick period.
+ * <p>
+ * When the cover tick scheduler is enabled, scheduled covers extending {@link CoverBase} are updated only on those
+ * ticks by {@link CoverTickScheduler}, instead of every tick by their holder.
+ */
+public interface ScheduledCover extends Cover, ITickable {
+
+    /**
+     * @return the amount of ticks between the ticks this cover does work on
+     */
+    int getTickPeriod();
+
+    /**
+     * Updates the cover on a tick where its offset timer is a multiple of its tick period.
+     * <p>
+     * Covers which accomplished nothing are updated less often, until they are woken by a change to their holder.
+     * Covers should only report that when their next update would most likely accomplish nothing either.
+     *
+     * @return if the update accomplished anything, such as moving items or changing a redstone output
+     */
+    default boolean updateScheduled() {
+        update();
+        return true;
+    }
+}
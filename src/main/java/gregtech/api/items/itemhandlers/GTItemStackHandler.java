@@ -1,14 +1,16 @@
 package gregtech.api.items.itemhandlers;
 
+import gregtech.api.capability.IVersionedHandler;
 import gregtech.api.metatileentity.MetaTileEntity;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.items.ItemStackHandler;
 
-public class GTItemStackHandler extends ItemStackHandler {
+public class GTItemStackHandler extends ItemStackHandler implements IVersionedHandler {
 
     final private MetaTileEntity metaTileEntity;
+    private long contentsVersion;
 
     public GTItemStackHandler(MetaTileEntity metaTileEntity) {
         super();
@@ -28,6 +30,12 @@ public class GTItemStackHandler extends ItemStackHandler {
     @Override
     public void onContentsChanged(int slot) {
         super.onContentsChanged(slot);
+        this.contentsVersion++;
         metaTileEntity.markDirty();
     }
+
+    @Override
+    public long getContentsVersion() {
+        return contentsVersion;
+    }
 }
@@ -0,0 +1,95 @@
+package gregtech.api.metatileentity;
+
+import gregtech.api.GTValues;
+import gregtech.api.GregTechAPI;
+import gregtech.api.network.InitialSyncBatch;
+import gregtech.common.ConfigHolder;
+import gregtech.core.network.packets.PacketInitialSyncBatch;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkWatchEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Sends the initial sync data of the {@link SyncedTileEntityBase}s in a chunk as one {@link InitialSyncBatch}, right
+ * after the chunk itself was sent to a player.
+ * <p>
+ * The chunk data packet is shared by all players it is sent to in a tick, and so is the encoded batch.
+ * <p>
+ * Only chunk packets followed by a {@link ChunkWatchEvent.Watch} leave the data out of the tile entity tags. Chunk
+ * packets sent for many block changes at once are not followed by the event, and keep the data inline.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class InitialSyncBatcher {
+
+    private static final Map<Chunk, ByteBuf> batchesThisTick = new Reference2ObjectOpenHashMap<>();
+
+    private static boolean buildingWatchedChunk;
+
+    private InitialSyncBatcher() {}
+
+    /**
+     * @return if the packet of a chunk being sent to players watching it for the first time is being built
+     */
+    public static boolean isBuildingWatchedChunk() {
+        return buildingWatchedChunk;
+    }
+
+    /**
+     * Called around building the packet of a chunk which is followed by a {@link ChunkWatchEvent.Watch}.
+     *
+     * @param building if the packet is being built
+     */
+    @ApiStatus.Internal
+    public static void setBuildingWatchedChunk(boolean building) {
+        buildingWatchedChunk = building && ConfigHolder.performance.batchedInitialSync;
+    }
+
+    @SubscribeEvent
+    public static void onChunkWatch(ChunkWatchEvent.Watch event) {
+        if (!ConfigHolder.performance.batchedInitialSync) return;
+        ChunkPos chunkPos = event.getChunk();
+        Chunk chunk = event.getPlayer().getServerWorld().getChunk(chunkPos.x, chunkPos.z);
+        ByteBuf batch = batchesThisTick.computeIfAbsent(chunk, InitialSyncBatcher::encode);
+        if (batch.isReadable()) {
+            GregTechAPI.networkHandler.sendTo(new PacketInitialSyncBatch(chunkPos.x, chunkPos.z, batch),
+                    event.getPlayer());
+        }
+    }
+
+    @NotNull
+    private static ByteBuf encode(@NotNull Chunk chunk) {
+        InitialSyncBatch batch = new InitialSyncBatch();
+        for (TileEntity tileEntity : chunk.getTileEntityMap().values()) {
+            if (tileEntity instanceof SyncedTileEntityBase syncedTileEntity && !tileEntity.isInvalid()) {
+                BlockPos pos = tileEntity.getPos();
+                batch.add(pos.getX(), pos.getY(), pos.getZ(), syncedTileEntity.writeInitialSyncPayload());
+            }
+        }
+        if (batch.isEmpty()) return Unpooled.EMPTY_BUFFER;
+        ByteBuf buffer = Unpooled.buffer();
+        batch.write(new PacketBuffer(buffer));
+        return buffer;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.END) {
+            batchesThisTick.clear();
+        }
+    }
+}
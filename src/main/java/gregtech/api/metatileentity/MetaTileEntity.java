@@ -17,6 +17,7 @@ import gregtech.api.cover.Cover;
 import gregtech.api.cover.CoverHolder;
 import gregtech.api.cover.CoverRayTracer;
 import gregtech.api.cover.CoverSaveHandler;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.CoverUtil;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.items.itemhandlers.GTItemStackHandler;
@@ -394,6 +395,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
     }
 
     public <T> void addNotifiedInput(T input) {
+        CoverTickScheduler.wakeCovers(this);
         if (input instanceof IItemHandlerModifiable) {
             if (!notifiedItemInputList.contains(input)) {
                 this.notifiedItemInputList.add((IItemHandlerModifiable) input);
@@ -406,6 +408,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
     }
 
     public <T> void addNotifiedOutput(T output) {
+        CoverTickScheduler.wakeCovers(this);
         if (output instanceof IItemHandlerModifiable) {
             if (!notifiedItemOutputList.contains(output)) {
                 this.notifiedItemOutputList.add((IItemHandlerModifiable) output);
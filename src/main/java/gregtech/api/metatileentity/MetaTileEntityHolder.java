@@ -6,6 +6,7 @@ import gregtech.api.capability.GregtechDataCodes;
 import gregtech.api.cover.Cover;
 import gregtech.api.gui.IUIHolder;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
+import gregtech.api.metatileentity.multiblock.MultiblockStructureIndex;
 import gregtech.api.metatileentity.registry.MTERegistry;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.Mods;
@@ -107,6 +108,7 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
             this.needToUpdateLightning = true;
             world.neighborChanged(getPos(), getBlockType(), getPos());
             markDirty();
+            MultiblockStructureIndex.onTileEntityChanged(world, getPos());
         }
         return metaTileEntity;
     }
@@ -178,6 +180,9 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
             metaTileEntity.invalidate();
         }
         super.invalidate();
+        if (hasWorld() && !world.isRemote) {
+            MultiblockStructureIndex.onTileEntityChanged(world, getPos());
+        }
         if (Mods.AppliedEnergistics2.isModLoaded()) {
             invalidateAE();
         }
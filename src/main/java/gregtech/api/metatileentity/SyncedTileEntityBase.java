@@ -1,10 +1,12 @@
 package gregtech.api.metatileentity;
 
 import gregtech.api.block.BlockStateTileEntity;
+import gregtech.api.capability.GregtechDataCodes;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.metatileentity.interfaces.ISyncedTileEntity;
 import gregtech.api.network.PacketDataList;
 import gregtech.api.util.GTLog;
+import gregtech.common.ConfigHolder;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTBase;
@@ -19,6 +21,7 @@ import net.minecraftforge.common.util.Constants;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,18 +32,38 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity implemen
 
     private final PacketDataList updates = new PacketDataList();
 
+    private long validatedTime;
+
     public @Nullable TileEntity getNeighbor(EnumFacing facing) {
         if (world == null || pos == null) return null;
         return world.getTileEntity(pos.offset(facing));
     }
 
+    @Override
+    public void validate() {
+        super.validate();
+        if (world != null) {
+            this.validatedTime = world.getTotalWorldTime();
+        }
+    }
+
     @Override
     public final void writeCustomData(int discriminator, @NotNull Consumer<@NotNull PacketBuffer> dataWriter) {
         ByteBuf backedBuffer = Unpooled.buffer();
         dataWriter.accept(new PacketBuffer(backedBuffer));
         byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
-        this.updates.add(discriminator, updateData);
-        notifyWorld();
+        if (isBatchingUpdates()) {
+            if (GregtechDataCodes.isStateId(discriminator)) {
+                // the data contains the whole state, so any earlier update of it is stale
+                this.updates.replace(discriminator, updateData);
+            } else {
+                this.updates.add(discriminator, updateData);
+            }
+            SyncedTileEntityBatcher.enqueue(this);
+        } else {
+            this.updates.add(discriminator, updateData);
+            notifyWorld();
+        }
     }
 
     /**
@@ -53,15 +76,42 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity implemen
         boolean wasEmpty = this.updates.isEmpty();
         this.updates.addAll(syncedTileEntityBase.updates);
         syncedTileEntityBase.updates.clear();
-        if (wasEmpty) notifyWorld(); // if the data is not empty we already notified the world
+        if (!wasEmpty) return; // if the data is not empty we already notified the world
+        if (isBatchingUpdates()) {
+            SyncedTileEntityBatcher.enqueue(this);
+        } else {
+            notifyWorld();
+        }
+    }
+
+    private boolean isBatchingUpdates() {
+        return ConfigHolder.performance.batchedTileEntitySync && !world.isRemote;
     }
 
-    private void notifyWorld() {
+    void notifyWorld() {
         @SuppressWarnings("deprecation")
         IBlockState blockState = getBlockType().getStateFromMeta(getBlockMetadata());
         world.notifyBlockUpdate(getPos(), blockState, blockState, 0);
     }
 
+    /**
+     * @return if the tile entity was added to the world long enough ago for its block to be on the client
+     */
+    boolean canSendBatchedUpdates() {
+        return world.getTotalWorldTime() - this.validatedTime > 1;
+    }
+
+    boolean hasPendingUpdates() {
+        return !this.updates.isEmpty();
+    }
+
+    /**
+     * Writes all pending data packets to a buffer, removing them from this tile entity.
+     */
+    void writePendingUpdates(@NotNull PacketBuffer buf) {
+        this.updates.dumpToBuffer(buf);
+    }
+
     @Override
     public final @Nullable SPacketUpdateTileEntity getUpdatePacket() {
         if (this.updates.isEmpty()) {
@@ -80,39 +130,74 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity implemen
             NBTTagCompound entryTag = (NBTTagCompound) entryBase;
             for (String discriminatorKey : entryTag.getKeySet()) {
                 ByteBuf backedBuffer = Unpooled.copiedBuffer(entryTag.getByteArray(discriminatorKey));
-                receiveCustomData(Integer.parseInt(discriminatorKey), new PacketBuffer(backedBuffer));
-                if (backedBuffer.readableBytes() != 0) {
-                    String className = null;
-                    if (this instanceof IGregTechTileEntity gtte) {
-                        MetaTileEntity mte = gtte.getMetaTileEntity();
-                        if (mte != null) className = mte.getClass().getName();
-                    }
-                    if (className == null) {
-                        className = this.getClass().getName();
-                    }
-                    GTLog.logger.error(
-                            "Class {} failed to finish reading receiveCustomData with discriminator {} and {} bytes remaining",
-                            className, discriminatorKey, backedBuffer.readableBytes());
-                }
+                receiveUpdate(Integer.parseInt(discriminatorKey), backedBuffer);
             }
         }
     }
 
+    /**
+     * Receives a single data packet, sent either with a vanilla tile entity update or in a batch.
+     *
+     * @param discriminator the discriminator of the data
+     * @param backedBuffer  the data
+     */
+    @ApiStatus.Internal
+    public final void receiveUpdate(int discriminator, @NotNull ByteBuf backedBuffer) {
+        receiveCustomData(discriminator, new PacketBuffer(backedBuffer));
+        if (backedBuffer.readableBytes() != 0) {
+            String className = null;
+            if (this instanceof IGregTechTileEntity gtte) {
+                MetaTileEntity mte = gtte.getMetaTileEntity();
+                if (mte != null) className = mte.getClass().getName();
+            }
+            if (className == null) {
+                className = this.getClass().getName();
+            }
+            GTLog.logger.error(
+                    "Class {} failed to finish reading receiveCustomData with discriminator {} and {} bytes remaining",
+                    className, discriminator, backedBuffer.readableBytes());
+        }
+    }
+
     @Override
     public final @NotNull NBTTagCompound getUpdateTag() {
         NBTTagCompound updateTag = super.getUpdateTag();
-        ByteBuf backedBuffer = Unpooled.buffer();
-        writeInitialSyncData(new PacketBuffer(backedBuffer));
-        byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
-        updateTag.setByteArray("d", updateData);
+        if (InitialSyncBatcher.isBuildingWatchedChunk()) {
+            // the data is sent with the rest of the chunk by the InitialSyncBatcher
+            updateTag.setBoolean("b", true);
+        } else {
+            updateTag.setByteArray("d", writeInitialSyncPayload());
+        }
         return updateTag;
     }
 
     @Override
     public final void handleUpdateTag(@NotNull NBTTagCompound tag) {
         super.readFromNBT(tag); // deserializes Forge data and capabilities
-        byte[] updateData = tag.getByteArray("d");
-        ByteBuf backedBuffer = Unpooled.copiedBuffer(updateData);
+        if (!tag.getBoolean("b")) {
+            receiveInitialSyncPayload(tag.getByteArray("d"));
+        }
+    }
+
+    /**
+     * @return the data written by {@link #writeInitialSyncData(PacketBuffer)}
+     */
+    @ApiStatus.Internal
+    public final byte @NotNull [] writeInitialSyncPayload() {
+        ByteBuf backedBuffer = Unpooled.buffer();
+        writeInitialSyncData(new PacketBuffer(backedBuffer));
+        return Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
+    }
+
+    /**
+     * Receives the data written by {@link #writeInitialSyncPayload()}, sent either with the chunk's tile entity data
+     * or in a batch.
+     *
+     * @param updateData the data
+     */
+    @ApiStatus.Internal
+    public final void receiveInitialSyncPayload(byte @NotNull [] updateData) {
+        ByteBuf backedBuffer = Unpooled.wrappedBuffer(updateData);
         receiveInitialSyncData(new PacketBuffer(backedBuffer));
         if (backedBuffer.readableBytes() != 0) {
             String className = null;
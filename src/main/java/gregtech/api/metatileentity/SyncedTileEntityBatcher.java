@@ -0,0 +1,184 @@
+package gregtech.api.metatileentity;
+
+import gregtech.api.GTValues;
+import gregtech.api.GregTechAPI;
+import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
+import gregtech.core.network.packets.PacketTileUpdateBatch;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.network.NetworkRegistry.TargetPoint;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sends the pending data packets of {@link SyncedTileEntityBase}s at the end of each tick, with one packet per chunk
+ * instead of one vanilla tile entity update packet per tile entity.
+ * <p>
+ * Tile entities which were only just added to the world still use the vanilla packets, as their block may not have
+ * been sent to the client yet.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class SyncedTileEntityBatcher {
+
+    private static final Map<World, SyncedTileEntityBatcher> batchersPerWorld = new HashMap<>();
+
+    private static final Object2LongOpenHashMap<String> updatesByClass = new Object2LongOpenHashMap<>();
+    private static final Object2LongOpenHashMap<String> bytesByClass = new Object2LongOpenHashMap<>();
+    private static long packetsSent;
+    private static long bytesSent;
+
+    private final Set<SyncedTileEntityBase> pending = new ReferenceLinkedOpenHashSet<>();
+    private final Long2ObjectOpenHashMap<List<SyncedTileEntityBase>> tilesByChunk = new Long2ObjectOpenHashMap<>();
+    // packets are encoded as soon as they are sent, so the same buffer can be reused for all of them
+    private final ByteBuf buffer = Unpooled.buffer();
+
+    private SyncedTileEntityBatcher() {}
+
+    /**
+     * Schedules the pending data packets of a tile entity to be sent at the end of the tick.
+     *
+     * @param tileEntity the tile entity, in a server world
+     */
+    static void enqueue(@NotNull SyncedTileEntityBase tileEntity) {
+        batchersPerWorld.computeIfAbsent(tileEntity.getWorld(), k -> new SyncedTileEntityBatcher()).pending
+                .add(tileEntity);
+    }
+
+    private void flush(@NotNull World world) {
+        if (pending.isEmpty()) return;
+        for (SyncedTileEntityBase tileEntity : pending) {
+            if (tileEntity.isInvalid() || tileEntity.getWorld() != world) continue;
+            if (!tileEntity.canSendBatchedUpdates()) {
+                tileEntity.notifyWorld();
+                continue;
+            }
+            BlockPos pos = tileEntity.getPos();
+            long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            List<SyncedTileEntityBase> tileEntities = tilesByChunk.get(chunk);
+            if (tileEntities == null) {
+                tileEntities = new ObjectArrayList<>();
+                tilesByChunk.put(chunk, tileEntities);
+            }
+            tileEntities.add(tileEntity);
+        }
+        pending.clear();
+
+        int dimension = world.provider.getDimension();
+        for (Long2ObjectMap.Entry<List<SyncedTileEntityBase>> entry : tilesByChunk.long2ObjectEntrySet()) {
+            sendChunk(dimension, entry.getLongKey(), entry.getValue());
+        }
+        tilesByChunk.clear();
+    }
+
+    private void sendChunk(int dimension, long chunk, @NotNull List<SyncedTileEntityBase> tileEntities) {
+        buffer.clear();
+        PacketBuffer buf = new PacketBuffer(buffer);
+        buf.writeInt(0);
+        int count = 0;
+        for (SyncedTileEntityBase tileEntity : tileEntities) {
+            // the updates may have been sent with a vanilla packet in the meantime
+            if (!tileEntity.hasPendingUpdates()) continue;
+            int start = buffer.writerIndex();
+            buf.writeLong(tileEntity.getPos().toLong());
+            tileEntity.writePendingUpdates(buf);
+            count++;
+
+            String className = getClassName(tileEntity);
+            updatesByClass.addTo(className, 1);
+            bytesByClass.addTo(className, buffer.writerIndex() - start);
+        }
+        if (count == 0) return;
+        buffer.setInt(0, count);
+
+        int chunkX = (int) chunk;
+        int chunkZ = (int) (chunk >> 32);
+        TargetPoint point = new TargetPoint(dimension, (chunkX << 4) + 8, 0, (chunkZ << 4) + 8, 0);
+        GregTechAPI.networkHandler.sendToAllTracking(new PacketTileUpdateBatch(buffer), point);
+        packetsSent++;
+        bytesSent += buffer.readableBytes();
+    }
+
+    @NotNull
+    private static String getClassName(@NotNull SyncedTileEntityBase tileEntity) {
+        if (tileEntity instanceof IGregTechTileEntity gtte) {
+            MetaTileEntity mte = gtte.getMetaTileEntity();
+            if (mte != null) return mte.getClass().getName();
+        }
+        return tileEntity.getClass().getName();
+    }
+
+    /**
+     * @return the amount of batched packets sent
+     */
+    public static long getPacketsSent() {
+        return packetsSent;
+    }
+
+    /**
+     * @return the amount of bytes sent in batched packets
+     */
+    public static long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * @return the amount of tile entity updates sent in batched packets, by tile entity or meta tile entity class
+     */
+    @NotNull
+    public static Object2LongMap<String> getUpdatesByClass() {
+        return Object2LongMaps.unmodifiable(updatesByClass);
+    }
+
+    /**
+     * @return the amount of bytes sent in batched packets, by tile entity or meta tile entity class
+     */
+    @NotNull
+    public static Object2LongMap<String> getBytesByClass() {
+        return Object2LongMaps.unmodifiable(bytesByClass);
+    }
+
+    public static void resetStats() {
+        updatesByClass.clear();
+        bytesByClass.clear();
+        packetsSent = 0;
+        bytesSent = 0;
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote) {
+            SyncedTileEntityBatcher batcher = batchersPerWorld.get(event.world);
+            if (batcher != null) {
+                batcher.flush(event.world);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            batchersPerWorld.remove(event.getWorld());
+        }
+    }
+}
@@ -24,6 +24,7 @@ import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.handler.MultiblockPreviewRenderer;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.renderer.texture.cube.SimpleOrientedCubeRenderer;
+import gregtech.common.ConfigHolder;
 import gregtech.common.blocks.MetaBlocks;
 
 import net.minecraft.block.Block;
@@ -87,6 +88,11 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     protected EnumFacing upwardsFacing = EnumFacing.NORTH;
     protected boolean isFlipped;
 
+    private boolean structureDirty;
+    @Nullable
+    private BlockPattern indexedPattern;
+    private int indexedCacheVersion;
+
     public MultiblockControllerBase(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId);
     }
@@ -105,9 +111,11 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     public void update() {
         super.update();
         if (!getWorld().isRemote) {
-            if (getOffsetTimer() % 20 == 0 || isFirstTick()) {
+            if (shouldCheckStructure()) {
+                this.structureDirty = false;
                 checkStructurePattern();
             }
+            updateStructureIndex();
             // DummyWorld is the world for the JEI preview. We do not want to update the Multi in this world,
             // besides initially forming it in checkStructurePattern
             if (isStructureFormed() && !(getWorld() instanceof DummyWorld)) {
@@ -116,6 +124,53 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         }
     }
 
+    private boolean shouldCheckStructure() {
+        if (isFirstTick()) return true;
+        // only formed structures are indexed, as an unformed one may be completed by a change anywhere
+        if (!ConfigHolder.performance.eventDrivenStructureChecks || indexedPattern == null) {
+            return getOffsetTimer() % 20 == 0;
+        }
+        if (structureDirty) return true;
+        int interval = ConfigHolder.performance.structureSafetyCheckInterval;
+        return interval > 0 && getOffsetTimer() % interval == 0;
+    }
+
+    /**
+     * Keeps the positions of the structure tracked by the world's {@link MultiblockStructureIndex} in sync with the
+     * cached structure.
+     */
+    private void updateStructureIndex() {
+        BlockPattern pattern = this.structurePattern;
+        if (ConfigHolder.performance.eventDrivenStructureChecks && structureFormed && pattern != null &&
+                !pattern.getMatchCache().isEmpty()) {
+            if (pattern != indexedPattern || pattern.getCacheVersion() != indexedCacheVersion) {
+                MultiblockStructureIndex index = MultiblockStructureIndex.get(getWorld());
+                if (index == null) return;
+                index.track(this, pattern.getMatchCache().toPositionArray());
+                this.indexedPattern = pattern;
+                this.indexedCacheVersion = pattern.getCacheVersion();
+            }
+        } else {
+            untrackStructure();
+        }
+    }
+
+    private void untrackStructure() {
+        if (indexedPattern == null) return;
+        MultiblockStructureIndex index = MultiblockStructureIndex.get(getWorld());
+        if (index != null) {
+            index.untrack(this);
+        }
+        this.indexedPattern = null;
+    }
+
+    /**
+     * Marks the structure to be checked on the next update. Called when a block of the indexed structure changes.
+     */
+    public void markStructureDirty() {
+        this.structureDirty = true;
+    }
+
     /**
      * Called when the multiblock is formed and validation predicate is matched
      */
@@ -389,8 +444,19 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     @Override
     public void onRemoval() {
         super.onRemoval();
-        if (!getWorld().isRemote && structureFormed) {
-            invalidateStructure();
+        if (!getWorld().isRemote) {
+            untrackStructure();
+            if (structureFormed) {
+                invalidateStructure();
+            }
+        }
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        if (getWorld() != null && !getWorld().isRemote) {
+            untrackStructure();
         }
     }
 
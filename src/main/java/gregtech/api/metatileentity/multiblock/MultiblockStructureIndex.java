@@ -0,0 +1,191 @@
+package gregtech.api.metatileentity.multiblock;
+
+import gregtech.api.GTValues;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the positions of every formed multiblock's cached structure to its controller, so controllers only need to
+ * re-check their structure once one of their own blocks changes.
+ * <p>
+ * Block changes are received as a world event listener, which is notified of every block state change made with
+ * block update flags. MetaTileEntityHolders report their MetaTileEntity being added or removed separately. Changes made
+ * without either, such as block states set without flags or tile entities of other mods, are only noticed by the
+ * periodic safety check.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class MultiblockStructureIndex implements IWorldEventListener {
+
+    private static final Map<World, MultiblockStructureIndex> indexPerWorld = new HashMap<>();
+
+    private final Long2ObjectOpenHashMap<List<MultiblockControllerBase>> controllersByPos =
+            new Long2ObjectOpenHashMap<>();
+    private final Map<MultiblockControllerBase, long[]> positionsByController = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * @return the index of a server world, or null if the world is not indexed
+     */
+    @Nullable
+    public static MultiblockStructureIndex get(@NotNull World world) {
+        return indexPerWorld.get(world);
+    }
+
+    /**
+     * Start tracking the positions of a controller's structure, replacing any positions tracked before.
+     *
+     * @param controller the controller
+     * @param positions  the positions of the structure, as packed BlockPos
+     */
+    public void track(@NotNull MultiblockControllerBase controller, long @NotNull [] positions) {
+        untrack(controller);
+        for (long pos : positions) {
+            List<MultiblockControllerBase> controllers = controllersByPos.get(pos);
+            if (controllers == null) {
+                controllers = new ObjectArrayList<>(1);
+                controllersByPos.put(pos, controllers);
+            }
+            controllers.add(controller);
+        }
+        positionsByController.put(controller, positions);
+    }
+
+    /**
+     * Stop tracking the positions of a controller's structure.
+     *
+     * @param controller the controller
+     */
+    public void untrack(@NotNull MultiblockControllerBase controller) {
+        long[] packed = positionsByController.remove(controller);
+        if (packed == null) return;
+        for (long pos : packed) {
+            List<MultiblockControllerBase> controllers = controllersByPos.get(pos);
+            if (controllers == null) continue;
+            controllers.remove(controller);
+            if (controllers.isEmpty()) {
+                controllersByPos.remove(pos);
+            }
+        }
+    }
+
+    /**
+     * @return the amount of controllers being tracked
+     */
+    public int getTrackedControllers() {
+        return positionsByController.size();
+    }
+
+    /**
+     * @return the amount of positions being tracked
+     */
+    public int getTrackedPositions() {
+        return controllersByPos.size();
+    }
+
+    @Override
+    public void notifyBlockUpdate(@NotNull World worldIn, @NotNull BlockPos pos, @NotNull IBlockState oldState,
+                                  @NotNull IBlockState newState, int flags) {
+        // tile entities send block updates without a state change to sync their data
+        if (oldState == newState) return;
+        markDirty(pos.toLong());
+    }
+
+    /**
+     * Marks the controllers whose structure contains a position dirty, for changes made without a block update, such
+     * as a MetaTileEntity being added or removed.
+     *
+     * @param world the world of the position
+     * @param pos   the position which changed
+     */
+    public static void onTileEntityChanged(@NotNull World world, @NotNull BlockPos pos) {
+        MultiblockStructureIndex index = get(world);
+        if (index != null) {
+            index.markDirty(pos.toLong());
+        }
+    }
+
+    private void markDirty(long pos) {
+        List<MultiblockControllerBase> controllers = controllersByPos.get(pos);
+        if (controllers == null) return;
+        for (int i = 0; i < controllers.size(); i++) {
+            controllers.get(i).markStructureDirty();
+        }
+    }
+
+    @Override
+    public void notifyLightSet(@NotNull BlockPos pos) {}
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {}
+
+    @Override
+    public void playSoundToAllNearExcept(@Nullable EntityPlayer player, @NotNull SoundEvent soundIn,
+                                         @NotNull SoundCategory category, double x, double y, double z, float volume,
+                                         float pitch) {}
+
+    @Override
+    public void playRecord(@NotNull SoundEvent soundIn, @NotNull BlockPos pos) {}
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord,
+                              double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+    @Override
+    public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y,
+                              double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+    @Override
+    public void onEntityAdded(@NotNull Entity entityIn) {}
+
+    @Override
+    public void onEntityRemoved(@NotNull Entity entityIn) {}
+
+    @Override
+    public void broadcastSound(int soundID, @NotNull BlockPos pos, int data) {}
+
+    @Override
+    public void playEvent(@Nullable EntityPlayer player, int type, @NotNull BlockPos blockPosIn, int data) {}
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, @NotNull BlockPos pos, int progress) {}
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            MultiblockStructureIndex index = new MultiblockStructureIndex();
+            world.addEventListener(index);
+            indexPerWorld.put(world, index);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            MultiblockStructureIndex index = indexPerWorld.remove(world);
+            if (index != null) {
+                world.removeEventListener(index);
+            }
+        }
+    }
+}
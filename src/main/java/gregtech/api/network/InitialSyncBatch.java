@@ -0,0 +1,220 @@
+package gregtech.api.network;
+
+import net.minecraft.network.PacketBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.bytes.ByteArrays;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenCustomHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The initial sync data of all synced tile entities in a chunk.
+ * <p>
+ * Tile entities with identical data, such as rows of the same machine or cable, share a single copy of it. The whole
+ * batch is compressed in one pass when written.
+ */
+public class InitialSyncBatch {
+
+    /**
+     * The maximum size of a batch read from the network, compressed or not. Far above the data of any real chunk, but
+     * small enough that a bad packet can not force a large allocation.
+     */
+    public static final int MAX_LENGTH = 8 * 1024 * 1024;
+
+    private final Object2IntOpenCustomHashMap<byte[]> payloadIds = new Object2IntOpenCustomHashMap<>(
+            ByteArrays.HASH_STRATEGY);
+
+    private byte[][] payloads;
+    private int payloadCount;
+    private int[] positions;
+    private int[] payloadIndices;
+    private int size;
+
+    public InitialSyncBatch() {
+        this(16, 16);
+    }
+
+    private InitialSyncBatch(int payloadCapacity, int capacity) {
+        this.payloads = new byte[payloadCapacity][];
+        this.positions = new int[capacity];
+        this.payloadIndices = new int[capacity];
+        this.payloadIds.defaultReturnValue(-1);
+    }
+
+    /**
+     * Adds the data of a tile entity.
+     *
+     * @param x    the x position of the tile entity in its chunk
+     * @param y    the y position of the tile entity
+     * @param z    the z position of the tile entity in its chunk
+     * @param data the initial sync data
+     */
+    public void add(int x, int y, int z, byte @NotNull [] data) {
+        int payloadIndex = payloadIds.getInt(data);
+        if (payloadIndex == -1) {
+            payloadIndex = addPayload(data);
+            payloadIds.put(data, payloadIndex);
+        }
+        addEntry(packPosition(x, y, z), payloadIndex);
+    }
+
+    private int addPayload(byte @NotNull [] data) {
+        if (this.payloadCount == this.payloads.length) {
+            this.payloads = Arrays.copyOf(this.payloads, this.payloadCount * 2);
+        }
+        this.payloads[this.payloadCount] = data;
+        return this.payloadCount++;
+    }
+
+    private void addEntry(int position, int payloadIndex) {
+        if (this.size == this.positions.length) {
+            this.positions = Arrays.copyOf(this.positions, this.size * 2);
+            this.payloadIndices = Arrays.copyOf(this.payloadIndices, this.size * 2);
+        }
+        this.positions[this.size] = position;
+        this.payloadIndices[this.size] = payloadIndex;
+        this.size++;
+    }
+
+    private static int packPosition(int x, int y, int z) {
+        return y << 8 | (x & 15) << 4 | (z & 15);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @return the amount of distinct data arrays in this batch
+     */
+    public int getPayloadCount() {
+        return this.payloadCount;
+    }
+
+    /**
+     * @return the x position in its chunk of the tile entity at the index
+     */
+    public int getX(int index) {
+        return (this.positions[index] >> 4) & 15;
+    }
+
+    public int getY(int index) {
+        return this.positions[index] >> 8;
+    }
+
+    /**
+     * @return the z position in its chunk of the tile entity at the index
+     */
+    public int getZ(int index) {
+        return this.positions[index] & 15;
+    }
+
+    /**
+     * @return the initial sync data of the tile entity at the index, which may be shared with other tile entities
+     */
+    public byte @NotNull [] getData(int index) {
+        return this.payloads[this.payloadIndices[index]];
+    }
+
+    /**
+     * Compresses this batch and writes it to a buffer.
+     *
+     * @param buf the buffer to write to
+     */
+    public void write(@NotNull PacketBuffer buf) {
+        ByteBuf uncompressed = Unpooled.buffer();
+        PacketBuffer uncompressedBuf = new PacketBuffer(uncompressed);
+        uncompressedBuf.writeVarInt(this.payloadCount);
+        for (int i = 0; i < this.payloadCount; i++) {
+            uncompressedBuf.writeByteArray(this.payloads[i]);
+        }
+        uncompressedBuf.writeVarInt(this.size);
+        for (int i = 0; i < this.size; i++) {
+            uncompressedBuf.writeVarInt(this.positions[i]);
+            uncompressedBuf.writeVarInt(this.payloadIndices[i]);
+        }
+
+        int length = uncompressed.writerIndex();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(uncompressed.array(), uncompressed.arrayOffset(), length);
+        deflater.finish();
+        byte[] chunk = new byte[8192];
+        ByteBuf compressed = Unpooled.buffer(length / 4 + 16);
+        while (!deflater.finished()) {
+            int written = deflater.deflate(chunk);
+            compressed.writeBytes(chunk, 0, written);
+        }
+        deflater.end();
+
+        buf.writeVarInt(length);
+        buf.writeVarInt(compressed.writerIndex());
+        buf.writeBytes(compressed);
+    }
+
+    /**
+     * Reads and decompresses a batch written with {@link #write(PacketBuffer)}.
+     *
+     * @param buf the buffer to read from
+     * @return the batch
+     * @throws IllegalArgumentException if the data could not be decompressed, or is larger than {@link #MAX_LENGTH}
+     */
+    @NotNull
+    public static InitialSyncBatch read(@NotNull PacketBuffer buf) {
+        int length = buf.readVarInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid initial sync batch length " + length);
+        }
+        int compressedLength = buf.readVarInt();
+        if (compressedLength < 0 || compressedLength > MAX_LENGTH || compressedLength > buf.readableBytes()) {
+            throw new IllegalArgumentException("Invalid compressed initial sync batch length " + compressedLength);
+        }
+        byte[] compressed = new byte[compressedLength];
+        buf.readBytes(compressed);
+
+        byte[] uncompressed = new byte[length];
+        Inflater inflater = new Inflater();
+        inflater.setInput(compressed);
+        try {
+            int read = inflater.inflate(uncompressed);
+            if (read != length) {
+                throw new IllegalArgumentException(
+                        "Initial sync batch had " + read + " bytes, expected " + length + " bytes");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Could not decompress initial sync batch", e);
+        } finally {
+            inflater.end();
+        }
+
+        PacketBuffer uncompressedBuf = new PacketBuffer(Unpooled.wrappedBuffer(uncompressed));
+        int payloadCount = uncompressedBuf.readVarInt();
+        // every payload takes at least one byte, so the count can not be larger than the data left
+        if (payloadCount < 0 || payloadCount > uncompressedBuf.readableBytes()) {
+            throw new IllegalArgumentException("Invalid initial sync payload count " + payloadCount);
+        }
+        InitialSyncBatch batch = new InitialSyncBatch(Math.max(payloadCount, 1), 16);
+        for (int i = 0; i < payloadCount; i++) {
+            batch.addPayload(uncompressedBuf.readByteArray());
+        }
+        int size = uncompressedBuf.readVarInt();
+        for (int i = 0; i < size; i++) {
+            int position = uncompressedBuf.readVarInt();
+            int payloadIndex = uncompressedBuf.readVarInt();
+            if (payloadIndex < 0 || payloadIndex >= payloadCount) {
+                throw new IllegalArgumentException("Invalid initial sync payload index " + payloadIndex);
+            }
+            batch.addEntry(position, payloadIndex);
+        }
+        return batch;
+    }
+}
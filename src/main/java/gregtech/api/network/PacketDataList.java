@@ -2,6 +2,7 @@ package gregtech.api.network;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.network.PacketBuffer;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -53,6 +54,28 @@ public class PacketDataList {
         this.size++;
     }
 
+    /**
+     * Removes all data with the same discriminator from the list, then adds the discriminator - data pair to its end
+     *
+     * @param discriminator data id
+     * @param data          data
+     */
+    public void replace(int discriminator, byte[] data) {
+        int j = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.discriminators[i] != discriminator) {
+                this.discriminators[j] = this.discriminators[i];
+                this.data[j] = this.data[i];
+                j++;
+            }
+        }
+        for (int i = j; i < this.size; i++) {
+            this.data[i] = null;
+        }
+        this.size = j;
+        add(discriminator, data);
+    }
+
     /**
      * Adds all discriminator - data pairs from another list.
      * This does not check if the other list is empty or the same list.
@@ -108,4 +131,20 @@ public class PacketDataList {
         this.size = 0;
         return listTag;
     }
+
+    /**
+     * Writes all discriminator - data pairs to a buffer.
+     * Also removes all data packets from this list.
+     *
+     * @param buf buffer to write to
+     */
+    public void dumpToBuffer(@NotNull PacketBuffer buf) {
+        buf.writeVarInt(this.size);
+        for (int i = 0; i < this.size; i++) {
+            buf.writeVarInt(this.discriminators[i]);
+            buf.writeByteArray(this.data[i]);
+            this.data[i] = null;
+        }
+        this.size = 0;
+    }
 }
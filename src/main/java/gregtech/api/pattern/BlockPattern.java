@@ -21,7 +21,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import org.apache.commons.lang3.ArrayUtils;
 import org.jetbrains.annotations.NotNull;
 
@@ -47,7 +46,16 @@ public class BlockPattern {
     protected final Map<TraceabilityPredicate.SimplePredicate, Integer> globalCount;
     protected final Map<TraceabilityPredicate.SimplePredicate, Integer> layerCount;
 
-    public Long2ObjectMap<BlockInfo> cache = new Long2ObjectOpenHashMap<>();
+    private final BlockPatternCache matchCache = new BlockPatternCache();
+    /**
+     * @deprecated a view of {@link #getMatchCache()} which writes through to it, and creates a {@link BlockInfo} on
+     *             every lookup
+     */
+    @Deprecated
+    public final Long2ObjectMap<BlockInfo> cache = matchCache.asMap();
+    private final BlockPos.MutableBlockPos checkPos = new BlockPos.MutableBlockPos();
+    // relative offset transforms, indexed by front facing, upwards facing and flip
+    private final int[][] offsetTables = new int[EnumFacing.VALUES.length * EnumFacing.VALUES.length * 2][];
     // x, y, z, minZ, maxZ
     private int[] centerOffset = null;
 
@@ -107,25 +115,8 @@ public class BlockPattern {
 
     public PatternMatchContext checkPatternFastAt(World world, BlockPos centerPos, EnumFacing frontFacing,
                                                   EnumFacing upwardsFacing, boolean allowsFlip) {
-        if (!cache.isEmpty()) {
-            boolean pass = true;
-            for (Map.Entry<Long, BlockInfo> entry : cache.entrySet()) {
-                BlockPos pos = BlockPos.fromLong(entry.getKey());
-                IBlockState blockState = world.getBlockState(pos);
-                if (blockState != entry.getValue().getBlockState()) {
-                    pass = false;
-                    break;
-                }
-                TileEntity cachedTileEntity = entry.getValue().getTileEntity();
-                if (cachedTileEntity != null) {
-                    TileEntity tileEntity = world.getTileEntity(pos);
-                    if (tileEntity != cachedTileEntity) {
-                        pass = false;
-                        break;
-                    }
-                }
-            }
-            if (pass) return worldState.hasError() ? null : matchContext;
+        if (!matchCache.isEmpty() && matchCache.matches(world)) {
+            return worldState.hasError() ? null : matchContext;
         }
 
         // First try normal pattern, and if it fails, try flipped (if allowed).
@@ -141,18 +132,60 @@ public class BlockPattern {
     }
 
     public void clearCache() {
-        cache.clear();
+        matchCache.clear();
+    }
+
+    /**
+     * @return the blocks matched by the last successful check
+     */
+    @NotNull
+    public BlockPatternCache getMatchCache() {
+        return matchCache;
+    }
+
+    /**
+     * @return a counter which changes every time the cache is changed
+     */
+    public int getCacheVersion() {
+        return matchCache.getVersion();
+    }
+
+    /**
+     * Gets the transform applied by {@link RelativeDirection#setActualRelativeOffset} for a facing. The transform is
+     * linear, so it is stored as the offsets of the three relative unit vectors.
+     *
+     * @return the x, y and z offsets of the relative x, y and z axes, in that order
+     */
+    private int @NotNull [] getOffsetTable(@NotNull EnumFacing frontFacing, @NotNull EnumFacing upwardsFacing,
+                                           boolean isFlipped) {
+        int index = (frontFacing.getIndex() * EnumFacing.VALUES.length + upwardsFacing.getIndex()) * 2 +
+                (isFlipped ? 1 : 0);
+        int[] table = offsetTables[index];
+        if (table == null) {
+            table = new int[9];
+            for (int axis = 0; axis < 3; axis++) {
+                BlockPos offset = RelativeDirection.setActualRelativeOffset(axis == 0 ? 1 : 0, axis == 1 ? 1 : 0,
+                        axis == 2 ? 1 : 0, frontFacing, upwardsFacing, isFlipped, structureDir);
+                table[axis * 3] = offset.getX();
+                table[axis * 3 + 1] = offset.getY();
+                table[axis * 3 + 2] = offset.getZ();
+            }
+            offsetTables[index] = table;
+        }
+        return table;
     }
 
     private PatternMatchContext checkPatternAt(World world, BlockPos centerPos, EnumFacing frontFacing,
                                                EnumFacing upwardsFacing, boolean isFlipped) {
+        int[] offsets = getOffsetTable(frontFacing, upwardsFacing, isFlipped);
+        BlockPos.MutableBlockPos pos = this.checkPos;
         boolean findFirstAisle = false;
         int minZ = -centerOffset[4];
 
         this.matchContext.reset();
         this.globalCount.clear();
         this.layerCount.clear();
-        cache.clear();
+        clearCache();
         // Checking aisles
         for (int c = 0, z = minZ++, r; c < this.fingerLength; c++) {
             // Checking repeatable slices
@@ -165,23 +198,17 @@ public class BlockPattern {
                 for (int b = 0, y = -centerOffset[1]; b < this.thumbLength; b++, y++) {
                     for (int a = 0, x = -centerOffset[0]; a < this.palmLength; a++, x++) {
                         TraceabilityPredicate predicate = this.blockMatches[c][b][a];
-                        BlockPos pos = RelativeDirection.setActualRelativeOffset(x, y, z, frontFacing, upwardsFacing,
-                                isFlipped, structureDir)
-                                .add(centerPos.getX(), centerPos.getY(), centerPos.getZ());
+                        pos.setPos(centerPos.getX() + x * offsets[0] + y * offsets[3] + z * offsets[6],
+                                centerPos.getY() + x * offsets[1] + y * offsets[4] + z * offsets[7],
+                                centerPos.getZ() + x * offsets[2] + y * offsets[5] + z * offsets[8]);
                         worldState.update(world, pos, matchContext, globalCount, layerCount, predicate);
                         TileEntity tileEntity = worldState.getTileEntity();
                         if (predicate != TraceabilityPredicate.ANY) {
-                            if (tileEntity instanceof IGregTechTileEntity) {
-                                if (((IGregTechTileEntity) tileEntity).isValid()) {
-                                    cache.put(pos.toLong(),
-                                            new BlockInfo(worldState.getBlockState(), tileEntity, predicate));
-                                } else {
-                                    cache.put(pos.toLong(), new BlockInfo(worldState.getBlockState(), null, predicate));
-                                }
-                            } else {
-                                cache.put(pos.toLong(),
-                                        new BlockInfo(worldState.getBlockState(), tileEntity, predicate));
+                            if (tileEntity instanceof IGregTechTileEntity &&
+                                    !((IGregTechTileEntity) tileEntity).isValid()) {
+                                tileEntity = null;
                             }
+                            matchCache.add(pos.toLong(), worldState.getBlockState(), tileEntity, predicate);
                         }
                         if (!predicate.test(worldState)) {
                             if (findFirstAisle) {
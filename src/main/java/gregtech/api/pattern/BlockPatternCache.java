@@ -0,0 +1,299 @@
+package gregtech.api.pattern;
+
+import gregtech.api.util.BlockInfo;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import it.unimi.dsi.fastutil.longs.AbstractLong2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.AbstractObjectIterator;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The blocks matched by the last successful check of a {@link BlockPattern}, stored as parallel arrays.
+ * <p>
+ * Positions are packed in the same format as {@link BlockPos#toLong()}. Each position is stored once. A position
+ * checked again while searching for the first aisle keeps the result of its last check.
+ */
+public class BlockPatternCache {
+
+    private static final int NUM_X_BITS = 26;
+    private static final int NUM_Z_BITS = NUM_X_BITS;
+    private static final int NUM_Y_BITS = 64 - NUM_X_BITS - NUM_Z_BITS;
+    private static final int Y_SHIFT = NUM_Z_BITS;
+    private static final int X_SHIFT = Y_SHIFT + NUM_Y_BITS;
+
+    private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+    private long[] positions = new long[64];
+    private IBlockState[] blockStates = new IBlockState[64];
+    private TileEntity[] tileEntities = new TileEntity[64];
+    private TraceabilityPredicate[] predicates = new TraceabilityPredicate[64];
+    private int size;
+    private int version;
+
+    private final Long2IntOpenHashMap indices = new Long2IntOpenHashMap();
+    private final Long2ObjectMap<BlockInfo> mapView = new MapView();
+
+    public BlockPatternCache() {
+        indices.defaultReturnValue(-1);
+    }
+
+    /**
+     * Adds a matched block, replacing the block stored at the same position, if any.
+     *
+     * @param pos        the position of the block, packed with {@link BlockPos#toLong()}
+     * @param blockState the state of the block
+     * @param tileEntity the tile entity of the block which must stay the same, if any
+     * @param predicate  the predicate the block was matched with
+     */
+    public void add(long pos, @NotNull IBlockState blockState, @Nullable TileEntity tileEntity,
+                    @Nullable TraceabilityPredicate predicate) {
+        version++;
+        int index = indices.get(pos);
+        if (index >= 0) {
+            blockStates[index] = blockState;
+            tileEntities[index] = tileEntity;
+            predicates[index] = predicate;
+            return;
+        }
+        if (size == positions.length) {
+            int capacity = size * 2;
+            positions = Arrays.copyOf(positions, capacity);
+            blockStates = Arrays.copyOf(blockStates, capacity);
+            tileEntities = Arrays.copyOf(tileEntities, capacity);
+            predicates = Arrays.copyOf(predicates, capacity);
+        }
+        positions[size] = pos;
+        blockStates[size] = blockState;
+        tileEntities[size] = tileEntity;
+        predicates[size] = predicate;
+        indices.put(pos, size);
+        size++;
+    }
+
+    /**
+     * Removes the block at a position. The last block is moved into its place.
+     *
+     * @param pos the position of the block, packed with {@link BlockPos#toLong()}
+     * @return if there was a block at the position
+     */
+    public boolean remove(long pos) {
+        int index = indices.remove(pos);
+        if (index < 0) return false;
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes the block at an index whose position was already removed from {@link #indices}.
+     */
+    private void removeAt(int index) {
+        version++;
+        int last = --size;
+        if (index != last) {
+            positions[index] = positions[last];
+            blockStates[index] = blockStates[last];
+            tileEntities[index] = tileEntities[last];
+            predicates[index] = predicates[last];
+            indices.put(positions[index], index);
+        }
+        blockStates[last] = null;
+        tileEntities[last] = null;
+        predicates[last] = null;
+    }
+
+    /**
+     * Removes all blocks, keeping the arrays for the next check.
+     */
+    public void clear() {
+        version++;
+        Arrays.fill(blockStates, 0, size, null);
+        Arrays.fill(tileEntities, 0, size, null);
+        Arrays.fill(predicates, 0, size, null);
+        indices.clear();
+        size = 0;
+    }
+
+    /**
+     * @return a counter which changes every time a block is added or removed
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the position of a block, packed with {@link BlockPos#toLong()}
+     */
+    public long getPosition(int index) {
+        return positions[index];
+    }
+
+    @NotNull
+    public IBlockState getBlockState(int index) {
+        return blockStates[index];
+    }
+
+    @Nullable
+    public TileEntity getTileEntity(int index) {
+        return tileEntities[index];
+    }
+
+    @Nullable
+    public TraceabilityPredicate getPredicate(int index) {
+        return predicates[index];
+    }
+
+    /**
+     * @return a copy of the positions of all blocks, packed with {@link BlockPos#toLong()}
+     */
+    public long @NotNull [] toPositionArray() {
+        return Arrays.copyOf(positions, size);
+    }
+
+    /**
+     * @return a view of the blocks by packed position, in the layout the cache had before it was stored in arrays.
+     *         Every lookup creates a new {@link BlockInfo}. Changes to the view are written to the cache.
+     */
+    @NotNull
+    public Long2ObjectMap<BlockInfo> asMap() {
+        return mapView;
+    }
+
+    @NotNull
+    private BlockInfo getBlockInfo(int index) {
+        return new BlockInfo(blockStates[index], tileEntities[index], predicates[index]);
+    }
+
+    /**
+     * Checks if every block is still the same in the world.
+     *
+     * @param world the world to check in
+     * @return if no block has changed
+     */
+    public boolean matches(@NotNull World world) {
+        BlockPos.MutableBlockPos pos = this.mutablePos;
+        for (int i = 0; i < size; i++) {
+            setPos(pos, positions[i]);
+            if (world.getBlockState(pos) != blockStates[i]) {
+                return false;
+            }
+            TileEntity cachedTileEntity = tileEntities[i];
+            if (cachedTileEntity != null && world.getTileEntity(pos) != cachedTileEntity) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets a mutable position to a position packed with {@link BlockPos#toLong()}.
+     */
+    private static void setPos(@NotNull BlockPos.MutableBlockPos pos, long packed) {
+        int x = (int) (packed << (64 - X_SHIFT - NUM_X_BITS) >> (64 - NUM_X_BITS));
+        int y = (int) (packed << (64 - Y_SHIFT - NUM_Y_BITS) >> (64 - NUM_Y_BITS));
+        int z = (int) (packed << (64 - NUM_Z_BITS) >> (64 - NUM_Z_BITS));
+        pos.setPos(x, y, z);
+    }
+
+    private class MapView extends AbstractLong2ObjectMap<BlockInfo> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(long key) {
+            return indices.containsKey(key);
+        }
+
+        @Override
+        public BlockInfo get(long key) {
+            int index = indices.get(key);
+            return index < 0 ? defRetValue : getBlockInfo(index);
+        }
+
+        @Override
+        public BlockInfo put(long key, BlockInfo value) {
+            BlockInfo previous = get(key);
+            Object info = value.getInfo();
+            add(key, value.getBlockState(), value.getTileEntity(),
+                    info instanceof TraceabilityPredicate ? (TraceabilityPredicate) info : null);
+            return previous;
+        }
+
+        @Override
+        public BlockInfo remove(long key) {
+            BlockInfo previous = get(key);
+            BlockPatternCache.this.remove(key);
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            BlockPatternCache.this.clear();
+        }
+
+        @Override
+        public ObjectSet<Long2ObjectMap.Entry<BlockInfo>> long2ObjectEntrySet() {
+            return new AbstractObjectSet<Long2ObjectMap.Entry<BlockInfo>>() {
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public ObjectIterator<Long2ObjectMap.Entry<BlockInfo>> iterator() {
+                    return new AbstractObjectIterator<Long2ObjectMap.Entry<BlockInfo>>() {
+
+                        private int index;
+                        private int last = -1;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < size;
+                        }
+
+                        @Override
+                        public Long2ObjectMap.Entry<BlockInfo> next() {
+                            if (index >= size) throw new NoSuchElementException();
+                            last = index++;
+                            return new AbstractLong2ObjectMap.BasicEntry<>(positions[last], getBlockInfo(last));
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last < 0) throw new IllegalStateException();
+                            indices.remove(positions[last]);
+                            removeAt(last);
+                            // the last block was moved into the removed one's place
+                            index = last;
+                            last = -1;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
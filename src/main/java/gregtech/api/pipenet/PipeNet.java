@@ -66,6 +66,16 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
      */
     public void onPipeConnectionsUpdate() {}
 
+    /**
+     * Is called when a connection of a pipe in the net is opened or closed
+     *
+     * @param pipePos the position of the pipe
+     * @param side    the side of the connection
+     */
+    public void onPipeConnectionsUpdate(BlockPos pipePos, EnumFacing side) {
+        onPipeConnectionsUpdate();
+    }
+
     public void onNeighbourUpdate(BlockPos fromPos) {}
 
     /**
@@ -0,0 +1,214 @@
+package gregtech.api.pipenet;
+
+import gregtech.api.pipenet.tile.IPipeTile;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.Capability;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the routes from the pipes of a {@link PipeNet} to the handlers they can reach.
+ * <p>
+ * Besides its routes, every entry remembers how to create a route to a handler next to each pipe its walk passed.
+ * When a block next to the net changes, only the routes to that block are dropped or added, without walking the net
+ * again. Changes to the pipes themselves still drop every entry.
+ * <p>
+ * Cached route lists are never modified, so they stay safe to iterate while handlers are being filled.
+ *
+ * @param <R> the type of route
+ */
+public class RouteCache<R extends IRoutePath<?>> {
+
+    private final Map<BlockPos, List<R>> routesByPipe = new Object2ObjectOpenHashMap<>();
+    private final Map<BlockPos, Map<BlockPos, RouteFactory<R>>> walkedPipesByPipe =
+            new Object2ObjectOpenHashMap<>();
+    private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+    private final Capability<?> capability;
+    private final Comparator<R> comparator;
+    private final RouteCacheStats stats;
+
+    /**
+     * @param capability the capability a handler must have to be routed to
+     * @param comparator the order of the routes of each pipe
+     * @param stats      the counters to update
+     */
+    public RouteCache(@NotNull Capability<?> capability, @NotNull Comparator<R> comparator,
+                      @NotNull RouteCacheStats stats) {
+        this.capability = capability;
+        this.comparator = comparator;
+        this.stats = stats;
+    }
+
+    /**
+     * @param pipePos the position of the pipe
+     * @return the cached routes of the pipe, or null if they need to be walked
+     */
+    @Nullable
+    public List<R> get(@NotNull BlockPos pipePos) {
+        List<R> routes = routesByPipe.get(pipePos);
+        if (routes != null) {
+            stats.onHit();
+        }
+        return routes;
+    }
+
+    /**
+     * Records a walk from a pipe, caching its result if it succeeded.
+     *
+     * @param pipePos     the position of the pipe
+     * @param routes      the routes found, or null if the walk failed
+     * @param walkedPipes creates a route to a handler next to each walked pipe, from the pipe to the handler
+     * @return the sorted routes, or null if the walk failed
+     */
+    @Nullable
+    public List<R> put(@NotNull BlockPos pipePos, @Nullable List<R> routes,
+                       @NotNull Map<BlockPos, RouteFactory<R>> walkedPipes) {
+        stats.onWalk();
+        if (routes == null) return null;
+        routes.sort(comparator);
+        routesByPipe.put(pipePos, routes);
+        walkedPipesByPipe.put(pipePos, walkedPipes);
+        return routes;
+    }
+
+    /**
+     * Drops every cached route.
+     */
+    public void clear() {
+        if (routesByPipe.isEmpty()) return;
+        routesByPipe.clear();
+        walkedPipesByPipe.clear();
+        stats.onInvalidate();
+    }
+
+    /**
+     * Updates the routes to a changed block next to the net.
+     *
+     * @param world   the world of the net
+     * @param fromPos the position of the changed block
+     */
+    public void onNeighbourUpdate(@NotNull World world, @NotNull BlockPos fromPos) {
+        if (routesByPipe.isEmpty()) return;
+
+        TileEntity tile = world.getTileEntity(fromPos);
+        if (tile instanceof IPipeTile<?, ?> || isWalked(fromPos)) {
+            // a pipe was placed or removed, the walks themselves are outdated
+            clear();
+            return;
+        }
+
+        for (Map.Entry<BlockPos, List<R>> entry : routesByPipe.entrySet()) {
+            List<R> routes = entry.getValue();
+            List<R> newRoutes = tile == null ? null :
+                    createRoutes(world, walkedPipesByPipe.get(entry.getKey()), fromPos, tile);
+            boolean hasOldRoutes = false;
+            for (R route : routes) {
+                if (isRouteTo(route, fromPos)) {
+                    hasOldRoutes = true;
+                    break;
+                }
+            }
+            if (!hasOldRoutes && newRoutes == null) continue;
+
+            List<R> patched = new ArrayList<>(routes.size() + (newRoutes == null ? 0 : newRoutes.size()));
+            for (R route : routes) {
+                if (!isRouteTo(route, fromPos)) {
+                    patched.add(route);
+                }
+            }
+            if (newRoutes != null) {
+                patched.addAll(newRoutes);
+                patched.sort(comparator);
+            }
+            entry.setValue(patched);
+            stats.onPatch();
+        }
+    }
+
+    /**
+     * Updates the routes after a connection of a pipe in the net changed.
+     *
+     * @param world   the world of the net
+     * @param pipePos the position of the pipe
+     * @param side    the side of the connection
+     */
+    public void onPipeConnectionsUpdate(@NotNull World world, @NotNull BlockPos pipePos, @NotNull EnumFacing side) {
+        // the block on the other side of the connection is handled like a changed neighbour
+        onNeighbourUpdate(world, pipePos.offset(side));
+    }
+
+    private boolean isWalked(@NotNull BlockPos pos) {
+        for (Map<BlockPos, RouteFactory<R>> walkedPipes : walkedPipesByPipe.values()) {
+            if (walkedPipes.containsKey(pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the routes from the walked pipes next to the handler, or null if there are none
+     */
+    @Nullable
+    private List<R> createRoutes(@NotNull World world, @NotNull Map<BlockPos, RouteFactory<R>> walkedPipes,
+                                 @NotNull BlockPos handlerPos, @NotNull TileEntity handler) {
+        List<R> routes = null;
+        for (EnumFacing side : EnumFacing.VALUES) {
+            mutablePos.setPos(handlerPos).move(side);
+            RouteFactory<R> routeFactory = walkedPipes.get(mutablePos);
+            if (routeFactory == null) continue;
+
+            EnumFacing faceToHandler = side.getOpposite();
+            TileEntity pipe = world.getTileEntity(mutablePos);
+            if (!(pipe instanceof IPipeTile<?, ?> pipeTile) || !pipeTile.isConnected(faceToHandler) ||
+                    handler.getCapability(capability, side) == null) {
+                continue;
+            }
+
+            R route = routeFactory.createRoute(faceToHandler);
+            if (route != null) {
+                if (routes == null) {
+                    routes = new ArrayList<>(1);
+                }
+                routes.add(route);
+            }
+        }
+        return routes;
+    }
+
+    /**
+     * Creates routes from the source pipe of a walk to a handler next to a walked pipe.
+     *
+     * @param <R> the type of route
+     */
+    @FunctionalInterface
+    public interface RouteFactory<R> {
+
+        /**
+         * @param faceToHandler the side of the walked pipe the handler is on
+         * @return the route, or null if the handler should not be routed to
+         */
+        @Nullable
+        R createRoute(@NotNull EnumFacing faceToHandler);
+    }
+
+    private static boolean isRouteTo(@NotNull IRoutePath<?> route, @NotNull BlockPos pos) {
+        BlockPos pipePos = route.getTargetPipePos();
+        EnumFacing facing = route.getTargetFacing();
+        return pipePos.getX() + facing.getXOffset() == pos.getX() &&
+                pipePos.getY() + facing.getYOffset() == pos.getY() &&
+                pipePos.getZ() + facing.getZOffset() == pos.getZ();
+    }
+}
@@ -0,0 +1,85 @@
+package gregtech.api.pipenet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Counters shared by every {@link RouteCache} of one kind of pipe net.
+ */
+public class RouteCacheStats {
+
+    private static final List<RouteCacheStats> ALL_STATS = new ArrayList<>();
+
+    private final String name;
+    private long hits;
+    private long walks;
+    private long patches;
+    private long invalidations;
+
+    /**
+     * @param name the name shown for these counters
+     */
+    public RouteCacheStats(@NotNull String name) {
+        this.name = name;
+        ALL_STATS.add(this);
+    }
+
+    /**
+     * @return the counters of every kind of pipe net
+     */
+    public static @UnmodifiableView @NotNull List<RouteCacheStats> getAllStats() {
+        return Collections.unmodifiableList(ALL_STATS);
+    }
+
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * @return the amount of route lookups answered from the cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the amount of pipe net walks performed because the routes were not cached
+     */
+    public long getWalks() {
+        return walks;
+    }
+
+    /**
+     * @return the amount of cached route lists updated in place after a neighbour change, instead of being dropped
+     */
+    public long getPatches() {
+        return patches;
+    }
+
+    /**
+     * @return the amount of times every cached route list of a net was dropped
+     */
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    void onHit() {
+        hits++;
+    }
+
+    void onWalk() {
+        walks++;
+    }
+
+    void onPatch() {
+        patches++;
+    }
+
+    void onInvalidate() {
+        invalidations++;
+    }
+}
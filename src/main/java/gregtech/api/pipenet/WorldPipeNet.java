@@ -110,7 +110,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         T pipeNet = getNetFromPos(nodePos);
         if (pipeNet != null) {
             pipeNet.updateBlockedConnections(nodePos, side, isBlocked);
-            pipeNet.onPipeConnectionsUpdate();
+            pipeNet.onPipeConnectionsUpdate(nodePos, side);
         }
     }
 
@@ -4,6 +4,7 @@ import gregtech.api.block.BuiltInRenderBlock;
 import gregtech.api.cover.Cover;
 import gregtech.api.cover.CoverHolder;
 import gregtech.api.cover.CoverRayTracer;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.IFacadeCover;
 import gregtech.api.items.toolitem.ToolClasses;
 import gregtech.api.items.toolitem.ToolHelper;
@@ -203,6 +204,7 @@ public abstract class BlockPipe<PipeType extends Enum<PipeType> & IPipeType<Node
             EnumFacing facing = GTUtility.getFacingToNeighbor(pos, fromPos);
             if (facing == null) return;
             pipeTile.onNeighborChanged(facing);
+            CoverTickScheduler.wakeCover(pipeTile.getCoverableImplementation().getCoverAtSide(facing));
             if (!ConfigHolder.machines.gt6StylePipesCables) {
                 boolean open = pipeTile.isConnected(facing);
                 boolean canConnect = pipeTile.getCoverableImplementation().getCoverAtSide(facing) != null ||
@@ -223,6 +225,7 @@ public abstract class BlockPipe<PipeType extends Enum<PipeType> & IPipeType<Node
             EnumFacing facing = GTUtility.getFacingToNeighbor(pos, neighbor);
             if (facing != null) {
                 pipeTile.onNeighborChanged(facing);
+                CoverTickScheduler.wakeCover(pipeTile.getCoverableImplementation().getCoverAtSide(facing));
             }
         }
     }
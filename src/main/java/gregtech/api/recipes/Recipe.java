@@ -239,7 +239,9 @@ public class Recipe {
     /**
      * This methods aim to verify if the current recipe matches the given inputs according to matchingMode mode.
      *
-     * @param consumeIfSuccessful if true will consume the inputs of the recipe.
+     * @param consumeIfSuccessful if true will consume the inputs of the recipe. The given stacks are changed directly,
+     *                            so the handler they came from is not notified. Inventories must be consumed through
+     *                            {@link #matches(boolean, IItemHandlerModifiable, IMultipleTankHandler)}
      * @param inputs              Items input or Collections.emptyList() if none.
      * @param fluidInputs         Fluids input or Collections.emptyList() if none.
      * @return true if the recipe matches the given inputs false otherwise.
@@ -13,12 +13,16 @@ import gregtech.api.recipes.ingredients.GTRecipeInput;
 import gregtech.api.recipes.ingredients.IntCircuitIngredient;
 import gregtech.api.recipes.map.AbstractMapIngredient;
 import gregtech.api.recipes.map.Branch;
+import gregtech.api.recipes.map.CompiledRecipeLookup;
 import gregtech.api.recipes.map.Either;
 import gregtech.api.recipes.map.MapFluidIngredient;
 import gregtech.api.recipes.map.MapItemStackIngredient;
 import gregtech.api.recipes.map.MapItemStackNBTIngredient;
 import gregtech.api.recipes.map.MapOreDictIngredient;
 import gregtech.api.recipes.map.MapOreDictNBTIngredient;
+import gregtech.api.recipes.map.RecipeLookupBuffer;
+import gregtech.api.recipes.map.RecipeLookupMissCache;
+import gregtech.api.recipes.map.RecipeLookupSnapshot;
 import gregtech.api.recipes.ui.RecipeMapUI;
 import gregtech.api.recipes.ui.RecipeMapUIFunction;
 import gregtech.api.unification.material.Material;
@@ -48,15 +52,20 @@ import net.minecraftforge.oredict.OreDictionary;
 
 import com.cleanroommc.groovyscript.api.GroovyLog;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import crafttweaker.CraftTweakerAPI;
 import crafttweaker.annotations.ZenRegister;
 import crafttweaker.api.item.IItemStack;
 import crafttweaker.api.liquid.ILiquidStack;
 import crafttweaker.api.minecraft.CraftTweakerMC;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ReferenceOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -68,6 +77,7 @@ import stanhebben.zenscript.annotations.ZenMethod;
 import stanhebben.zenscript.annotations.ZenSetter;
 
 import java.lang.ref.WeakReference;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -77,9 +87,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.DoubleSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @ZenClass("mods.gregtech.recipe.RecipeMap")
 @ZenRegister
@@ -91,7 +104,11 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
             .thenComparingLong(Recipe::getEUt)
             .thenComparing(Recipe::hashCode);
 
+    // the tree search tracks the ingredients it used in the bits of a long
+    private static final int MAX_BATCHED_INGREDIENTS = Long.SIZE;
+
     private static boolean foundInvalidRecipe = false;
+    private static boolean deferTreeBuilding = false;
 
     public static final ChanceBoostFunction DEFAULT_CHANCE_FUNCTION = ChanceBoostFunction.OVERCLOCK;
     protected RecipeMapUI<?> recipeMapUI;
@@ -116,10 +133,25 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     private boolean allowEmptyOutput;
 
     private final Object grsVirtualizedRecipeMap;
-    private final Branch lookup = new Branch();
+    // dropped while a compiled lookup exists, which can rebuild it
+    // JEI reads the tree from the client thread, which may rebuild it while the server is running
+    private volatile @Nullable Branch lookup = new Branch();
+    private volatile @Nullable CompiledRecipeLookup compiledLookup;
+    // the recipes to rebuild the dropped tree from, once the compiled lookup was discarded
+    private @Nullable Set<Recipe> droppedTreeRecipes;
+    // guards the tree, the compiled lookup and the pending recipes against a concurrent rebuild or flush
+    private final Object lookupTreeLock = new Object();
     private boolean hasOreDictedInputs = false;
     private boolean hasNBTMatcherInputs = false;
-    private static final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> ingredientRoot = new WeakHashMap<>();
+    private final RecipeLookupMissCache missCache = new RecipeLookupMissCache();
+    // the pooled lookup builds its own ingredients, so it cannot be used when the search hooks are overridden
+    private final boolean canUsePooledLookup = !overridesSearchHooks(getClass());
+    // the batched lookup searches the tree directly, so it cannot be used when findRecipe is overridden either
+    private final boolean canUseBatchedLookup = canUsePooledLookup && !overridesFindRecipe(getClass());
+    private final List<Recipe> pendingRecipes = new ArrayList<>();
+    private long treeBuildNanos;
+    // shared by all RecipeMaps, which may build their trees concurrently
+    private static final Interner<AbstractMapIngredient> ingredientRoot = Interners.newWeakInterner();
     private final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> fluidIngredientRoot = new WeakHashMap<>();
 
     private final Map<GTRecipeCategory, List<Recipe>> recipeByCategory = new Object2ObjectOpenHashMap<>();
@@ -369,7 +401,8 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      * Internal usage <strong>only</strong>, use {@link RecipeBuilder#buildAndRegister()}
      *
      * @param validationResult the validation result from building the recipe
-     * @return if adding the recipe was successful
+     * @return if adding the recipe was successful. While tree building is deferred, valid recipes are only queued and
+     *         reported as added, and duplicates or conflicts among them are rejected and logged once they are built.
      */
     public boolean addRecipe(@NotNull ValidationResult<Recipe> validationResult) {
         validationResult = postValidateRecipe(validationResult);
@@ -387,9 +420,239 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         if (recipe.isGroovyRecipe()) {
             this.getGroovyScriptRecipeMap().addScripted(recipe);
         }
+        // script recipes log conflicts to their script loggers, so they are always added on the calling thread
+        if (deferTreeBuilding && !recipe.isGroovyRecipe() && !recipe.getIsCTRecipe()) {
+            synchronized (lookupTreeLock) {
+                pendingRecipes.add(recipe);
+                missCache.invalidate();
+                discardCompiledLookup();
+            }
+            return true;
+        }
+        flushPendingRecipes();
         return compileRecipe(recipe);
     }
 
+    /**
+     * Adds all recipes whose addition to the ingredient tree was deferred. May be called from any thread, as the
+     * client thread can need the tree while the integrated server searches recipes.
+     */
+    @ApiStatus.Internal
+    public void flushPendingRecipes() {
+        synchronized (lookupTreeLock) {
+            if (pendingRecipes.isEmpty()) return;
+
+            // a compiled lookup existing alongside pending recipes was restored from a snapshot, and already has them.
+            // It stays in place for concurrent recipe searches while the tree is built.
+            boolean restored = this.compiledLookup != null;
+            long start = System.nanoTime();
+            int rejected = 0;
+            for (Recipe recipe : pendingRecipes) {
+                if (!compileRecipe(recipe, !restored)) rejected++;
+            }
+            // addRecipe already reported these as added, so the conflicts logged for each recipe are summarized here
+            if (rejected > 0) {
+                GTLog.logger.warn("{} deferred recipes were not added to RecipeMap {}, as they were duplicates or " +
+                        "conflicts", rejected, unlocalizedName);
+            }
+            pendingRecipes.clear();
+            if (restored) {
+                // the tree was only built to check the recipes and sort them into categories
+                this.lookup = null;
+            }
+            treeBuildNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * @return the ingredient tree, rebuilt from the compiled lookup if it was dropped
+     */
+    @NotNull
+    private Branch getLookupTree() {
+        Branch tree = this.lookup;
+        if (tree != null) return tree;
+        synchronized (lookupTreeLock) {
+            tree = this.lookup;
+            if (tree == null) {
+                tree = new Branch();
+                Collection<Recipe> recipes = getDroppedTreeRecipes();
+                if (recipes != null) {
+                    for (Recipe recipe : recipes) {
+                        recurseIngredientTreeAdd(recipe, fromRecipe(recipe), tree, 0, 0);
+                    }
+                }
+                this.droppedTreeRecipes = null;
+                this.lookup = tree;
+            }
+            return tree;
+        }
+    }
+
+    /**
+     * @return the recipes of the dropped ingredient tree, or null if there are none
+     */
+    @Nullable
+    private Collection<Recipe> getDroppedTreeRecipes() {
+        if (this.droppedTreeRecipes != null) return this.droppedTreeRecipes;
+        CompiledRecipeLookup compiled = this.compiledLookup;
+        return compiled == null ? null : compiled.getRecipeList();
+    }
+
+    /**
+     * Discards the compiled lookup before the ingredient tree is changed. A dropped tree is only rebuilt once it is
+     * needed.
+     */
+    private void discardCompiledLookup() {
+        synchronized (lookupTreeLock) {
+            CompiledRecipeLookup compiled = this.compiledLookup;
+            if (compiled == null) return;
+            if (this.lookup == null && this.droppedTreeRecipes == null) {
+                this.droppedTreeRecipes = new ReferenceLinkedOpenHashSet<>(compiled.getRecipeList());
+            }
+            this.compiledLookup = null;
+        }
+    }
+
+    /**
+     * Removes a recipe from the recipes of the dropped ingredient tree, without rebuilding the tree.
+     *
+     * @return if the recipe was removed
+     */
+    private boolean removeFromDroppedTree(@NotNull Recipe recipe) {
+        synchronized (lookupTreeLock) {
+            if (this.lookup != null) return false;
+            discardCompiledLookup();
+            return this.droppedTreeRecipes != null && this.droppedTreeRecipes.remove(recipe);
+        }
+    }
+
+    /**
+     * Adds all recipes whose addition to the ingredient tree was deferred, unless recipe searches can use a lookup
+     * restored from a snapshot instead.
+     */
+    private void flushPendingRecipesForSearch() {
+        if (this.compiledLookup == null) {
+            flushPendingRecipes();
+        }
+    }
+
+    /**
+     * Restores the lookup of the deferred recipes from a snapshot, or builds the ingredient tree and saves a new
+     * snapshot. A restored lookup leaves the recipes pending, so the ingredient tree is only built once something
+     * other than a recipe search needs it.
+     *
+     * @param snapshotKey the key from {@link RecipeLookupSnapshot#computeKey()}, or null to not use snapshots
+     * @return if the lookup was restored
+     */
+    private boolean buildOrRestorePendingRecipes(byte @Nullable [] snapshotKey) {
+        if (snapshotKey == null) {
+            flushPendingRecipes();
+            return false;
+        }
+
+        long start = System.nanoTime();
+        Path path = RecipeLookupSnapshot.getPath(unlocalizedName);
+        CompiledRecipeLookup restored = RecipeLookupSnapshot.read(path, snapshotKey, pendingRecipes,
+                this::fromRecipe);
+        if (restored != null) {
+            this.compiledLookup = restored;
+            this.missCache.invalidate();
+            treeBuildNanos += System.nanoTime() - start;
+            return true;
+        }
+
+        List<Recipe> recipes = new ArrayList<>(pendingRecipes);
+        flushPendingRecipes();
+        start = System.nanoTime();
+        CompiledRecipeLookup compiled = CompiledRecipeLookup.compile(getLookupTree());
+        this.compiledLookup = compiled;
+        RecipeLookupSnapshot.write(path, snapshotKey, recipes, compiled, this::fromRecipe);
+        treeBuildNanos += System.nanoTime() - start;
+        return false;
+    }
+
+    /**
+     * Sets whether recipes added to RecipeMaps should only be added to the ingredient trees later, on a call to
+     * {@link #buildPendingRecipes()}. Disabling deferral builds all pending recipes. While deferred,
+     * {@link #addRecipe(ValidationResult)} cannot know whether a recipe conflicts with another, so it reports every
+     * valid recipe as added.
+     *
+     * @param defer whether to defer adding recipes to the ingredient trees
+     */
+    @ApiStatus.Internal
+    public static void setDeferTreeBuilding(boolean defer) {
+        boolean wasDeferred = deferTreeBuilding;
+        deferTreeBuilding = defer;
+        if (wasDeferred && !defer) {
+            buildPendingRecipes();
+        }
+    }
+
+    /**
+     * Adds all deferred recipes to their ingredient trees, or restores their lookups from snapshots if enabled. When
+     * building in parallel, each RecipeMap's tree is built by its own task on a ForkJoinPool. The time taken by each
+     * RecipeMap is logged.
+     * <p>
+     * With snapshots enabled, nothing is built until deferral is disabled, so each snapshot is only read and written
+     * once all recipes are registered.
+     */
+    @ApiStatus.Internal
+    public static void buildPendingRecipes() {
+        boolean useSnapshots = ConfigHolder.performance.recipeLookupSnapshot &&
+                ConfigHolder.performance.compiledRecipeLookup;
+        // snapshots are checked against every recipe of a map, so they are only used once all recipes are registered
+        if (useSnapshots && deferTreeBuilding) return;
+
+        List<RecipeMap<?>> recipeMaps = new ArrayList<>();
+        for (RecipeMap<?> recipeMap : RECIPE_MAP_REGISTRY.values()) {
+            if (!recipeMap.pendingRecipes.isEmpty()) {
+                recipeMap.treeBuildNanos = 0;
+                recipeMaps.add(recipeMap);
+            }
+        }
+        if (recipeMaps.isEmpty()) return;
+
+        // start the largest maps first, as they dominate the total time
+        recipeMaps.sort(Comparator.comparingInt((RecipeMap<?> map) -> map.pendingRecipes.size()).reversed());
+        int recipes = 0;
+        for (RecipeMap<?> recipeMap : recipeMaps) {
+            recipes += recipeMap.pendingRecipes.size();
+        }
+
+        long start = System.nanoTime();
+        byte[] snapshotKey = useSnapshots ? RecipeLookupSnapshot.computeKey() : null;
+        int restored = 0;
+        if (ConfigHolder.performance.parallelRecipeTreeBuilding) {
+            ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+            try {
+                List<ForkJoinTask<Boolean>> tasks = new ArrayList<>(recipeMaps.size());
+                for (RecipeMap<?> recipeMap : recipeMaps) {
+                    tasks.add(pool.submit(() -> recipeMap.buildOrRestorePendingRecipes(snapshotKey)));
+                }
+                for (ForkJoinTask<Boolean> task : tasks) {
+                    if (task.join()) restored++;
+                }
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            for (RecipeMap<?> recipeMap : recipeMaps) {
+                if (recipeMap.buildOrRestorePendingRecipes(snapshotKey)) restored++;
+            }
+        }
+
+        GTLog.logger.info("Built recipe trees of {} RecipeMaps with {} recipes in {} ms", recipeMaps.size(), recipes,
+                (System.nanoTime() - start) / 1_000_000);
+        if (snapshotKey != null) {
+            GTLog.logger.info("Restored the recipe lookups of {} of {} RecipeMaps from snapshots", restored,
+                    recipeMaps.size());
+        }
+        recipeMaps.sort(Comparator.comparingLong((RecipeMap<?> map) -> map.treeBuildNanos).reversed());
+        for (RecipeMap<?> recipeMap : recipeMaps) {
+            GTLog.logger.info("  {}: {} ms", recipeMap.unlocalizedName, recipeMap.treeBuildNanos / 1_000_000);
+        }
+    }
+
     /**
      * Compiles a recipe and adds it to the ingredient tree
      *
@@ -397,11 +660,23 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      * @return if the recipe was successfully compiled
      */
     public boolean compileRecipe(Recipe recipe) {
+        return compileRecipe(recipe, true);
+    }
+
+    /**
+     * @param discardCompiledLookup whether the compiled lookup is discarded, which is not needed when it already has
+     *                              the recipe
+     */
+    private boolean compileRecipe(Recipe recipe, boolean discardCompiledLookup) {
         if (recipe == null) {
             return false;
         }
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
-        if (recurseIngredientTreeAdd(recipe, items, lookup, 0, 0)) {
+        if (recurseIngredientTreeAdd(recipe, items, getLookupTree(), 0, 0)) {
+            missCache.invalidate();
+            if (discardCompiledLookup) {
+                discardCompiledLookup();
+            }
             recipeByCategory.compute(recipe.getRecipeCategory(), (k, v) -> {
                 if (v == null) v = new ArrayList<>();
                 v.add(recipe);
@@ -417,8 +692,12 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      * @return if removal was successful
      */
     public boolean removeRecipe(@NotNull Recipe recipe) {
-        List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
-        if (recurseIngredientTreeRemove(recipe, items, lookup, 0) != null) {
+        flushPendingRecipes();
+        // a dropped tree is rebuilt without the recipe once it is needed, or to log why removal failed
+        if (removeFromDroppedTree(recipe) ||
+                recurseIngredientTreeRemove(recipe, fromRecipe(recipe), getLookupTree(), 0) != null) {
+            missCache.invalidate();
+            discardCompiledLookup();
             if (GroovyScriptModule.isCurrentlyRunning()) {
                 this.getGroovyScriptRecipeMap().addBackup(recipe);
             }
@@ -438,12 +717,65 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      */
     @ApiStatus.Internal
     protected void removeAllRecipes() {
+        flushPendingRecipes();
         if (GroovyScriptModule.isCurrentlyRunning()) {
-            this.lookup.getRecipes(false).forEach(this.getGroovyScriptRecipeMap()::addBackup);
+            getLookupTree().getRecipes(false).forEach(this.getGroovyScriptRecipeMap()::addBackup);
+        }
+        synchronized (lookupTreeLock) {
+            this.lookup = new Branch();
+            this.droppedTreeRecipes = null;
+            this.compiledLookup = null;
         }
-        this.lookup.getNodes().clear();
-        this.lookup.getSpecialNodes().clear();
         this.recipeByCategory.clear();
+        this.missCache.invalidate();
+    }
+
+    /**
+     * Compiles the ingredient tree into a {@link CompiledRecipeLookup} used by recipe searches, until the next change
+     * to the tree. The tree is then dropped, and only rebuilt once it is changed or searched for collisions.
+     * <p>
+     * A lookup restored from a snapshot keeps its recipes pending. Their tree is built lazily by
+     * {@link #flushPendingRecipes()} on whichever thread first needs it, such as the client thread for JEI, while
+     * recipe searches on the server thread keep using the compiled lookup.
+     */
+    public void freezeLookup() {
+        synchronized (lookupTreeLock) {
+            if (!ConfigHolder.performance.compiledRecipeLookup) {
+                flushPendingRecipes();
+                discardCompiledLookup();
+                return;
+            }
+            // any change to the tree discards the compiled lookup, so an existing one is still current
+            if (this.compiledLookup == null) {
+                flushPendingRecipes();
+                this.compiledLookup = CompiledRecipeLookup.compile(getLookupTree());
+            }
+            // a restored lookup may still have pending recipes, which are added to a tree once needed
+            if (pendingRecipes.isEmpty()) {
+                this.lookup = null;
+            }
+        }
+    }
+
+    /**
+     * Compiles the ingredient trees of all RecipeMaps.
+     *
+     * @see #freezeLookup()
+     */
+    @ApiStatus.Internal
+    public static void freezeLookups() {
+        long start = System.nanoTime();
+        int nodes = 0;
+        for (RecipeMap<?> recipeMap : RECIPE_MAP_REGISTRY.values()) {
+            recipeMap.freezeLookup();
+            if (recipeMap.compiledLookup != null) {
+                nodes += recipeMap.compiledLookup.getNodeCount();
+            }
+        }
+        if (nodes > 0 && (ConfigHolder.misc.debug || GTValues.isDeobfEnvironment())) {
+            GTLog.logger.info("Compiled recipe lookups of {} RecipeMaps with {} nodes in {} ms",
+                    RECIPE_MAP_REGISTRY.size(), nodes, (System.nanoTime() - start) / 1_000_000);
+        }
     }
 
     /**
@@ -562,21 +894,228 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     @Nullable
     public Recipe findRecipe(long voltage, final List<ItemStack> inputs, final List<FluidStack> fluidInputs,
                              boolean exactVoltage) {
+        flushPendingRecipesForSearch();
+        final int missCacheSize = ConfigHolder.performance.recipeLookupMissCacheSize;
+        if (missCacheSize > 0 && missCache.contains(inputs, fluidInputs, voltage, exactVoltage)) return null;
+
+        if (ConfigHolder.performance.pooledRecipeLookup && canUsePooledLookup) {
+            RecipeLookupBuffer buffer = RecipeLookupBuffer.acquire();
+            // the buffer is unavailable on re-entrant searches, so fall back to the allocating path
+            if (buffer != null) {
+                try {
+                    Recipe recipe = findRecipePooled(buffer, voltage, inputs, fluidInputs, exactVoltage);
+                    if (recipe == null && missCacheSize > 0 && !buffer.hasTestedCandidate()) {
+                        missCache.add(inputs, fluidInputs, voltage, exactVoltage, missCacheSize);
+                    }
+                    return recipe;
+                } finally {
+                    buffer.release();
+                }
+            }
+        }
+
         final List<ItemStack> items = inputs.stream().filter(s -> !s.isEmpty()).collect(Collectors.toList());
         final List<FluidStack> fluids = fluidInputs.stream().filter(f -> f != null && f.amount != 0)
                 .collect(Collectors.toList());
 
-        return find(items, fluids, recipe -> {
-            if (exactVoltage && recipe.getEUt() != voltage) {
+        final boolean[] testedCandidate = { false };
+        Recipe recipe = find(items, fluids, r -> {
+            testedCandidate[0] = true;
+            if (exactVoltage && r.getEUt() != voltage) {
                 // if exact voltage is required, the recipe is not considered valid
                 return false;
             }
-            if (recipe.getEUt() > voltage) {
+            if (r.getEUt() > voltage) {
                 // there is not enough voltage to consider the recipe valid
                 return false;
             }
-            return recipe.matches(false, inputs, fluidInputs);
+            return r.matches(false, inputs, fluidInputs);
         });
+        // only a search which never reached a recipe is independent of amounts and voltage, and can be cached
+        if (recipe == null && missCacheSize > 0 && !testedCandidate[0]) {
+            missCache.add(inputs, fluidInputs, voltage, exactVoltage, missCacheSize);
+        }
+        return recipe;
+    }
+
+    /**
+     * Finds Recipes for several item inventories sharing the same fluid inputs, such as the input buses of a
+     * multiblock in distinct mode.
+     * <p>
+     * The fluid inputs are filtered once, and the ingredient tree is traversed once for the combined contents of the
+     * inventories instead of once per inventory. Every recipe reached is matched against each inventory which has no
+     * recipe yet. If this map overrides {@link #findRecipe(long, List, List, boolean)} or the search hooks, every
+     * inventory is searched through it instead.
+     *
+     * @param voltage      Voltage of the Machine or Long.MAX_VALUE if it has no Voltage
+     * @param inputs       the Item Inputs of each inventory
+     * @param fluidInputs  the Fluid Inputs shared by all inventories
+     * @param exactVoltage should require exact voltage matching on recipe
+     * @return the Recipe found for each inventory, or null at the index of an inventory with no matching Recipe
+     */
+    @NotNull
+    public Recipe[] findRecipes(long voltage, @NotNull List<List<ItemStack>> inputs,
+                                @NotNull List<FluidStack> fluidInputs, boolean exactVoltage) {
+        Recipe[] recipes = new Recipe[inputs.size()];
+        if (!canUseBatchedLookup) {
+            for (int i = 0; i < inputs.size(); i++) {
+                recipes[i] = findRecipe(voltage, inputs.get(i), fluidInputs, exactVoltage);
+            }
+            return recipes;
+        }
+
+        flushPendingRecipesForSearch();
+        final int missCacheSize = ConfigHolder.performance.recipeLookupMissCacheSize;
+        List<FluidStack> fluids = new ArrayList<>(fluidInputs.size());
+        for (int i = 0; i < fluidInputs.size(); i++) {
+            FluidStack fluidStack = fluidInputs.get(i);
+            if (fluidStack != null && fluidStack.amount != 0) {
+                fluids.add(fluidStack);
+            }
+        }
+
+        // the inventories are split into batches whose combined ingredients fit into a single tree search
+        IntList batch = new IntArrayList(inputs.size());
+        int batchItems = 0;
+        for (int i = 0; i < inputs.size(); i++) {
+            List<ItemStack> items = inputs.get(i);
+            if (missCacheSize > 0 && missCache.contains(items, fluidInputs, voltage, exactVoltage)) continue;
+
+            int itemCount = 0;
+            for (int j = 0; j < items.size(); j++) {
+                if (!items.get(j).isEmpty()) itemCount++;
+            }
+            if (itemCount + fluids.size() > MAX_BATCHED_INGREDIENTS) {
+                recipes[i] = findRecipe(voltage, items, fluidInputs, exactVoltage);
+                continue;
+            }
+            if (batchItems + itemCount + fluids.size() > MAX_BATCHED_INGREDIENTS) {
+                findRecipesBatched(voltage, inputs, batch, fluidInputs, fluids, exactVoltage, recipes);
+                batch.clear();
+                batchItems = 0;
+            }
+            batch.add(i);
+            batchItems += itemCount;
+        }
+        if (!batch.isEmpty()) {
+            findRecipesBatched(voltage, inputs, batch, fluidInputs, fluids, exactVoltage, recipes);
+        }
+        return recipes;
+    }
+
+    /**
+     * Searches the tree once for the combined contents of a batch of inventories.
+     *
+     * @param voltage      Voltage of the Machine or Long.MAX_VALUE if it has no Voltage
+     * @param inputs       the Item Inputs of each inventory
+     * @param batch        the indices of the inventories to search
+     * @param fluidInputs  the Fluid Inputs shared by all inventories
+     * @param fluids       the non-empty Fluid Inputs
+     * @param exactVoltage should require exact voltage matching on recipe
+     * @param recipes      the Recipe found for each inventory, filled in by this search
+     */
+    private void findRecipesBatched(long voltage, @NotNull List<List<ItemStack>> inputs, @NotNull IntList batch,
+                                    @NotNull List<FluidStack> fluidInputs, @NotNull List<FluidStack> fluids,
+                                    boolean exactVoltage, @NotNull Recipe[] recipes) {
+        if (batch.size() == 1) {
+            int index = batch.getInt(0);
+            recipes[index] = findRecipe(voltage, inputs.get(index), fluidInputs, exactVoltage);
+            return;
+        }
+
+        List<ItemStack> items = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            for (ItemStack stack : inputs.get(batch.getInt(i))) {
+                if (!stack.isEmpty()) items.add(stack);
+            }
+        }
+
+        final boolean[] testedCandidate = { false };
+        final int[] unresolved = { batch.size() };
+        List<List<AbstractMapIngredient>> list = prepareRecipeFind(items, fluids);
+        if (list != null) {
+            findInLookup(list, r -> {
+                testedCandidate[0] = true;
+                if (exactVoltage && r.getEUt() != voltage) {
+                    // if exact voltage is required, the recipe is not considered valid
+                    return false;
+                }
+                if (r.getEUt() > voltage) {
+                    // there is not enough voltage to consider the recipe valid
+                    return false;
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    int index = batch.getInt(i);
+                    if (recipes[index] == null && r.matches(false, inputs.get(index), fluidInputs)) {
+                        recipes[index] = r;
+                        unresolved[0]--;
+                    }
+                }
+                // keep traversing until every inventory has a recipe
+                return unresolved[0] == 0;
+            });
+        }
+
+        // a search which never reached a recipe would not have reached one for any single inventory either
+        final int missCacheSize = ConfigHolder.performance.recipeLookupMissCacheSize;
+        if (missCacheSize > 0 && !testedCandidate[0]) {
+            for (int i = 0; i < batch.size(); i++) {
+                missCache.add(inputs.get(batch.getInt(i)), fluidInputs, voltage, exactVoltage, missCacheSize);
+            }
+        }
+    }
+
+    /**
+     * Finds a Recipe using the calling thread's {@link RecipeLookupBuffer}, without allocating.
+     *
+     * @param buffer       the acquired lookup buffer
+     * @param voltage      Voltage of the Machine or Long.MAX_VALUE if it has no Voltage
+     * @param inputs       the Item Inputs
+     * @param fluidInputs  the Fluid Inputs
+     * @param exactVoltage should require exact voltage matching on recipe
+     * @return the Recipe it has found or null for no matching Recipe
+     */
+    @Nullable
+    private Recipe findRecipePooled(@NotNull RecipeLookupBuffer buffer, long voltage,
+                                    @NotNull List<ItemStack> inputs, @NotNull List<FluidStack> fluidInputs,
+                                    boolean exactVoltage) {
+        List<List<AbstractMapIngredient>> list = buffer.prepare(voltage, exactVoltage, inputs, fluidInputs,
+                hasOreDictedInputs, hasNBTMatcherInputs);
+        // couldn't build any inputs to use for search, so no recipe could be found
+        if (list == null) return null;
+        return findInLookup(list, buffer);
+    }
+
+    /**
+     * @param clazz the class of a RecipeMap
+     * @return if the class overrides any of the methods used to search recipes, which the pooled lookup does not call
+     */
+    private static boolean overridesSearchHooks(@NotNull Class<?> clazz) {
+        for (; clazz != RecipeMap.class; clazz = clazz.getSuperclass()) {
+            for (java.lang.reflect.Method method : clazz.getDeclaredMethods()) {
+                switch (method.getName()) {
+                    case "find", "prepareRecipeFind", "buildFromItemStacks", "buildFromFluidStacks" -> {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param clazz the class of a RecipeMap
+     * @return if the class overrides findRecipe, which the batched lookup does not call
+     */
+    private static boolean overridesFindRecipe(@NotNull Class<?> clazz) {
+        for (; clazz != RecipeMap.class; clazz = clazz.getSuperclass()) {
+            for (java.lang.reflect.Method method : clazz.getDeclaredMethods()) {
+                if ("findRecipe".equals(method.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -618,10 +1157,28 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     @Nullable
     public Recipe find(@NotNull Collection<ItemStack> items, @NotNull Collection<FluidStack> fluids,
                        @NotNull Predicate<Recipe> canHandle) {
+        flushPendingRecipesForSearch();
         List<List<AbstractMapIngredient>> list = prepareRecipeFind(items, fluids);
         // couldn't build any inputs to use for search, so no recipe could be found
         if (list == null) return null;
-        return recurseIngredientTreeFindRecipe(list, lookup, canHandle);
+        return findInLookup(list, canHandle);
+    }
+
+    /**
+     * Searches the compiled lookup if the tree is frozen, or the ingredient tree otherwise.
+     *
+     * @param ingredients the ingredients to search with
+     * @param canHandle   a predicate for determining if a recipe is valid
+     * @return the recipe found
+     */
+    @Nullable
+    private Recipe findInLookup(@NotNull List<List<AbstractMapIngredient>> ingredients,
+                                @NotNull Predicate<Recipe> canHandle) {
+        CompiledRecipeLookup compiled = this.compiledLookup;
+        if (compiled != null) {
+            return compiled.find(ingredients, canHandle);
+        }
+        return recurseIngredientTreeFindRecipe(ingredients, getLookupTree(), canHandle);
     }
 
     /**
@@ -730,7 +1287,10 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         if (count == ingredients.size()) return null;
 
         // Iterate over current level of nodes.
-        for (AbstractMapIngredient obj : ingredients.get(index)) {
+        // Indexed iteration and the non-allocating Either accessors keep this loop free of garbage.
+        List<AbstractMapIngredient> current = ingredients.get(index);
+        for (int i = 0; i < current.size(); i++) {
+            AbstractMapIngredient obj = current.get(i);
             // determine the root nodes
             Map<AbstractMapIngredient, Either<Recipe, Branch>> targetMap = determineRootNodes(obj, branchMap);
 
@@ -738,9 +1298,13 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
             if (result != null) {
                 // if there is a recipe (left mapping), return it immediately as found, if it can be handled
                 // Otherwise, recurse and go to the next branch.
-                Recipe r = result.map(potentialRecipe -> canHandle.test(potentialRecipe) ? potentialRecipe : null,
-                        potentialBranch -> diveIngredientTreeFindRecipe(ingredients, potentialBranch, canHandle, index,
-                                count, skip));
+                Recipe r;
+                Recipe potentialRecipe = result.getLeft();
+                if (potentialRecipe != null) {
+                    r = canHandle.test(potentialRecipe) ? potentialRecipe : null;
+                } else {
+                    r = diveIngredientTreeFindRecipe(ingredients, result.getRight(), canHandle, index, count, skip);
+                }
                 if (r != null) {
                     return r;
                 }
@@ -795,10 +1359,11 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      */
     @Nullable
     public Set<Recipe> findRecipeCollisions(Collection<ItemStack> items, Collection<FluidStack> fluids) {
+        flushPendingRecipes();
         List<List<AbstractMapIngredient>> list = prepareRecipeFind(items, fluids);
         if (list == null) return null;
         Set<Recipe> collidingRecipes = new ObjectOpenHashSet<>();
-        recurseIngredientTreeFindRecipeCollisions(list, lookup, collidingRecipes);
+        recurseIngredientTreeFindRecipeCollisions(list, getLookupTree(), collidingRecipes);
         return collidingRecipes;
     }
 
@@ -1222,7 +1787,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
                 }
 
                 // use the cached ingredient, if possible
-                retrieveCachedIngredient(list, ingredient, ingredientRoot);
+                list.add(Collections.singletonList(ingredientRoot.intern(ingredient)));
             } else {
                 // input must be represented as a list of possible stacks
                 List<AbstractMapIngredient> ingredients;
@@ -1234,14 +1799,8 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
                 }
 
                 for (int i = 0; i < ingredients.size(); i++) {
-                    AbstractMapIngredient mappedIngredient = ingredients.get(i);
                     // attempt to use the cached value if possible, otherwise cache for the next time
-                    WeakReference<AbstractMapIngredient> cached = ingredientRoot.get(mappedIngredient);
-                    if (cached != null && cached.get() != null) {
-                        ingredients.set(i, cached.get());
-                    } else {
-                        ingredientRoot.put(mappedIngredient, new WeakReference<>(mappedIngredient));
-                    }
+                    ingredients.set(i, ingredientRoot.intern(ingredients.get(i)));
                 }
                 list.add(ingredients);
             }
@@ -1308,8 +1867,15 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     }
 
     public Collection<Recipe> getRecipeList() {
+        flushPendingRecipes();
+        Branch tree = this.lookup;
+        CompiledRecipeLookup compiled = this.compiledLookup;
+        // the compiled lookup is complete whenever the tree was dropped
+        Stream<Recipe> stream = tree == null && compiled != null ?
+                compiled.getRecipeList().stream().filter(recipe -> !recipe.isHidden()) :
+                getLookupTree().getRecipes(true);
         ObjectOpenHashSet<Recipe> recipes = new ObjectOpenHashSet<>();
-        return lookup.getRecipes(true).filter(recipes::add).sorted(RECIPE_DURATION_THEN_EU)
+        return stream.filter(recipes::add).sorted(RECIPE_DURATION_THEN_EU)
                 .collect(Collectors.toList());
     }
 
@@ -1493,9 +2059,17 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      */
     @NotNull
     public Map<GTRecipeCategory, List<Recipe>> getRecipesByCategory() {
+        flushPendingRecipes();
         return Collections.unmodifiableMap(recipeByCategory);
     }
 
+    /**
+     * @return the cache of inventories known to match no recipe in this map
+     */
+    public @NotNull RecipeLookupMissCache getMissCache() {
+        return missCache;
+    }
+
     /**
      * @return the current ui for the recipemap
      */
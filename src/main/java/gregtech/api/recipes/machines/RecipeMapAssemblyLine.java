@@ -72,6 +72,7 @@ public class RecipeMapAssemblyLine<R extends RecipeBuilder<R>> extends RecipeMap
     @Nullable
     @Override
     public Collection<Recipe> getDataStickEntry(@NotNull String researchId) {
+        flushPendingRecipes();
         return researchEntries.get(researchId);
     }
 
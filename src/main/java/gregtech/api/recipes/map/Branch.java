@@ -4,6 +4,7 @@ import gregtech.api.recipes.Recipe;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
 import java.util.stream.Stream;
@@ -39,6 +40,22 @@ public class Branch {
         return stream;
     }
 
+    /**
+     * @return the regular nodes, without creating them if absent
+     */
+    @Nullable
+    Map<AbstractMapIngredient, Either<Recipe, Branch>> getNodesIfPresent() {
+        return nodes;
+    }
+
+    /**
+     * @return the special nodes, without creating them if absent
+     */
+    @Nullable
+    Map<AbstractMapIngredient, Either<Recipe, Branch>> getSpecialNodesIfPresent() {
+        return specialNodes;
+    }
+
     public boolean isEmptyBranch() {
         return (nodes == null || nodes.isEmpty()) && (specialNodes == null || specialNodes.isEmpty());
     }
@@ -0,0 +1,311 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.recipes.Recipe;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, array backed copy of a {@link Branch} ingredient tree, used for recipe lookup.
+ * <p>
+ * Every ingredient in the tree is interned to an int id, and every branch becomes a node whose children are stored
+ * as a sorted range of ingredient ids with a parallel array of targets. A target is either the index of another node,
+ * or the bitwise complement of an index into the recipe array.
+ * <p>
+ * The compiled lookup does not track changes to its source tree, and must be discarded when the tree is modified.
+ */
+public final class CompiledRecipeLookup {
+
+    private static final int NO_CHILD = Integer.MIN_VALUE;
+
+    private final AbstractMapIngredient[] ingredients;
+    private final Int2ObjectOpenHashMap<int[]> ingredientsByHash;
+    private final Recipe[] recipes;
+
+    private final int[] nodeStart;
+    private final int[] childIngredients;
+    private final int[] childTargets;
+
+    private CompiledRecipeLookup(@NotNull AbstractMapIngredient[] ingredients,
+                                 @NotNull Int2ObjectOpenHashMap<int[]> ingredientsByHash,
+                                 @NotNull Recipe[] recipes, int @NotNull [] nodeStart,
+                                 int @NotNull [] childIngredients, int @NotNull [] childTargets) {
+        this.ingredients = ingredients;
+        this.ingredientsByHash = ingredientsByHash;
+        this.recipes = recipes;
+        this.nodeStart = nodeStart;
+        this.childIngredients = childIngredients;
+        this.childTargets = childTargets;
+    }
+
+    /**
+     * Compile an ingredient tree.
+     *
+     * @param root the root branch of the tree
+     * @return the compiled lookup
+     */
+    @NotNull
+    public static CompiledRecipeLookup compile(@NotNull Branch root) {
+        // branches may be shared between several ingredients, so everything is interned by identity
+        Reference2IntOpenHashMap<Branch> nodeIds = new Reference2IntOpenHashMap<>();
+        Reference2IntOpenHashMap<AbstractMapIngredient> ingredientIds = new Reference2IntOpenHashMap<>();
+        Reference2IntOpenHashMap<Recipe> recipeIds = new Reference2IntOpenHashMap<>();
+        nodeIds.defaultReturnValue(-1);
+        ingredientIds.defaultReturnValue(-1);
+        recipeIds.defaultReturnValue(-1);
+
+        List<Branch> nodes = new ObjectArrayList<>();
+        List<AbstractMapIngredient> ingredients = new ObjectArrayList<>();
+        List<Recipe> recipes = new ObjectArrayList<>();
+
+        nodeIds.put(root, 0);
+        nodes.add(root);
+
+        // breadth first, so the children of a node can be laid out right after discovering them
+        IntArrayList nodeStart = new IntArrayList();
+        IntArrayList childIngredients = new IntArrayList();
+        IntArrayList childTargets = new IntArrayList();
+        for (int n = 0; n < nodes.size(); n++) {
+            Branch branch = nodes.get(n);
+            int start = childIngredients.size();
+            nodeStart.add(start);
+
+            addChildren(branch.getNodesIfPresent(), nodeIds, nodes, ingredientIds, ingredients, recipeIds, recipes,
+                    childIngredients, childTargets);
+            addChildren(branch.getSpecialNodesIfPresent(), nodeIds, nodes, ingredientIds, ingredients, recipeIds,
+                    recipes, childIngredients, childTargets);
+
+            sortChildren(childIngredients, childTargets, start, childIngredients.size());
+        }
+        nodeStart.add(childIngredients.size());
+
+        return create(ingredients.toArray(new AbstractMapIngredient[0]), recipes.toArray(new Recipe[0]),
+                nodeStart.toIntArray(), childIngredients.toIntArray(), childTargets.toIntArray());
+    }
+
+    /**
+     * Creates a lookup from already laid out arrays, such as ones read from a {@link RecipeLookupSnapshot}.
+     * The arrays are not validated.
+     */
+    @NotNull
+    static CompiledRecipeLookup create(@NotNull AbstractMapIngredient[] ingredients, @NotNull Recipe[] recipes,
+                                       int @NotNull [] nodeStart, int @NotNull [] childIngredients,
+                                       int @NotNull [] childTargets) {
+        Int2ObjectOpenHashMap<int[]> ingredientsByHash = new Int2ObjectOpenHashMap<>(ingredients.length);
+        for (int i = 0; i < ingredients.length; i++) {
+            int hash = ingredients[i].hashCode();
+            int[] existing = ingredientsByHash.get(hash);
+            if (existing == null) {
+                ingredientsByHash.put(hash, new int[] { i });
+            } else {
+                int[] ids = Arrays.copyOf(existing, existing.length + 1);
+                ids[existing.length] = i;
+                ingredientsByHash.put(hash, ids);
+            }
+        }
+        return new CompiledRecipeLookup(ingredients, ingredientsByHash, recipes, nodeStart, childIngredients,
+                childTargets);
+    }
+
+    private static void addChildren(@Nullable Map<AbstractMapIngredient, Either<Recipe, Branch>> children,
+                                    @NotNull Reference2IntOpenHashMap<Branch> nodeIds, @NotNull List<Branch> nodes,
+                                    @NotNull Reference2IntOpenHashMap<AbstractMapIngredient> ingredientIds,
+                                    @NotNull List<AbstractMapIngredient> ingredients,
+                                    @NotNull Reference2IntOpenHashMap<Recipe> recipeIds, @NotNull List<Recipe> recipes,
+                                    @NotNull IntArrayList childIngredients, @NotNull IntArrayList childTargets) {
+        if (children == null) return;
+        for (Map.Entry<AbstractMapIngredient, Either<Recipe, Branch>> entry : children.entrySet()) {
+            childIngredients.add(intern(entry.getKey(), ingredientIds, ingredients));
+
+            Recipe recipe = entry.getValue().getLeft();
+            if (recipe != null) {
+                childTargets.add(~intern(recipe, recipeIds, recipes));
+            } else {
+                childTargets.add(intern(entry.getValue().getRight(), nodeIds, nodes));
+            }
+        }
+    }
+
+    private static <T> int intern(@NotNull T value, @NotNull Reference2IntOpenHashMap<T> ids,
+                                  @NotNull List<T> values) {
+        int id = ids.getInt(value);
+        if (id == -1) {
+            id = values.size();
+            ids.put(value, id);
+            values.add(value);
+        }
+        return id;
+    }
+
+    /**
+     * Sorts a range of children by ingredient id, keeping the targets in step.
+     */
+    private static void sortChildren(@NotNull IntArrayList childIngredients, @NotNull IntArrayList childTargets,
+                                     int from, int to) {
+        if (to - from < 2) return;
+        long[] packed = new long[to - from];
+        for (int i = from; i < to; i++) {
+            packed[i - from] = ((long) childIngredients.getInt(i) << 32) | (childTargets.getInt(i) & 0xFFFFFFFFL);
+        }
+        Arrays.sort(packed);
+        for (int i = from; i < to; i++) {
+            long value = packed[i - from];
+            childIngredients.set(i, (int) (value >>> 32));
+            childTargets.set(i, (int) value);
+        }
+    }
+
+    @NotNull
+    AbstractMapIngredient[] getIngredients() {
+        return ingredients;
+    }
+
+    @NotNull
+    Recipe[] getRecipes() {
+        return recipes;
+    }
+
+    int @NotNull [] getNodeStart() {
+        return nodeStart;
+    }
+
+    int @NotNull [] getChildIngredients() {
+        return childIngredients;
+    }
+
+    int @NotNull [] getChildTargets() {
+        return childTargets;
+    }
+
+    /**
+     * @return the amount of nodes in this lookup
+     */
+    public int getNodeCount() {
+        return nodeStart.length - 1;
+    }
+
+    /**
+     * @return the amount of unique ingredients in this lookup
+     */
+    public int getIngredientCount() {
+        return ingredients.length;
+    }
+
+    /**
+     * @return the amount of unique recipes in this lookup
+     */
+    public int getRecipeCount() {
+        return recipes.length;
+    }
+
+    /**
+     * @return the unique recipes in this lookup
+     */
+    @NotNull
+    public List<Recipe> getRecipeList() {
+        return Collections.unmodifiableList(Arrays.asList(recipes));
+    }
+
+    /**
+     * Finds a recipe, with the same semantics as a search through the source {@link Branch} tree.
+     *
+     * @param ingredients the ingredients to search with
+     * @param canHandle   if the found recipe is valid
+     * @return the recipe found
+     */
+    @Nullable
+    public Recipe find(@NotNull List<List<AbstractMapIngredient>> ingredients, @NotNull Predicate<Recipe> canHandle) {
+        // Try each ingredient as a starting point, adding it to the skip-list.
+        // The skip-list is a packed long, where each 1 bit represents an index to skip
+        for (int i = 0; i < ingredients.size(); i++) {
+            Recipe r = find(ingredients, 0, canHandle, i, 0, (1L << i));
+            if (r != null) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private Recipe find(@NotNull List<List<AbstractMapIngredient>> ingredients, int node,
+                        @NotNull Predicate<Recipe> canHandle, int index, int count, long skip) {
+        // exhausted all the ingredients, and didn't find anything
+        if (count == ingredients.size()) return null;
+
+        List<AbstractMapIngredient> current = ingredients.get(index);
+        for (int i = 0; i < current.size(); i++) {
+            AbstractMapIngredient obj = current.get(i);
+            int[] candidates = ingredientsByHash.get(obj.hashCode());
+            if (candidates == null) continue;
+
+            for (int id : candidates) {
+                // compare in the same direction as a hash map lookup with obj as the key
+                if (!obj.equals(this.ingredients[id])) continue;
+
+                int target = findChild(node, id);
+                if (target == NO_CHILD) continue;
+
+                Recipe r;
+                if (target < 0) {
+                    Recipe potentialRecipe = recipes[~target];
+                    r = canHandle.test(potentialRecipe) ? potentialRecipe : null;
+                } else {
+                    r = dive(ingredients, target, canHandle, index, count, skip);
+                }
+                if (r != null) {
+                    return r;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private Recipe dive(@NotNull List<List<AbstractMapIngredient>> ingredients, int node,
+                        @NotNull Predicate<Recipe> canHandle, int currentIndex, int count, long skip) {
+        // We loop around ingredients.size() if we reach the end.
+        // only end when all ingredients are exhausted, or a recipe is found
+        int i = (currentIndex + 1) % ingredients.size();
+        while (i != currentIndex) {
+            // Have we already used this ingredient? If so, skip this one.
+            if (((skip & (1L << i)) == 0)) {
+                Recipe found = find(ingredients, node, canHandle, i, count + 1, skip | (1L << i));
+                if (found != null) {
+                    return found;
+                }
+            }
+            i = (i + 1) % ingredients.size();
+        }
+        return null;
+    }
+
+    /**
+     * @return the target of the child of a node with the ingredient id, or {@link #NO_CHILD}
+     */
+    private int findChild(int node, int ingredientId) {
+        int low = nodeStart[node];
+        int high = nodeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = childIngredients[mid];
+            if (midId < ingredientId) {
+                low = mid + 1;
+            } else if (midId > ingredientId) {
+                high = mid - 1;
+            } else {
+                return childTargets[mid];
+            }
+        }
+        return NO_CHILD;
+    }
+}
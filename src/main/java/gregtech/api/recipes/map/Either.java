@@ -1,5 +1,7 @@
 package gregtech.api.recipes.map;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -41,6 +43,16 @@ public abstract class Either<L, R> {
             return java.util.Optional.of(value);
         }
 
+        @Override
+        public @Nullable L getLeft() {
+            return value;
+        }
+
+        @Override
+        public @Nullable R getRight() {
+            return null;
+        }
+
         @Override
         public java.util.Optional<R> right() {
             return java.util.Optional.empty();
@@ -104,6 +116,16 @@ public abstract class Either<L, R> {
             return java.util.Optional.empty();
         }
 
+        @Override
+        public @Nullable L getLeft() {
+            return null;
+        }
+
+        @Override
+        public @Nullable R getRight() {
+            return value;
+        }
+
         @Override
         public java.util.Optional<R> right() {
             return java.util.Optional.of(value);
@@ -147,6 +169,16 @@ public abstract class Either<L, R> {
 
     public abstract java.util.Optional<R> right();
 
+    /**
+     * @return the left value, or null if this is a right. Does not allocate, unlike {@link #left()}.
+     */
+    public abstract @Nullable L getLeft();
+
+    /**
+     * @return the right value, or null if this is a left. Does not allocate, unlike {@link #right()}.
+     */
+    public abstract @Nullable R getRight();
+
     public <T> Either<T, R> mapLeft(final Function<? super L, ? extends T> l) {
         return map(t -> left(l.apply(t)), Either::right);
     }
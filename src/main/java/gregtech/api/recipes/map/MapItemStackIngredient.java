@@ -39,6 +39,20 @@ public class MapItemStackIngredient extends AbstractMapIngredient {
         return list;
     }
 
+    /**
+     * Re-targets this ingredient to another ItemStack. Only used for pooled lookup keys.
+     *
+     * @param stack the new stack to represent
+     * @param meta  the metadata of the stack
+     * @param tag   the nbt tag of the stack
+     */
+    void reset(ItemStack stack, int meta, NBTTagCompound tag) {
+        this.stack = stack;
+        this.meta = meta;
+        this.tag = tag;
+        invalidate();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (super.equals(o)) {
@@ -8,6 +8,16 @@ public class MapOreDictIngredient extends AbstractMapIngredient {
         this.ore = ore;
     }
 
+    /**
+     * Re-targets this ingredient to another ore dictionary id. Only used for pooled lookup keys.
+     *
+     * @param ore the new ore dictionary id
+     */
+    void reset(int ore) {
+        this.ore = ore;
+        invalidate();
+    }
+
     @Override
     protected int hash() {
         return ore;
@@ -27,6 +27,17 @@ public class MapOreDictNBTIngredient extends MapOreDictIngredient {
         this.nbtTagCompound = nbtTagCompound;
     }
 
+    /**
+     * Re-targets this ingredient to another ore dictionary id and tag. Only used for pooled lookup keys.
+     *
+     * @param ore            the new ore dictionary id
+     * @param nbtTagCompound the nbt tag of the stack
+     */
+    void reset(int ore, @Nullable NBTTagCompound nbtTagCompound) {
+        reset(ore);
+        this.nbtTagCompound = nbtTagCompound;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -0,0 +1,272 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.recipes.Recipe;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Per-thread scratch space used to search a RecipeMap without allocating.
+ * <p>
+ * The item and ore dictionary keys handed out by this buffer are pooled and re-targeted on every search. Fluid keys
+ * are immutable and kept per fluid. All keys are only ever used to query the ingredient tree, and must never be
+ * inserted into it or kept after {@link #release()}.
+ */
+@ApiStatus.Internal
+public final class RecipeLookupBuffer implements Predicate<Recipe> {
+
+    private static final ThreadLocal<RecipeLookupBuffer> BUFFERS = ThreadLocal.withInitial(RecipeLookupBuffer::new);
+
+    private final List<FluidStack> fluids = new ObjectArrayList<>();
+    private ItemStack[] uniqueItems = new ItemStack[16];
+    private int uniqueItemCount;
+
+    private final List<List<AbstractMapIngredient>> ingredients = new ObjectArrayList<>();
+    private final List<ObjectArrayList<AbstractMapIngredient>> ingredientLists = new ObjectArrayList<>();
+    private int ingredientListsUsed;
+
+    private final List<MapItemStackIngredient> itemKeys = new ObjectArrayList<>();
+    private final List<MapItemStackNBTIngredient> itemNBTKeys = new ObjectArrayList<>();
+    private final List<MapOreDictIngredient> oreKeys = new ObjectArrayList<>();
+    private final List<MapOreDictNBTIngredient> oreNBTKeys = new ObjectArrayList<>();
+    // fluid keys are used as hash keys in the tree, so they stay immutable and are kept per fluid instead of reused
+    private final Map<Fluid, MapFluidIngredient> fluidKeys = new Reference2ObjectOpenHashMap<>();
+    private int itemKeysUsed;
+    private int itemNBTKeysUsed;
+    private int oreKeysUsed;
+    private int oreNBTKeysUsed;
+
+    private long voltage;
+    private boolean exactVoltage;
+    private List<ItemStack> matchItems;
+    private List<FluidStack> matchFluids;
+    private boolean testedCandidate;
+
+    private boolean inUse;
+
+    private RecipeLookupBuffer() {}
+
+    /**
+     * @return the buffer for the current thread, or null if it is already being used further up the call stack
+     */
+    @Nullable
+    public static RecipeLookupBuffer acquire() {
+        RecipeLookupBuffer buffer = BUFFERS.get();
+        if (buffer.inUse) return null;
+        buffer.inUse = true;
+        return buffer;
+    }
+
+    /**
+     * Releases this buffer, dropping every reference to the inputs of the last search.
+     */
+    public void release() {
+        Arrays.fill(uniqueItems, 0, uniqueItemCount, null);
+        uniqueItemCount = 0;
+        fluids.clear();
+        ingredients.clear();
+        for (int i = 0; i < ingredientListsUsed; i++) {
+            ingredientLists.get(i).clear();
+        }
+        ingredientListsUsed = 0;
+        itemKeysUsed = 0;
+        itemNBTKeysUsed = 0;
+        oreKeysUsed = 0;
+        oreNBTKeysUsed = 0;
+        matchItems = null;
+        matchFluids = null;
+        testedCandidate = false;
+        inUse = false;
+    }
+
+    /**
+     * Prepare the buffer for a recipe search.
+     *
+     * @param voltage             the maximum voltage of the recipe
+     * @param exactVoltage        whether the recipe voltage must match exactly
+     * @param inputs              the item inputs
+     * @param fluidInputs         the fluid inputs
+     * @param hasOreDictedInputs  if the searched map contains ore dictionary inputs
+     * @param hasNBTMatcherInputs if the searched map contains nbt matching inputs
+     * @return the ingredients to search with, or null if there is nothing to search with
+     */
+    @Nullable
+    public List<List<AbstractMapIngredient>> prepare(long voltage, boolean exactVoltage,
+                                                     @NotNull List<ItemStack> inputs,
+                                                     @NotNull List<FluidStack> fluidInputs,
+                                                     boolean hasOreDictedInputs, boolean hasNBTMatcherInputs) {
+        this.voltage = voltage;
+        this.exactVoltage = exactVoltage;
+        this.matchItems = inputs;
+        this.matchFluids = fluidInputs;
+
+        collectUniqueItems(inputs);
+        for (int i = 0; i < fluidInputs.size(); i++) {
+            FluidStack fluidStack = fluidInputs.get(i);
+            if (fluidStack != null && fluidStack.amount != 0) {
+                fluids.add(fluidStack);
+            }
+        }
+
+        if (uniqueItemCount == 0 && fluids.isEmpty()) return null;
+
+        for (int i = 0; i < uniqueItemCount; i++) {
+            buildFromItemStack(uniqueItems[i], hasOreDictedInputs, hasNBTMatcherInputs);
+        }
+        for (int i = 0; i < fluids.size(); i++) {
+            ObjectArrayList<AbstractMapIngredient> list = nextIngredientList();
+            list.add(nextFluidKey(fluids.get(i)));
+            ingredients.add(list);
+        }
+
+        if (ingredients.isEmpty()) return null;
+        return ingredients;
+    }
+
+    /**
+     * Same semantics as {@link gregtech.api.recipes.RecipeMap#uniqueItems(java.util.Collection)}, without the
+     * intermediate arrays.
+     */
+    private void collectUniqueItems(@NotNull List<ItemStack> inputs) {
+        if (uniqueItems.length < inputs.size()) {
+            uniqueItems = new ItemStack[Math.max(inputs.size(), uniqueItems.length * 2)];
+        }
+        main:
+        for (int i = 0; i < inputs.size(); i++) {
+            ItemStack input = inputs.get(i);
+            if (input.isEmpty()) {
+                continue;
+            }
+            for (int j = 0; j < uniqueItemCount; j++) {
+                ItemStack unique = uniqueItems[j];
+                if (input.isItemEqual(unique) && ItemStack.areItemStackTagsEqual(input, unique)) {
+                    continue main;
+                }
+            }
+            uniqueItems[uniqueItemCount++] = input;
+        }
+    }
+
+    private void buildFromItemStack(@NotNull ItemStack stack, boolean hasOreDictedInputs,
+                                    boolean hasNBTMatcherInputs) {
+        int meta = stack.getMetadata();
+        NBTTagCompound nbt = stack.getTagCompound();
+
+        ObjectArrayList<AbstractMapIngredient> list = nextIngredientList();
+        list.add(nextItemKey(stack, meta, nbt));
+
+        if (hasOreDictedInputs) {
+            for (int ore : OreDictionary.getOreIDs(stack)) {
+                list.add(nextOreKey(ore));
+                if (hasNBTMatcherInputs) {
+                    list.add(nextOreNBTKey(ore, nbt));
+                }
+            }
+        }
+        if (hasNBTMatcherInputs) {
+            list.add(nextItemNBTKey(stack, meta, nbt));
+        }
+        ingredients.add(list);
+    }
+
+    @NotNull
+    private ObjectArrayList<AbstractMapIngredient> nextIngredientList() {
+        if (ingredientListsUsed == ingredientLists.size()) {
+            ingredientLists.add(new ObjectArrayList<>(1));
+        }
+        return ingredientLists.get(ingredientListsUsed++);
+    }
+
+    @NotNull
+    private MapItemStackIngredient nextItemKey(@NotNull ItemStack stack, int meta, @Nullable NBTTagCompound nbt) {
+        if (itemKeysUsed == itemKeys.size()) {
+            itemKeys.add(new MapItemStackIngredient(stack, meta, nbt));
+        }
+        MapItemStackIngredient key = itemKeys.get(itemKeysUsed++);
+        key.reset(stack, meta, nbt);
+        return key;
+    }
+
+    @NotNull
+    private MapItemStackNBTIngredient nextItemNBTKey(@NotNull ItemStack stack, int meta,
+                                                     @Nullable NBTTagCompound nbt) {
+        if (itemNBTKeysUsed == itemNBTKeys.size()) {
+            itemNBTKeys.add(new MapItemStackNBTIngredient(stack, meta, nbt));
+        }
+        MapItemStackNBTIngredient key = itemNBTKeys.get(itemNBTKeysUsed++);
+        key.reset(stack, meta, nbt);
+        return key;
+    }
+
+    @NotNull
+    private MapOreDictIngredient nextOreKey(int ore) {
+        if (oreKeysUsed == oreKeys.size()) {
+            oreKeys.add(new MapOreDictIngredient(ore));
+        }
+        MapOreDictIngredient key = oreKeys.get(oreKeysUsed++);
+        key.reset(ore);
+        return key;
+    }
+
+    @NotNull
+    private MapOreDictNBTIngredient nextOreNBTKey(int ore, @Nullable NBTTagCompound nbt) {
+        if (oreNBTKeysUsed == oreNBTKeys.size()) {
+            oreNBTKeys.add(new MapOreDictNBTIngredient(ore, nbt));
+        }
+        MapOreDictNBTIngredient key = oreNBTKeys.get(oreNBTKeysUsed++);
+        key.reset(ore, nbt);
+        return key;
+    }
+
+    @NotNull
+    private MapFluidIngredient nextFluidKey(@NotNull FluidStack fluidStack) {
+        if (fluidStack.tag != null) {
+            // fluids with nbt are rare, and their tags are not worth keeping
+            return new MapFluidIngredient(fluidStack);
+        }
+        MapFluidIngredient key = fluidKeys.get(fluidStack.getFluid());
+        if (key == null) {
+            key = new MapFluidIngredient(fluidStack);
+            fluidKeys.put(fluidStack.getFluid(), key);
+        }
+        return key;
+    }
+
+    /**
+     * @return if any recipe was tested against the inputs since this buffer was acquired
+     */
+    public boolean hasTestedCandidate() {
+        return testedCandidate;
+    }
+
+    /**
+     * Tests a recipe found in the tree against the inputs given in {@link #prepare}.
+     */
+    @Override
+    public boolean test(@NotNull Recipe recipe) {
+        this.testedCandidate = true;
+        if (exactVoltage && recipe.getEUt() != voltage) {
+            // if exact voltage is required, the recipe is not considered valid
+            return false;
+        }
+        if (recipe.getEUt() > voltage) {
+            // there is not enough voltage to consider the recipe valid
+            return false;
+        }
+        return recipe.matches(false, matchItems, matchFluids);
+    }
+}
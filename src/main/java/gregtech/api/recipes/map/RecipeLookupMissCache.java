@@ -0,0 +1,221 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.util.GTUtility;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A bounded cache of recipe search inputs for which a RecipeMap is known to contain no recipe.
+ * <p>
+ * Keys ignore stack amounts and slot order, so only searches which failed without ever reaching a candidate recipe
+ * may be recorded. Those results depend on nothing but the set of ingredients present. The cache must be cleared
+ * whenever the ingredient tree of its RecipeMap changes.
+ */
+public final class RecipeLookupMissCache {
+
+    private final ObjectLinkedOpenHashSet<Key> keys = new ObjectLinkedOpenHashSet<>();
+    // reused to probe the cache, only ever refers to the searched inputs while the lock is held
+    private final Key probe = new Key();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Check if a search is known to match no recipe, without allocating.
+     *
+     * @param inputs       the item inputs
+     * @param fluidInputs  the fluid inputs
+     * @param voltage      the voltage of the search
+     * @param exactVoltage whether the search requires an exact voltage
+     * @return if the inputs are known to match no recipe
+     */
+    public synchronized boolean contains(@NotNull List<ItemStack> inputs, @NotNull List<FluidStack> fluidInputs,
+                                         long voltage, boolean exactVoltage) {
+        Key key = probe.set(inputs, fluidInputs, voltage, exactVoltage);
+        try {
+            // moving to last keeps the most recently used entries away from eviction, the stored key is kept
+            if (keys.contains(key)) {
+                keys.addAndMoveToLast(key);
+                hits++;
+                return true;
+            }
+            misses++;
+            return false;
+        } finally {
+            probe.clear();
+        }
+    }
+
+    /**
+     * Record that a search matches no recipe, evicting the least recently used entries if needed. The inputs are
+     * copied, so later changes to the searched stacks do not affect the cache.
+     *
+     * @param inputs       the item inputs
+     * @param fluidInputs  the fluid inputs
+     * @param voltage      the voltage of the search
+     * @param exactVoltage whether the search requires an exact voltage
+     * @param capacity     the maximum amount of keys to keep
+     */
+    public synchronized void add(@NotNull List<ItemStack> inputs, @NotNull List<FluidStack> fluidInputs,
+                                 long voltage, boolean exactVoltage, int capacity) {
+        if (capacity <= 0) return;
+        keys.addAndMoveToLast(new Key().set(inputs, fluidInputs, voltage, exactVoltage).copy());
+        while (keys.size() > capacity) {
+            keys.removeFirst();
+            evictions++;
+        }
+    }
+
+    /**
+     * Remove all cached keys. Does not reset the counters.
+     */
+    public synchronized void invalidate() {
+        keys.clear();
+    }
+
+    public synchronized int size() {
+        return keys.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * The distinct ingredients and voltage tier of a recipe search, independent of stack amounts and slot order. Keys
+     * with equal fingerprints are still compared by their ingredients, so colliding fingerprints never hide a recipe.
+     * <p>
+     * Empty item stacks and fluid stacks without an amount are ignored, so a key may refer to the searched lists
+     * directly while probing the cache. Only copies are ever stored.
+     */
+    private static final class Key {
+
+        private long fingerprint;
+        private int tier;
+        private List<ItemStack> items = Collections.emptyList();
+        private List<FluidStack> fluids = Collections.emptyList();
+
+        @NotNull
+        private Key set(@NotNull List<ItemStack> inputs, @NotNull List<FluidStack> fluidInputs, long voltage,
+                        boolean exactVoltage) {
+            // entries are summed, so equal stacks in different slots do not cancel each other out
+            long hash = 0;
+            for (int i = 0; i < inputs.size(); i++) {
+                ItemStack stack = inputs.get(i);
+                if (stack.isEmpty()) continue;
+                NBTTagCompound tag = stack.getTagCompound();
+                long entry = ((long) Item.getIdFromItem(stack.getItem()) << 32) | (stack.getMetadata() & 0xFFFFFFFFL);
+                hash += HashCommon.mix(entry ^ HashCommon.mix((long) (tag == null ? 0 : tag.hashCode())));
+            }
+            for (int i = 0; i < fluidInputs.size(); i++) {
+                FluidStack fluidStack = fluidInputs.get(i);
+                if (isEmpty(fluidStack)) continue;
+                long entry = ((long) fluidStack.getFluid().getName().hashCode() << 32) |
+                        ((fluidStack.tag == null ? 0 : fluidStack.tag.hashCode()) & 0xFFFFFFFFL);
+                hash += HashCommon.mix(~entry);
+            }
+            this.tier = (GTUtility.getTierByVoltage(voltage) << 1) | (exactVoltage ? 1 : 0);
+            this.fingerprint = HashCommon.mix(hash ^ HashCommon.mix(tier + 1L));
+            this.items = inputs;
+            this.fluids = fluidInputs;
+            return this;
+        }
+
+        private void clear() {
+            this.items = Collections.emptyList();
+            this.fluids = Collections.emptyList();
+        }
+
+        @NotNull
+        private Key copy() {
+            Key key = new Key();
+            key.fingerprint = fingerprint;
+            key.tier = tier;
+            List<ItemStack> items = new ArrayList<>(this.items.size());
+            for (int i = 0; i < this.items.size(); i++) {
+                ItemStack stack = this.items.get(i);
+                if (!stack.isEmpty()) items.add(stack.copy());
+            }
+            List<FluidStack> fluids = new ArrayList<>(this.fluids.size());
+            for (int i = 0; i < this.fluids.size(); i++) {
+                FluidStack fluidStack = this.fluids.get(i);
+                if (!isEmpty(fluidStack)) fluids.add(fluidStack.copy());
+            }
+            key.items = items;
+            key.fluids = fluids;
+            return key;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(fingerprint);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key other)) return false;
+            return fingerprint == other.fingerprint && tier == other.tier &&
+                    containsAllItems(items, other.items) && containsAllItems(other.items, items) &&
+                    containsAllFluids(fluids, other.fluids) && containsAllFluids(other.fluids, fluids);
+        }
+
+        private static boolean isEmpty(@Nullable FluidStack fluidStack) {
+            return fluidStack == null || fluidStack.amount == 0;
+        }
+
+        private static boolean containsAllItems(@NotNull List<ItemStack> stacks, @NotNull List<ItemStack> other) {
+            outer:
+            for (int i = 0; i < other.size(); i++) {
+                ItemStack stack = other.get(i);
+                if (stack.isEmpty()) continue;
+                for (int j = 0; j < stacks.size(); j++) {
+                    ItemStack candidate = stacks.get(j);
+                    if (!candidate.isEmpty() && candidate.isItemEqual(stack) &&
+                            ItemStack.areItemStackTagsEqual(candidate, stack)) {
+                        continue outer;
+                    }
+                }
+                return false;
+            }
+            return true;
+        }
+
+        private static boolean containsAllFluids(@NotNull List<FluidStack> stacks, @NotNull List<FluidStack> other) {
+            outer:
+            for (int i = 0; i < other.size(); i++) {
+                FluidStack stack = other.get(i);
+                if (isEmpty(stack)) continue;
+                for (int j = 0; j < stacks.size(); j++) {
+                    FluidStack candidate = stacks.get(j);
+                    if (!isEmpty(candidate) && candidate.isFluidEqual(stack)) {
+                        continue outer;
+                    }
+                }
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.GTValues;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.ingredients.GTRecipeInput;
+import gregtech.api.util.GTLog;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.ModContainer;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Stores {@link CompiledRecipeLookup}s on disk, so unchanged restarts can skip building the ingredient trees.
+ * <p>
+ * A snapshot does not contain any recipes or ingredients. Recipes are referred to by their index in the order they
+ * were registered, and ingredients by the recipe, input and alternative they were first created from. Snapshots are
+ * keyed by a hash of the loaded mods, and are only used when the registered recipes also match the checksum they were
+ * saved with.
+ */
+@ApiStatus.Internal
+public final class RecipeLookupSnapshot {
+
+    private static final int MAGIC = 0x4754524C;
+    private static final int VERSION = 2;
+    private static final int KEY_LENGTH = 32;
+
+    private RecipeLookupSnapshot() {}
+
+    /**
+     * Computes the key snapshots are stored with. Hashes the id, version and source of every loaded mod. Configs and
+     * scripts are not hashed, as the recipes they change are checked against the checksum saved with the snapshot.
+     *
+     * @return the key
+     */
+    public static byte @NotNull [] computeKey() {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(VERSION);
+        for (ModContainer mod : Loader.instance().getActiveModList()) {
+            hasher.putString(mod.getModId(), StandardCharsets.UTF_8);
+            hasher.putString(mod.getVersion(), StandardCharsets.UTF_8);
+            File source = mod.getSource();
+            if (source != null && source.isFile()) {
+                hasher.putLong(source.length());
+                hasher.putLong(source.lastModified());
+            }
+        }
+        return hasher.hash().asBytes();
+    }
+
+    /**
+     * @param name the unlocalized name of the RecipeMap
+     * @return the path of the snapshot file for the RecipeMap
+     */
+    @NotNull
+    public static Path getPath(@NotNull String name) {
+        Path gameDir = Loader.instance().getConfigDir().toPath().toAbsolutePath().getParent();
+        return gameDir.resolve(GTValues.MODID).resolve("recipe_lookup")
+                .resolve(name.replaceAll("[^a-zA-Z0-9_.-]", "_") + ".bin");
+    }
+
+    /**
+     * Writes a snapshot of a lookup.
+     *
+     * @param path       the path to write to
+     * @param key        the key from {@link #computeKey()}
+     * @param recipes    every recipe given to the RecipeMap while building the lookup, in registration order
+     * @param lookup     the lookup to write
+     * @param fromRecipe the function used by the RecipeMap to create ingredients from recipes
+     * @return if the snapshot was written
+     */
+    public static boolean write(@NotNull Path path, byte @NotNull [] key, @NotNull List<Recipe> recipes,
+                                @NotNull CompiledRecipeLookup lookup,
+                                @NotNull Function<Recipe, List<List<AbstractMapIngredient>>> fromRecipe) {
+        Reference2IntOpenHashMap<Recipe> recipeOrder = new Reference2IntOpenHashMap<>(recipes.size());
+        recipeOrder.defaultReturnValue(-1);
+        for (int i = recipes.size() - 1; i >= 0; i--) {
+            recipeOrder.put(recipes.get(i), i);
+        }
+
+        Recipe[] leaves = lookup.getRecipes();
+        int[] recipeIndices = new int[leaves.length];
+        for (int i = 0; i < leaves.length; i++) {
+            recipeIndices[i] = recipeOrder.getInt(leaves[i]);
+            if (recipeIndices[i] == -1) return false;
+        }
+
+        int[] sources = findIngredientSources(recipes, lookup.getIngredients(), fromRecipe);
+        if (sources == null) return false;
+
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.write(key);
+                out.writeInt(recipes.size());
+                out.writeLong(checksum(recipes));
+
+                writeArray(out, lookup.getNodeStart());
+                writeArray(out, lookup.getChildIngredients());
+                writeArray(out, lookup.getChildTargets());
+                writeArray(out, recipeIndices);
+                writeArray(out, sources);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            GTLog.logger.error("Failed to write recipe lookup snapshot {}", path, e);
+            return false;
+        }
+    }
+
+    /**
+     * Finds the first recipe, input and alternative each ingredient of a lookup is created from.
+     *
+     * @return the sources, as four ints per ingredient, or null if an ingredient could not be found
+     */
+    private static int @Nullable [] findIngredientSources(@NotNull List<Recipe> recipes,
+                                                          @NotNull AbstractMapIngredient[] ingredients,
+                                                          @NotNull Function<Recipe, List<List<AbstractMapIngredient>>> fromRecipe) {
+        // ingredients are interned, so the ones created here are the same objects as the ones in the lookup
+        Reference2IntOpenHashMap<AbstractMapIngredient> ingredientIds = new Reference2IntOpenHashMap<>(
+                ingredients.length);
+        ingredientIds.defaultReturnValue(-1);
+        for (int i = 0; i < ingredients.length; i++) {
+            ingredientIds.put(ingredients[i], i);
+        }
+
+        int[] sources = new int[ingredients.length * 4];
+        Arrays.fill(sources, -1);
+        int found = 0;
+        for (int r = 0; r < recipes.size() && found < ingredients.length; r++) {
+            List<List<AbstractMapIngredient>> inputs = fromRecipe.apply(recipes.get(r));
+            for (int i = 0; i < inputs.size(); i++) {
+                List<AbstractMapIngredient> alternatives = inputs.get(i);
+                for (int j = 0; j < alternatives.size(); j++) {
+                    int id = ingredientIds.getInt(alternatives.get(j));
+                    if (id == -1 || sources[id * 4] != -1) continue;
+                    sources[id * 4] = r;
+                    sources[id * 4 + 1] = i;
+                    sources[id * 4 + 2] = j;
+                    sources[id * 4 + 3] = ingredients[id].getClass().getName().hashCode();
+                    found++;
+                }
+            }
+        }
+        return found == ingredients.length ? sources : null;
+    }
+
+    private static void writeArray(@NotNull DataOutputStream out, int @NotNull [] array) throws IOException {
+        out.writeInt(array.length);
+        for (int value : array) {
+            out.writeInt(value);
+        }
+    }
+
+    /**
+     * Reads a snapshot, validating it against the recipes registered to the RecipeMap.
+     *
+     * @param path       the path to read from
+     * @param key        the key from {@link #computeKey()}
+     * @param recipes    every recipe given to the RecipeMap, in registration order
+     * @param fromRecipe the function used by the RecipeMap to create ingredients from recipes
+     * @return the lookup, or null if there is no valid snapshot
+     */
+    @Nullable
+    public static CompiledRecipeLookup read(@NotNull Path path, byte @NotNull [] key, @NotNull List<Recipe> recipes,
+                                            @NotNull Function<Recipe, List<List<AbstractMapIngredient>>> fromRecipe) {
+        if (!Files.isRegularFile(path)) return null;
+
+        // read into memory rather than mapping, as a mapped file cannot be replaced on Windows until it is collected
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        } catch (IOException e) {
+            return discard(path, e.toString());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) return discard(path, "unknown format");
+            byte[] storedKey = new byte[KEY_LENGTH];
+            buffer.get(storedKey);
+            if (!Arrays.equals(storedKey, key)) return discard(path, "mods changed");
+            if (buffer.getInt() != recipes.size() || buffer.getLong() != checksum(recipes)) {
+                return discard(path, "registered recipes changed");
+            }
+            return read(path, buffer, recipes, fromRecipe);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return discard(path, e.toString());
+        }
+    }
+
+    @Nullable
+    private static CompiledRecipeLookup read(@NotNull Path path, @NotNull ByteBuffer buffer,
+                                             @NotNull List<Recipe> recipes,
+                                             @NotNull Function<Recipe, List<List<AbstractMapIngredient>>> fromRecipe) {
+        int[] nodeStart = readArray(buffer);
+        int[] childIngredients = readArray(buffer);
+        int[] childTargets = readArray(buffer);
+        int[] recipeIndices = readArray(buffer);
+        int[] sources = readArray(buffer);
+        if (buffer.hasRemaining()) return discard(path, "trailing data");
+
+        int nodes = nodeStart.length - 1;
+        int ingredientCount = sources.length / 4;
+        if (nodes < 1 || sources.length % 4 != 0 || childIngredients.length != childTargets.length ||
+                nodeStart[0] != 0 || nodeStart[nodes] != childIngredients.length) {
+            return discard(path, "malformed layout");
+        }
+        for (int i = 0; i < nodes; i++) {
+            if (nodeStart[i] > nodeStart[i + 1]) return discard(path, "malformed layout");
+        }
+        for (int i = 0; i < childIngredients.length; i++) {
+            int target = childTargets[i];
+            if (childIngredients[i] < 0 || childIngredients[i] >= ingredientCount ||
+                    (target >= 0 ? target >= nodes : ~target >= recipeIndices.length)) {
+                return discard(path, "malformed layout");
+            }
+        }
+
+        Recipe[] leaves = new Recipe[recipeIndices.length];
+        for (int i = 0; i < recipeIndices.length; i++) {
+            if (recipeIndices[i] < 0 || recipeIndices[i] >= recipes.size()) return discard(path, "unknown recipe");
+            leaves[i] = recipes.get(recipeIndices[i]);
+        }
+
+        Int2ObjectOpenHashMap<List<List<AbstractMapIngredient>>> created = new Int2ObjectOpenHashMap<>();
+        AbstractMapIngredient[] ingredients = new AbstractMapIngredient[ingredientCount];
+        for (int id = 0; id < ingredientCount; id++) {
+            int recipe = sources[id * 4];
+            int input = sources[id * 4 + 1];
+            int alternative = sources[id * 4 + 2];
+            if (recipe < 0 || recipe >= recipes.size()) return discard(path, "unknown recipe");
+
+            List<List<AbstractMapIngredient>> inputs = created.get(recipe);
+            if (inputs == null) {
+                inputs = fromRecipe.apply(recipes.get(recipe));
+                created.put(recipe, inputs);
+            }
+            if (input < 0 || input >= inputs.size() || alternative < 0 ||
+                    alternative >= inputs.get(input).size()) {
+                return discard(path, "unknown ingredient");
+            }
+            AbstractMapIngredient ingredient = inputs.get(input).get(alternative);
+            if (ingredient.getClass().getName().hashCode() != sources[id * 4 + 3]) {
+                return discard(path, "unknown ingredient");
+            }
+            ingredients[id] = ingredient;
+        }
+
+        return CompiledRecipeLookup.create(ingredients, leaves, nodeStart, childIngredients, childTargets);
+    }
+
+    private static int @NotNull [] readArray(@NotNull ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining() / 4) {
+            throw new IllegalArgumentException("Invalid array length " + length);
+        }
+        int[] array = new int[length];
+        buffer.asIntBuffer().get(array);
+        buffer.position(buffer.position() + length * 4);
+        return array;
+    }
+
+    @Nullable
+    private static CompiledRecipeLookup discard(@NotNull Path path, @NotNull String reason) {
+        GTLog.logger.debug("Discarding recipe lookup snapshot {}: {}", path, reason);
+        return null;
+    }
+
+    /**
+     * Computes a checksum of the recipes given to a RecipeMap. Only uses values which are stable across restarts.
+     */
+    private static long checksum(@NotNull List<Recipe> recipes) {
+        long hash = 0;
+        for (Recipe recipe : recipes) {
+            hash = HashCommon.mix(hash + checksum(recipe));
+        }
+        return hash;
+    }
+
+    private static long checksum(@NotNull Recipe recipe) {
+        long hash = recipe.getDuration();
+        hash = 31 * hash + recipe.getEUt();
+        for (GTRecipeInput input : recipe.getInputs()) {
+            hash = 31 * hash + input.getAmount();
+            hash = 31 * hash + (input.isNonConsumable() ? 1 : 0);
+            hash = 31 * hash + (input.hasNBTMatchingCondition() ? 1 : 0);
+            if (input.isOreDict()) {
+                hash = 31 * hash + input.getOreDict();
+            } else if (input.getInputStacks() != null) {
+                for (ItemStack stack : input.getInputStacks()) {
+                    hash = 31 * hash + Item.getIdFromItem(stack.getItem());
+                    hash = 31 * hash + stack.getMetadata();
+                    if (stack.getTagCompound() != null) {
+                        hash = 31 * hash + stack.getTagCompound().hashCode();
+                    }
+                }
+            }
+        }
+        for (GTRecipeInput input : recipe.getFluidInputs()) {
+            hash = 31 * hash + input.getAmount();
+            hash = 31 * hash + (input.isNonConsumable() ? 1 : 0);
+            FluidStack fluidStack = input.getInputFluidStack();
+            if (fluidStack != null) {
+                hash = 31 * hash + fluidStack.getFluid().getName().hashCode();
+                if (fluidStack.tag != null) {
+                    hash = 31 * hash + fluidStack.tag.hashCode();
+                }
+            }
+        }
+        hash = 31 * hash + recipe.getOutputs().size();
+        hash = 31 * hash + recipe.getFluidOutputs().size();
+        return hash;
+    }
+}
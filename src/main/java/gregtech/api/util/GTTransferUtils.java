@@ -1,5 +1,6 @@
 package gregtech.api.util;
 
+import gregtech.api.capability.IIndexedItemHandler;
 import gregtech.api.capability.IMultipleTankHandler;
 
 import net.minecraft.item.ItemStack;
@@ -175,6 +176,9 @@ public class GTTransferUtils {
         if (handler == null || stack.isEmpty()) {
             return stack;
         }
+        if (handler instanceof IIndexedItemHandler indexedHandler) {
+            return indexedHandler.insertItem(stack, simulate);
+        }
 
         IntList emptySlots = new IntArrayList();
         int slots = handler.getSlots();
@@ -4,52 +4,86 @@ import gregtech.api.GTValues;
 import gregtech.api.util.GTLog;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.MapStorage;
 import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fluids.IFluidTank;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 
+/**
+ * Saves the entries of each owner in their own {@link Shard}, which is only written when the owner's entries changed.
+ * This saved data only keeps the list of owners.
+ */
 @SuppressWarnings("SameParameterValue")
 public class VirtualEnderRegistry extends WorldSavedData {
 
     private static final String DATA_ID = GTValues.MODID + ".virtual_entry_data";
     private static final String OLD_DATA_ID = GTValues.MODID + ".vtank_data";
+    private static final String SHARD_PREFIX = DATA_ID + ".";
     private static final String PUBLIC_KEY = "Public";
     private static final String PRIVATE_KEY = "Private";
+    private static final String OWNERS_KEY = "Owners";
+    private static final String PUBLIC_OWNER = "public";
     private static final Map<UUID, VirtualRegistryMap> VIRTUAL_REGISTRIES = new HashMap<>();
 
+    @Nullable
+    private static MapStorage storage;
+    @Nullable
+    private static VirtualEnderRegistry index;
+
+    /** The owners with a shard, as read from NBT */
+    private final List<String> savedOwners = new ArrayList<>();
+
     public VirtualEnderRegistry(String name) {
         super(name);
     }
 
-    public static <T extends VirtualEntry> T getEntry(@Nullable UUID owner, EntryTypes<T> type, String name) {
+    public static synchronized <T extends VirtualEntry> T getEntry(@Nullable UUID owner, EntryTypes<T> type,
+                                                                   String name) {
         return getRegistry(owner).getEntry(type, name);
     }
 
-    public static void addEntry(@Nullable UUID owner, String name, VirtualEntry entry) {
+    public static synchronized void addEntry(@Nullable UUID owner, String name, VirtualEntry entry) {
         getRegistry(owner).addEntry(name, entry);
     }
 
-    public static boolean hasEntry(@Nullable UUID owner, EntryTypes<?> type, String name) {
+    public static synchronized boolean hasEntry(@Nullable UUID owner, EntryTypes<?> type, String name) {
         return getRegistry(owner).contains(type, name);
     }
 
-    public static @NotNull <T extends VirtualEntry> T getOrCreateEntry(@Nullable UUID owner, EntryTypes<T> type,
-                                                                       String name) {
-        if (!hasEntry(owner, type, name))
-            addEntry(owner, name, type.createInstance());
-
-        return getEntry(owner, type, name);
+    /**
+     * Looks up an entry, creating it if it does not exist. Holders of the returned entry may keep it for as long as it
+     * is not {@link VirtualEntry#isRemoved() removed}, instead of looking it up again.
+     *
+     * @param owner The uuid of the player the entry is private to, or null if the entry is public
+     * @param type  Type of the entry
+     * @param name  The name of the entry
+     * @return the entry
+     */
+    public static synchronized @NotNull <T extends VirtualEntry> T getOrCreateEntry(@Nullable UUID owner,
+                                                                                    EntryTypes<T> type, String name) {
+        var registry = getRegistry(owner);
+        T entry = registry.getEntry(type, name);
+        if (entry == null) {
+            entry = type.createInstance();
+            registry.addEntry(name, entry);
+        }
+        return entry;
     }
 
     /**
@@ -59,7 +93,7 @@ public class VirtualEnderRegistry extends WorldSavedData {
      * @param type  Type of the registry to remove from
      * @param name  The name of the entry
      */
-    public static void deleteEntry(@Nullable UUID owner, EntryTypes<?> type, String name) {
+    public static synchronized void deleteEntry(@Nullable UUID owner, EntryTypes<?> type, String name) {
         var registry = getRegistry(owner);
         if (registry.contains(type, name)) {
             registry.deleteEntry(type, name);
@@ -69,30 +103,66 @@ public class VirtualEnderRegistry extends WorldSavedData {
                 owner == null ? "public" : String.format("private [%s]", owner), name, type);
     }
 
-    public static <T extends VirtualEntry> void deleteEntry(@Nullable UUID owner, EntryTypes<T> type, String name,
-                                                            Predicate<T> shouldDelete) {
+    public static synchronized <T extends VirtualEntry> void deleteEntry(@Nullable UUID owner, EntryTypes<T> type,
+                                                                         String name, Predicate<T> shouldDelete) {
         T entry = getEntry(owner, type, name);
         if (entry != null && shouldDelete.test(entry))
             deleteEntry(owner, type, name);
     }
 
-    public static Set<String> getEntryNames(UUID owner, EntryTypes<?> type) {
-        return getRegistry(owner).getEntryNames(type);
+    /**
+     * @return a copy of the names of an owner's entries of a type
+     */
+    public static synchronized Set<String> getEntryNames(UUID owner, EntryTypes<?> type) {
+        return new HashSet<>(getRegistry(owner).getEntryNames(type));
     }
 
     /**
      * To be called on server stopped event
      */
-    public static void clearMaps() {
+    public static synchronized void clearMaps() {
         VIRTUAL_REGISTRIES.clear();
+        storage = null;
+        index = null;
     }
 
     private static VirtualRegistryMap getRegistry(UUID owner) {
-        return VIRTUAL_REGISTRIES.computeIfAbsent(owner, key -> new VirtualRegistryMap());
+        VirtualRegistryMap registry = VIRTUAL_REGISTRIES.get(owner);
+        if (registry == null) {
+            registry = new VirtualRegistryMap();
+            VIRTUAL_REGISTRIES.put(owner, registry);
+            if (storage != null) {
+                addShard(storage, owner, registry);
+            }
+        }
+        return registry;
+    }
+
+    private static void addShard(@NotNull MapStorage storage, @Nullable UUID owner,
+                                 @NotNull VirtualRegistryMap registry) {
+        storage.setData(getShardName(owner), new Shard(owner, registry));
+        if (index != null) {
+            index.markDirty();
+        }
+    }
+
+    @NotNull
+    private static String getShardName(@Nullable UUID owner) {
+        return SHARD_PREFIX + getOwnerKey(owner);
+    }
+
+    @NotNull
+    private static String getOwnerKey(@Nullable UUID owner) {
+        return owner == null ? PUBLIC_OWNER : owner.toString();
+    }
+
+    @Nullable
+    private static UUID getOwner(@NotNull String ownerKey) {
+        return PUBLIC_OWNER.equals(ownerKey) ? null : UUID.fromString(ownerKey);
     }
 
     // remove if tank app is removed
-    public static Map<UUID, Map<String, IFluidTank>> createTankMap() {
+    public static synchronized Map<UUID, Map<String, IFluidTank>> createTankMap() {
         Map<UUID, Map<String, IFluidTank>> map = new HashMap<>();
         for (var uuid : VIRTUAL_REGISTRIES.keySet()) {
             map.put(uuid, new HashMap<>());
@@ -105,45 +175,48 @@ public class VirtualEnderRegistry extends WorldSavedData {
 
     @Override
     public final void readFromNBT(NBTTagCompound nbt) {
+        // entries saved before they were split by owner, which are moved to shards on the next save
         if (nbt.hasKey(PUBLIC_KEY)) {
-            VIRTUAL_REGISTRIES.put(null, new VirtualRegistryMap(nbt.getCompoundTag(PUBLIC_KEY)));
+            readLegacyRegistry(null, nbt.getCompoundTag(PUBLIC_KEY));
         }
         if (nbt.hasKey(PRIVATE_KEY)) {
             NBTTagCompound privateEntries = nbt.getCompoundTag(PRIVATE_KEY);
             for (String owner : privateEntries.getKeySet()) {
-                var privateMap = privateEntries.getCompoundTag(owner);
-                VIRTUAL_REGISTRIES.put(UUID.fromString(owner), new VirtualRegistryMap(privateMap));
+                readLegacyRegistry(UUID.fromString(owner), privateEntries.getCompoundTag(owner));
             }
         }
+
+        NBTTagList owners = nbt.getTagList(OWNERS_KEY, Constants.NBT.TAG_STRING);
+        for (int i = 0; i < owners.tagCount(); i++) {
+            savedOwners.add(owners.getStringTagAt(i));
+        }
+    }
+
+    private static void readLegacyRegistry(@Nullable UUID owner, @NotNull NBTTagCompound tag) {
+        var registry = new VirtualRegistryMap(tag);
+        registry.markDirty();
+        VIRTUAL_REGISTRIES.put(owner, registry);
     }
 
     @NotNull
     @Override
     public final NBTTagCompound writeToNBT(@NotNull NBTTagCompound tag) {
-        var privateTag = new NBTTagCompound();
-        for (var owner : VIRTUAL_REGISTRIES.keySet()) {
-            var mapTag = VIRTUAL_REGISTRIES.get(owner).serializeNBT();
-            if (owner != null) {
-                privateTag.setTag(owner.toString(), mapTag);
-            } else {
-                tag.setTag(PUBLIC_KEY, mapTag);
+        var owners = new NBTTagList();
+        synchronized (VirtualEnderRegistry.class) {
+            for (var owner : VIRTUAL_REGISTRIES.keySet()) {
+                owners.appendTag(new NBTTagString(getOwnerKey(owner)));
             }
         }
-        tag.setTag(PRIVATE_KEY, privateTag);
+        tag.setTag(OWNERS_KEY, owners);
         return tag;
     }
 
-    @Override
-    public boolean isDirty() {
-        // can't think of a good way to mark dirty other than always
-        return true;
-    }
-
     /**
      * To be called on world load event
      */
     @SuppressWarnings("DataFlowIssue")
-    public static void initializeStorage(World world) {
+    public static synchronized void initializeStorage(World world) {
+        if (world.isRemote) return;
         MapStorage storage = world.getMapStorage();
 
         VirtualEnderRegistry instance = (VirtualEnderRegistry) storage.getOrLoadData(VirtualEnderRegistry.class,
@@ -157,7 +230,7 @@ public class VirtualEnderRegistry extends WorldSavedData {
         }
 
         if (old != null) {
-            instance.readFromNBT(old.serializeNBT());
+            // the old data was read into the registries when it was loaded
             var file = world.getSaveHandler().getMapFileFromName(OLD_DATA_ID);
             var split = file.getName().split("\\.");
             var stringBuilder = new StringBuilder(split[0])
@@ -171,5 +244,69 @@ public class VirtualEnderRegistry extends WorldSavedData {
                 GTLog.logger.warn("Moved Virtual Tank Data to new format, created backup!");
             }
         }
+
+        VirtualEnderRegistry.storage = storage;
+        VirtualEnderRegistry.index = instance;
+        for (String owner : instance.savedOwners) {
+            storage.getOrLoadData(Shard.class, SHARD_PREFIX + owner);
+        }
+        instance.savedOwners.clear();
+
+        // give a shard to the owners read from old data, or added before the world was loaded
+        for (var entry : VIRTUAL_REGISTRIES.entrySet()) {
+            if (storage.getOrLoadData(Shard.class, getShardName(entry.getKey())) == null) {
+                addShard(storage, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * The entries of a single owner, saved to their own file.
+     */
+    public static class Shard extends WorldSavedData {
+
+        @Nullable
+        private final UUID owner;
+        @NotNull
+        private VirtualRegistryMap registry;
+
+        /**
+         * Used by {@link MapStorage} when loading a shard.
+         */
+        public Shard(String name) {
+            super(name);
+            this.owner = getOwner(name.substring(SHARD_PREFIX.length()));
+            this.registry = new VirtualRegistryMap();
+        }
+
+        private Shard(@Nullable UUID owner, @NotNull VirtualRegistryMap registry) {
+            super(getShardName(owner));
+            this.owner = owner;
+            this.registry = registry;
+        }
+
+        @Override
+        public void readFromNBT(@NotNull NBTTagCompound nbt) {
+            this.registry = new VirtualRegistryMap(nbt);
+            VIRTUAL_REGISTRIES.put(owner, registry);
+        }
+
+        @NotNull
+        @Override
+        public NBTTagCompound writeToNBT(@NotNull NBTTagCompound tag) {
+            synchronized (VirtualEnderRegistry.class) {
+                // cleared first, so changes made while saving are saved again
+                registry.setDirty(false);
+                tag.merge(registry.serializeNBT());
+            }
+            return tag;
+        }
+
+        @Override
+        public boolean isDirty() {
+            synchronized (VirtualEnderRegistry.class) {
+                return super.isDirty() || registry.isDirty();
+            }
+        }
     }
 }
@@ -14,6 +14,8 @@ public abstract class VirtualEntry implements INBTSerializable<NBTTagCompound> {
     private int color = 0xFFFFFFFF;
     private String colorStr = DEFAULT_COLOR;
     private @NotNull String description = "";
+    private volatile boolean dirty;
+    private volatile boolean removed;
 
     public abstract EntryTypes<? extends VirtualEntry> getType();
 
@@ -26,8 +28,11 @@ public abstract class VirtualEntry implements INBTSerializable<NBTTagCompound> {
     }
 
     public void setColor(String color) {
+        String colorStr = color.toUpperCase();
+        if (colorStr.equals(this.colorStr)) return;
         this.color = parseColor(color);
-        this.colorStr = color.toUpperCase();
+        this.colorStr = colorStr;
+        markDirty();
     }
 
     public void setColor(int color) {
@@ -48,7 +53,41 @@ public abstract class VirtualEntry implements INBTSerializable<NBTTagCompound> {
     }
 
     public void setDescription(@NotNull String desc) {
+        if (desc.equals(this.description)) return;
         this.description = desc;
+        markDirty();
+    }
+
+    /**
+     * Marks the entry as changed since it was last saved.
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    public void setDirty(boolean dirty) {
+        this.dirty = dirty;
+    }
+
+    /**
+     * @return if the entry changed since it was last saved
+     */
+    public boolean isDirty() {
+        return this.dirty;
+    }
+
+    /**
+     * Marks the entry as deleted from its registry, so holders of the entry know to look it up again.
+     */
+    public void markRemoved() {
+        this.removed = true;
+    }
+
+    /**
+     * @return if the entry was deleted from its registry
+     */
+    public boolean isRemoved() {
+        return this.removed;
     }
 
     @Override
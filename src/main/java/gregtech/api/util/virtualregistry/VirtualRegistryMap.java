@@ -13,6 +13,7 @@ import java.util.Set;
 public class VirtualRegistryMap implements INBTSerializable<NBTTagCompound> {
 
     private final Map<EntryTypes<?>, Map<String, VirtualEntry>> registryMap = new HashMap<>();
+    private boolean dirty;
 
     public VirtualRegistryMap(NBTTagCompound tag) {
         deserializeNBT(tag);
@@ -31,6 +32,7 @@ public class VirtualRegistryMap implements INBTSerializable<NBTTagCompound> {
     public void addEntry(String name, VirtualEntry entry) {
         registryMap.computeIfAbsent(entry.getType(), k -> new HashMap<>())
                 .put(name, entry);
+        markDirty();
     }
 
     public boolean contains(EntryTypes<?> type, String name) {
@@ -41,17 +43,59 @@ public class VirtualRegistryMap implements INBTSerializable<NBTTagCompound> {
     }
 
     public void deleteEntry(EntryTypes<?> type, String name) {
-        registryMap.get(type).remove(name);
+        VirtualEntry entry = registryMap.get(type).remove(name);
+        if (entry != null) {
+            entry.markRemoved();
+            markDirty();
+        }
     }
 
     public void clear() {
-        registryMap.clear();
+        if (!registryMap.isEmpty()) {
+            for (var entries : registryMap.values()) {
+                entries.values().forEach(VirtualEntry::markRemoved);
+            }
+            registryMap.clear();
+            markDirty();
+        }
     }
 
     public Set<String> getEntryNames(EntryTypes<?> type) {
         return registryMap.get(type).keySet();
     }
 
+    /**
+     * Marks the map as changed since it was last saved.
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * @param dirty if the map changed since it was last saved. Also sets whether all the entries of the map changed.
+     */
+    public void setDirty(boolean dirty) {
+        this.dirty = dirty;
+        for (var entries : registryMap.values()) {
+            for (var entry : entries.values()) {
+                entry.setDirty(dirty);
+            }
+        }
+    }
+
+    /**
+     * @return if entries were added to or removed from the map, or any of its entries changed, since it was last saved
+     */
+    public boolean isDirty() {
+        if (dirty) return true;
+        for (var entries : registryMap.values()) {
+            for (var entry : entries.values()) {
+                if (entry.isDirty()) return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public @NotNull NBTTagCompound serializeNBT() {
         var tag = new NBTTagCompound();
@@ -83,5 +127,6 @@ public class VirtualRegistryMap implements INBTSerializable<NBTTagCompound> {
                 addEntry(name, type.createInstance(entry));
             }
         }
+        setDirty(false);
     }
 }
@@ -12,6 +12,10 @@ import net.minecraftforge.fluids.capability.IFluidTankProperties;
 
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * A tank shared by every ender fluid link on its channel. Filling and draining are synchronized, so covers ticking on
+ * different threads can use the same tank.
+ */
 public class VirtualTank extends VirtualEntry implements IFluidTank, IFluidHandler {
 
     protected static final String CAPACITY_KEY = "capacity";
@@ -38,17 +42,22 @@ public class VirtualTank extends VirtualEntry implements IFluidTank, IFluidHandl
         return EntryTypes.ENDER_FLUID;
     }
 
+    /**
+     * @return a copy of the fluid in the tank, as the tank may be changed from another thread
+     */
+    @Nullable
     @Override
-    public FluidStack getFluid() {
-        return this.fluidStack;
+    public synchronized FluidStack getFluid() {
+        return this.fluidStack == null ? null : this.fluidStack.copy();
     }
 
-    public void setFluid(FluidStack fluid) {
+    public synchronized void setFluid(FluidStack fluid) {
         this.fluidStack = fluid;
+        markDirty();
     }
 
     @Override
-    public int getFluidAmount() {
+    public synchronized int getFluidAmount() {
         return fluidStack == null ? 0 : fluidStack.amount;
     }
 
@@ -81,7 +90,7 @@ public class VirtualTank extends VirtualEntry implements IFluidTank, IFluidHandl
     }
 
     @Override
-    public NBTTagCompound serializeNBT() {
+    public synchronized NBTTagCompound serializeNBT() {
         var tag = super.serializeNBT();
         tag.setInteger(CAPACITY_KEY, this.capacity);
 
@@ -92,7 +101,7 @@ public class VirtualTank extends VirtualEntry implements IFluidTank, IFluidHandl
     }
 
     @Override
-    public void deserializeNBT(NBTTagCompound nbt) {
+    public synchronized void deserializeNBT(NBTTagCompound nbt) {
         super.deserializeNBT(nbt);
         this.capacity = nbt.getInteger(CAPACITY_KEY);
 
@@ -101,42 +110,44 @@ public class VirtualTank extends VirtualEntry implements IFluidTank, IFluidHandl
     }
 
     @Override
-    public int fill(FluidStack fluidStack, boolean doFill) {
+    public synchronized int fill(FluidStack fluidStack, boolean doFill) {
         if (fluidStack == null || fluidStack.amount <= 0 ||
                 (this.fluidStack != null && !fluidStack.isFluidEqual(this.fluidStack)))
             return 0;
 
         int fillAmt = Math.min(fluidStack.amount, getCapacity() - this.getFluidAmount());
 
-        if (doFill) {
+        if (doFill && fillAmt > 0) {
             if (this.fluidStack == null) {
                 this.fluidStack = new FluidStack(fluidStack, fillAmt);
             } else {
                 this.fluidStack.amount += fillAmt;
             }
+            markDirty();
         }
         return fillAmt;
     }
 
     @Nullable
     @Override
-    public FluidStack drain(FluidStack resource, boolean doDrain) {
+    public synchronized FluidStack drain(FluidStack resource, boolean doDrain) {
         return resource == null || !resource.isFluidEqual(this.fluidStack) ? null : drain(resource.amount, doDrain);
     }
 
     @Nullable
     @Override
-    public FluidStack drain(int amount, boolean doDrain) {
+    public synchronized FluidStack drain(int amount, boolean doDrain) {
         if (this.fluidStack == null || amount <= 0)
             return null;
 
         int drainAmt = Math.min(this.getFluidAmount(), amount);
         FluidStack drainedFluid = new FluidStack(this.fluidStack, drainAmt);
-        if (doDrain) {
+        if (doDrain && drainAmt > 0) {
             this.fluidStack.amount -= drainAmt;
             if (this.fluidStack.amount <= 0) {
                 this.fluidStack = null;
             }
+            markDirty();
         }
         return drainedFluid;
     }
@@ -147,8 +158,7 @@ public class VirtualTank extends VirtualEntry implements IFluidTank, IFluidHandl
             @Nullable
             @Override
             public FluidStack getContents() {
-                FluidStack contents = tank.getFluid();
-                return contents == null ? null : contents.copy();
+                return tank.getFluid();
             }
 
             @Override
@@ -13,47 +13,30 @@ import gregtech.common.ConfigHolder;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.longs.*;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.apache.commons.lang3.tuple.MutablePair;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.concurrent.TimeUnit;
 
 public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IBlockModifierAccess {
 
-    private static final Map<World, Cache<Long, CachedGridEntry>> gridEntryCache = new WeakHashMap<>();
-
     public static CachedGridEntry getOrCreateEntry(World world, int gridX, int gridZ, int primerChunkX,
                                                    int primerChunkZ) {
-        Cache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
-        if (currentValue == null) {
-            currentValue = createGridCache();
-            gridEntryCache.put(world, currentValue);
-        }
-        Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
-        CachedGridEntry gridEntry = currentValue.getIfPresent(gridEntryKey);
-        if (gridEntry == null) {
-            gridEntry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ);
-            currentValue.put(gridEntryKey, gridEntry);
-        }
-        return gridEntry;
-    }
-
-    private static Cache<Long, CachedGridEntry> createGridCache() {
-        return CacheBuilder.newBuilder()
-                .maximumSize(300)
-                .expireAfterAccess(5L, TimeUnit.MINUTES)
-                .build();
+        return GridEntryCache.get(world).getOrCreate(world, gridX, gridZ, primerChunkX, primerChunkZ);
     }
 
     private final Long2ObjectMap<ChunkDataEntry> dataByChunkPos = new Long2ObjectOpenHashMap<>();
@@ -78,6 +61,15 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     private OreDepositDefinition currentOreVein;
 
     public CachedGridEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        this(world, gridX, gridZ, primerChunkX, primerChunkZ, true);
+    }
+
+    /**
+     * @param planVeins whether to plan the veins right away. Otherwise {@link #triggerVeinsGeneration()} must be
+     *                  called before the entry is used, which does not need the world and may happen on another
+     *                  thread.
+     */
+    CachedGridEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ, boolean planVeins) {
         this.gridX = gridX;
         this.gridZ = gridZ;
         long worldSeed = world.getSeed();
@@ -92,21 +84,30 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
                 WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
 
         this.worldSeaLevel = world.getSeaLevel();
-        this.masterEntry = searchMasterOrNull(world);
-        if (masterEntry == null) {
+        GTWorldGenCapability generatedEntry = searchMasterOrNull(world);
+        if (generatedEntry == null) {
             Chunk primerChunk = world.getChunk(primerChunkX, primerChunkZ);
             BlockPos heightSpot = findOptimalSpot(gridX, gridZ, primerChunkX, primerChunkZ);
             heightSpot = heightSpot.add(primerChunkX * 16, 0, primerChunkZ * 16);
             int masterHeight = world.getHeight(heightSpot).getY();
             int masterBottomHeight = world.getTopSolidOrLiquidBlock(heightSpot).getY();
-            this.masterEntry = primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
+            // planned entries keep their own heights, as the primer chunk may be outside their grid, and the heights
+            // are read on the planner thread. They are copied to chunks of the grid as those are populated.
+            this.masterEntry = planVeins ? primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null) : null;
             if (this.masterEntry == null) {
                 this.masterEntry = new GTWorldGenCapability();
             }
             this.masterEntry.setMaxHeight(masterHeight, masterBottomHeight);
+        } else if (planVeins) {
+            this.masterEntry = generatedEntry;
+        } else {
+            this.masterEntry = new GTWorldGenCapability();
+            this.masterEntry.setFrom(generatedEntry);
         }
 
-        triggerVeinsGeneration();
+        if (planVeins) {
+            triggerVeinsGeneration();
+        }
     }
 
     private static BlockPos findOptimalSpot(int gridX, int gridZ, int chunkX, int chunkZ) {
@@ -145,6 +146,31 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         return null;
     }
 
+    /**
+     * @return if creating the entry reads no chunk which is not loaded, as either the generated chunk its master entry
+     *         is read from is loaded, or none of its chunks were generated yet
+     */
+    static boolean isMasterLoaded(World world, int gridX, int gridZ) {
+        int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X;
+        int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z;
+        int startChunkX = gridX * gridSizeX;
+        int startChunkZ = gridZ * gridSizeZ;
+        // same order as searchMasterOrNull, where loaded chunks count as generated
+        for (int x = 0; x < gridSizeX; x++) {
+            for (int z = 0; z < gridSizeZ; z++) {
+                int chunkX = startChunkX + x;
+                int chunkZ = startChunkZ + z;
+                if (world.getChunkProvider().getLoadedChunk(chunkX, chunkZ) != null) {
+                    return true;
+                }
+                if (world.isChunkGeneratedAt(chunkX, chunkZ)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public int getTerrainHeight() {
         return masterEntry.getMaxHeight();
@@ -171,11 +197,23 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     }
 
     public boolean populateChunk(World world, int chunkX, int chunkZ, Random random) {
+        return populateChunk(world, chunkX, chunkZ, random, null);
+    }
+
+    /**
+     * @param indexedVeins the list to add the veins generated in the chunk to, for the {@link OreVeinIndex}
+     */
+    public boolean populateChunk(World world, int chunkX, int chunkZ, Random random,
+                                 @Nullable List<IndexedVein> indexedVeins) {
         long chunkId = (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
         ChunkDataEntry chunkDataEntry = dataByChunkPos.get(chunkId);
         GTWorldGenCapability capability = retrieveCapability(world, chunkX, chunkZ);
         capability.setFrom(masterEntry);
-        if (chunkDataEntry != null && chunkDataEntry.populateChunk(world)) {
+        if (chunkDataEntry == null) return false;
+        long start = System.nanoTime();
+        boolean generated = chunkDataEntry.populateChunk(world, veinGeneratedMap, indexedVeins);
+        GridEntryCache.recordPopulate(System.nanoTime() - start);
+        if (generated) {
             for (OreDepositDefinition definition : chunkDataEntry.generatedOres) {
                 IVeinPopulator veinPopulator = definition.getVeinPopulator();
                 if (veinPopulator instanceof VeinChunkPopulator) {
@@ -192,11 +230,12 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         long chunkId = (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
         ChunkDataEntry chunkDataEntry = dataByChunkPos.get(chunkId);
         if (chunkDataEntry != null) {
-            LongSet longSet = chunkDataEntry.generatedBlocksSet.get(definition);
-            List<IBlockState> blockStates = new ArrayList<>();
-            LongIterator iterator = longSet.iterator();
-            while (iterator.hasNext())
-                blockStates.add(Block.getStateById((int) iterator.nextLong()));
+            IntList stateIds = chunkDataEntry.generatedBlocksSet.get(definition);
+            if (stateIds == null) return Collections.emptyList();
+            List<IBlockState> blockStates = new ArrayList<>(stateIds.size());
+            for (int i = 0; i < stateIds.size(); i++) {
+                blockStates.add(Block.getStateById(stateIds.getInt(i)));
+            }
             return blockStates;
         }
         return Collections.emptyList();
@@ -316,7 +355,8 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     public static class ChunkDataEntry {
 
         private final Map<OreDepositDefinition, MutablePair<LongList, Integer>> oreBlocks = new Object2ObjectOpenHashMap<>();
-        private final Map<OreDepositDefinition, LongSet> generatedBlocksSet = new Object2ObjectOpenHashMap<>();
+        // only a handful of distinct states are generated per vein, so a list is cheaper than a set
+        private final Map<OreDepositDefinition, IntList> generatedBlocksSet = new Object2ObjectOpenHashMap<>();
         private final List<OreDepositDefinition> generatedOres = new ArrayList<>();
         private final int chunkX;
         private final int chunkZ;
@@ -346,14 +386,29 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         }
 
         public boolean populateChunk(World world) {
+            return populateChunk(world, null, null);
+        }
+
+        /**
+         * @param veinCenters  the centers of the veins of the grid entry, required when indexing
+         * @param indexedVeins the list to add the generated veins to, or null to not index them
+         */
+        public boolean populateChunk(World world, @Nullable Map<OreDepositDefinition, BlockPos> veinCenters,
+                                     @Nullable List<IndexedVein> indexedVeins) {
             MutableBlockPos blockPos = new MutableBlockPos();
+            // with direct placement, blocks are read from and written to the chunk sections where possible
+            Chunk chunk = ConfigHolder.performance.directOrePlacement ? world.getChunk(chunkX, chunkZ) : null;
+            ExtendedBlockStorage[] sections = chunk == null ? null : chunk.getBlockStorageArray();
+            boolean placedDirectly = false;
             boolean generatedAnything = false;
             for (Map.Entry<OreDepositDefinition, MutablePair<LongList, Integer>> entry : oreBlocks.entrySet()) {
                 OreDepositDefinition definition = entry.getKey();
                 LongList blockIndexList = entry.getValue().getLeft();
                 int lowestY = entry.getValue().getRight();
-                LongSet generatedBlocks = new LongOpenHashSet();
-                boolean generatedOreVein = false;
+                IntList generatedBlocks = null;
+                long[] columns = indexedVeins == null ? null : new long[4];
+                int minY = Integer.MAX_VALUE;
+                int maxY = Integer.MIN_VALUE;
                 // enhanced for loops cause boxing and unboxing with FastUtil collections
                 // noinspection ForLoopReplaceableByForEach
                 for (int i = 0; i < blockIndexList.size(); i++) {
@@ -364,7 +419,8 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
                     int blockY = (short) (xyzValue >> 16);
                     int index = (int) blockIndex;
                     blockPos.setPos(chunkX * 16 + blockX, blockY, chunkZ * 16 + blockZ);
-                    IBlockState currentState = world.getBlockState(blockPos);
+                    IBlockState currentState = sections == null ? world.getBlockState(blockPos) :
+                            getSectionBlockState(sections, blockX, blockY, blockZ);
                     IBlockState newState;
                     if (index == 0) {
                         // it's primary ore block
@@ -377,18 +433,74 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
                         VeinBufferPopulator populator = (VeinBufferPopulator) definition.getVeinPopulator();
                         newState = populator.getBlockByIndex(world, blockPos, index - 1);
                     }
-                    // set flags as 16 to avoid observer updates loading neighbour chunks
-                    world.setBlockState(blockPos, newState, 16);
-                    generatedBlocks.add(Block.getStateId(newState));
-                    generatedOreVein = true;
+                    if (sections != null &&
+                            setSectionBlockState(world, blockPos, sections, currentState, newState)) {
+                        placedDirectly = true;
+                    } else {
+                        // set flags as 16 to avoid observer updates loading neighbour chunks
+                        world.setBlockState(blockPos, newState, 16);
+                    }
+                    if (generatedBlocks == null) {
+                        generatedBlocks = new IntArrayList(4);
+                    }
+                    int stateId = Block.getStateId(newState);
+                    if (!generatedBlocks.contains(stateId)) {
+                        generatedBlocks.add(stateId);
+                    }
+                    if (columns != null) {
+                        int column = blockZ << 4 | blockX;
+                        columns[column >> 6] |= 1L << column;
+                        minY = Math.min(minY, blockY);
+                        maxY = Math.max(maxY, blockY);
+                    }
                     generatedAnything = true;
                 }
-                if (generatedOreVein) {
+                if (generatedBlocks != null) {
                     this.generatedBlocksSet.put(definition, generatedBlocks);
                     this.generatedOres.add(definition);
+                    if (indexedVeins != null) {
+                        BlockPos center = veinCenters == null ? null : veinCenters.get(definition);
+                        IBlockState[] states = new IBlockState[generatedBlocks.size()];
+                        for (int i = 0; i < states.length; i++) {
+                            states[i] = Block.getStateById(generatedBlocks.getInt(i));
+                        }
+                        indexedVeins.add(new IndexedVein(definition.getDepositName(),
+                                center == null ? 0 : center.toLong(), minY, maxY, columns, states));
+                    }
                 }
             }
+            if (placedDirectly) {
+                chunk.markDirty();
+            }
             return generatedAnything;
         }
+
+        @NotNull
+        private static IBlockState getSectionBlockState(@NotNull ExtendedBlockStorage[] sections, int x, int y, int z) {
+            ExtendedBlockStorage section = sections[y >> 4];
+            return section == Chunk.NULL_BLOCK_STORAGE ? Blocks.AIR.getDefaultState() : section.get(x, y & 15, z);
+        }
+
+        /**
+         * Writes a block state straight into its chunk section, if that skips nothing the world would do when setting
+         * it: the light and height map must stay the same, and neither block may have a tile entity.
+         *
+         * @return if the state was written
+         */
+        private static boolean setSectionBlockState(@NotNull World world, @NotNull BlockPos pos,
+                                                    @NotNull ExtendedBlockStorage[] sections,
+                                                    @NotNull IBlockState oldState, @NotNull IBlockState newState) {
+            ExtendedBlockStorage section = sections[pos.getY() >> 4];
+            if (section == Chunk.NULL_BLOCK_STORAGE) return false;
+            if (oldState.getBlock().hasTileEntity(oldState) || newState.getBlock().hasTileEntity(newState)) {
+                return false;
+            }
+            if (oldState.getLightOpacity(world, pos) != newState.getLightOpacity(world, pos) ||
+                    oldState.getLightValue(world, pos) != newState.getLightValue(world, pos)) {
+                return false;
+            }
+            section.set(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15, newState);
+            return true;
+        }
     }
 }
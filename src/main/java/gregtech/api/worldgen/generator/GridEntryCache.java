@@ -0,0 +1,229 @@
+package gregtech.api.worldgen.generator;
+
+import gregtech.api.util.GTLog;
+import gregtech.common.ConfigHolder;
+
+import net.minecraft.world.World;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link CachedGridEntry}s of a world, evicted least recently used first once the cache is full.
+ * <p>
+ * Entries can also be planned ahead of the chunks being generated, with {@link #planAhead}. The vein layout of an
+ * entry only depends on its grid position, the veins of its biome and its terrain height. These are resolved on the
+ * server thread, after which the veins are planned on a worker thread.
+ */
+public class GridEntryCache {
+
+    private static final Map<World, GridEntryCache> cachePerWorld = new WeakHashMap<>();
+
+    private static ExecutorService planner;
+
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static long plansStarted;
+    private static long plansUsed;
+    private static long plansWaitedFor;
+    private static long planWaitNanos;
+    private static long populates;
+    private static long populateNanos;
+
+    private final Long2ObjectLinkedOpenHashMap<CachedGridEntry> entries = new Long2ObjectLinkedOpenHashMap<>();
+    private final Long2ObjectLinkedOpenHashMap<CompletableFuture<CachedGridEntry>> plans =
+            new Long2ObjectLinkedOpenHashMap<>();
+
+    private GridEntryCache() {}
+
+    @NotNull
+    public static GridEntryCache get(@NotNull World world) {
+        return cachePerWorld.computeIfAbsent(world, k -> new GridEntryCache());
+    }
+
+    private static long getKey(int gridX, int gridZ) {
+        return (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Gets an entry, using an entry planned ahead if there is one, or creating it right away otherwise.
+     *
+     * @param primerChunkX the x position of the chunk to take the terrain height from, if the entry is created
+     * @param primerChunkZ the z position of the chunk to take the terrain height from, if the entry is created
+     */
+    @NotNull
+    public CachedGridEntry getOrCreate(@NotNull World world, int gridX, int gridZ, int primerChunkX,
+                                       int primerChunkZ) {
+        long key = getKey(gridX, gridZ);
+        CachedGridEntry entry = entries.getAndMoveToLast(key);
+        if (entry != null) {
+            hits++;
+            return entry;
+        }
+        misses++;
+
+        CompletableFuture<CachedGridEntry> plan = plans.remove(key);
+        if (plan != null) {
+            entry = joinPlan(plan, gridX, gridZ);
+        }
+        if (entry == null) {
+            entry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ);
+        }
+
+        entries.putAndMoveToLast(key, entry);
+        int maxSize = Math.max(1, ConfigHolder.performance.gridEntryCacheSize);
+        while (entries.size() > maxSize) {
+            entries.removeFirst();
+            evictions++;
+        }
+        return entry;
+    }
+
+    private static CachedGridEntry joinPlan(@NotNull CompletableFuture<CachedGridEntry> plan, int gridX, int gridZ) {
+        try {
+            if (plan.isDone()) {
+                plansUsed++;
+                return plan.join();
+            }
+            long start = System.nanoTime();
+            CachedGridEntry entry = plan.join();
+            planWaitNanos += System.nanoTime() - start;
+            plansWaitedFor++;
+            plansUsed++;
+            return entry;
+        } catch (CompletionException e) {
+            GTLog.logger.error("Failed to plan the veins of grid entry {}, {}", gridX, gridZ, e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Starts planning the veins of an entry on a worker thread, if it is not cached or being planned already. Entries
+     * which would need a chunk to be loaded from disk are not planned, and are created once they are needed instead.
+     *
+     * @param primerChunkX the x position of a generated chunk to take the terrain height from
+     * @param primerChunkZ the z position of a generated chunk to take the terrain height from
+     */
+    public void planAhead(@NotNull World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        long key = getKey(gridX, gridZ);
+        if (entries.containsKey(key) || plans.containsKey(key)) return;
+        if (!CachedGridEntry.isMasterLoaded(world, gridX, gridZ)) return;
+
+        CachedGridEntry entry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ, false);
+        plans.putAndMoveToLast(key, CompletableFuture.supplyAsync(() -> {
+            entry.triggerVeinsGeneration();
+            return entry;
+        }, getPlanner()));
+        plansStarted++;
+
+        // plans which were never needed are dropped like cached entries
+        int maxSize = Math.max(1, ConfigHolder.performance.gridEntryCacheSize);
+        while (plans.size() > maxSize) {
+            plans.removeFirst().cancel(false);
+        }
+    }
+
+    @NotNull
+    private static ExecutorService getPlanner() {
+        if (planner == null) {
+            int threads = ConfigHolder.performance.veinPlanningThreads;
+            if (threads <= 0) {
+                threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            }
+            AtomicInteger threadId = new AtomicInteger();
+            planner = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "GregTech Vein Planner #" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return planner;
+    }
+
+    static void recordPopulate(long nanos) {
+        populates++;
+        populateNanos += nanos;
+    }
+
+    /**
+     * @return the amount of entries cached in this world
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the amount of entries being planned, or planned but not used yet, in this world
+     */
+    public int getPendingPlans() {
+        return plans.size();
+    }
+
+    /**
+     * @return the caches of all worlds
+     */
+    @NotNull
+    public static Map<World, GridEntryCache> getAllCaches() {
+        return cachePerWorld;
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    public static long getEvictions() {
+        return evictions;
+    }
+
+    public static long getPlansStarted() {
+        return plansStarted;
+    }
+
+    /**
+     * @return the amount of cache misses which were served by an entry planned ahead
+     */
+    public static long getPlansUsed() {
+        return plansUsed;
+    }
+
+    /**
+     * @return the amount of entries planned ahead which were not finished when they were needed
+     */
+    public static long getPlansWaitedFor() {
+        return plansWaitedFor;
+    }
+
+    /**
+     * @return the total time the server thread waited for entries planned ahead, in nanoseconds
+     */
+    public static long getPlanWaitNanos() {
+        return planWaitNanos;
+    }
+
+    /**
+     * @return the amount of times ore blocks of an entry were placed in a chunk
+     */
+    public static long getPopulates() {
+        return populates;
+    }
+
+    /**
+     * @return the total time spent placing ore blocks in chunks, in nanoseconds
+     */
+    public static long getPopulateNanos() {
+        return populateNanos;
+    }
+}
@@ -0,0 +1,134 @@
+package gregtech.api.worldgen.generator;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTUtil;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.util.Constants;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The part of an ore vein which was generated in a single chunk, as recorded by the {@link OreVeinIndex}.
+ */
+public final class IndexedVein {
+
+    private final String depositName;
+    private final long center;
+    private final int minY;
+    private final int maxY;
+    private final long[] columns;
+    private final IBlockState[] states;
+
+    /**
+     * @param depositName the name of the vein's deposit definition
+     * @param center      the center of the whole vein, packed with {@link BlockPos#toLong()}
+     * @param minY        the lowest y position of a generated block
+     * @param maxY        the highest y position of a generated block
+     * @param columns     a 256 bit mask of the chunk's columns with a generated block, indexed by {@code z << 4 | x}
+     * @param states      the generated block states
+     */
+    public IndexedVein(@NotNull String depositName, long center, int minY, int maxY, long @NotNull [] columns,
+                       IBlockState @NotNull [] states) {
+        this.depositName = depositName;
+        this.center = center;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.columns = columns;
+        this.states = states;
+    }
+
+    @NotNull
+    public String getDepositName() {
+        return depositName;
+    }
+
+    @NotNull
+    public BlockPos getCenter() {
+        return BlockPos.fromLong(center);
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * @param x the x position in the chunk
+     * @param z the z position in the chunk
+     * @return if a block of the vein was generated in the column
+     */
+    public boolean hasColumn(int x, int z) {
+        int index = (z & 15) << 4 | (x & 15);
+        return (columns[index >> 6] & (1L << index)) != 0;
+    }
+
+    public int getStateCount() {
+        return states.length;
+    }
+
+    @NotNull
+    public IBlockState getState(int index) {
+        return states[index];
+    }
+
+    /**
+     * @return if the state is one of the generated states of the vein
+     */
+    public boolean hasState(@NotNull IBlockState state) {
+        for (IBlockState generated : states) {
+            if (generated == state) return true;
+        }
+        return false;
+    }
+
+    @NotNull
+    NBTTagCompound writeToNBT() {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("d", depositName);
+        tag.setLong("c", center);
+        tag.setByte("y", (byte) minY);
+        tag.setByte("Y", (byte) maxY);
+        int[] packedColumns = new int[columns.length * 2];
+        for (int i = 0; i < columns.length; i++) {
+            packedColumns[i * 2] = (int) (columns[i] >>> 32);
+            packedColumns[i * 2 + 1] = (int) columns[i];
+        }
+        tag.setIntArray("m", packedColumns);
+        // state ids are assigned at runtime, so states are saved by registry name and properties
+        NBTTagList stateList = new NBTTagList();
+        for (IBlockState state : states) {
+            stateList.appendTag(NBTUtil.writeBlockState(new NBTTagCompound(), state));
+        }
+        tag.setTag("s", stateList);
+        return tag;
+    }
+
+    @NotNull
+    static IndexedVein readFromNBT(@NotNull NBTTagCompound tag) {
+        int[] packedColumns = tag.getIntArray("m");
+        long[] columns = new long[4];
+        for (int i = 0; i < columns.length && i * 2 + 1 < packedColumns.length; i++) {
+            columns[i] = (long) packedColumns[i * 2] << 32 | packedColumns[i * 2 + 1] & 0xFFFFFFFFL;
+        }
+        NBTTagList stateList = tag.getTagList("s", Constants.NBT.TAG_COMPOUND);
+        List<IBlockState> states = new ArrayList<>(stateList.tagCount());
+        for (int i = 0; i < stateList.tagCount(); i++) {
+            IBlockState state = NBTUtil.readBlockState(stateList.getCompoundTagAt(i));
+            // blocks which are no longer registered are read as air
+            if (state.getBlock() != Blocks.AIR) {
+                states.add(state);
+            }
+        }
+        return new IndexedVein(tag.getString("d"), tag.getLong("c"), tag.getByte("y") & 0xFF,
+                tag.getByte("Y") & 0xFF, columns, states.toArray(new IBlockState[0]));
+    }
+}
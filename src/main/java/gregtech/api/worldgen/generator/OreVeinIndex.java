@@ -0,0 +1,194 @@
+package gregtech.api.worldgen.generator;
+
+import gregtech.api.GTValues;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.World;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The ore veins generated in each chunk of a dimension, recorded while the chunks are populated.
+ * <p>
+ * Chunks are grouped into regions of 32x32 chunks, like region files. Each region is saved as its own
+ * {@link Region}, so a save only rewrites the regions changed since the last one, and regions are only loaded once
+ * they are used. Chunks populated before the index was enabled are not indexed, and must still be scanned.
+ * <p>
+ * The index records the veins as generated. It does not track blocks mined or placed afterward, so users must check the
+ * blocks in the columns of a vein, and should remove veins found to be mined out. It only knows veins generated by
+ * GregTech.
+ */
+public class OreVeinIndex {
+
+    public static final String DATA_NAME = GTValues.MODID + ".oreVeinIndex";
+
+    private static final String REGION_PREFIX = DATA_NAME + '.';
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_MASK = (1 << REGION_SHIFT) - 1;
+
+    private final MapStorage storage;
+
+    private OreVeinIndex(@NotNull MapStorage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * @return the index of a dimension
+     */
+    @NotNull
+    public static OreVeinIndex get(@NotNull World world) {
+        return new OreVeinIndex(world.getPerWorldStorage());
+    }
+
+    @NotNull
+    private static String getRegionName(int chunkX, int chunkZ) {
+        return REGION_PREFIX + (chunkX >> REGION_SHIFT) + '.' + (chunkZ >> REGION_SHIFT);
+    }
+
+    private static int getIndexInRegion(int chunkX, int chunkZ) {
+        return (chunkZ & REGION_MASK) << REGION_SHIFT | (chunkX & REGION_MASK);
+    }
+
+    @Nullable
+    private Region getRegion(int chunkX, int chunkZ) {
+        return (Region) storage.getOrLoadData(Region.class, getRegionName(chunkX, chunkZ));
+    }
+
+    /**
+     * Records the veins generated in a chunk, replacing any veins recorded for it before.
+     *
+     * @param veins the veins, may be empty
+     */
+    public void put(int chunkX, int chunkZ, @NotNull List<IndexedVein> veins) {
+        Region region = getRegion(chunkX, chunkZ);
+        if (region == null) {
+            region = new Region(getRegionName(chunkX, chunkZ));
+            storage.setData(region.mapName, region);
+        }
+        region.chunks[getIndexInRegion(chunkX, chunkZ)] = veins.isEmpty() ? Collections.emptyList() : veins;
+        region.markDirty();
+    }
+
+    /**
+     * @return the veins generated in a chunk, or null if the chunk is not indexed
+     */
+    @Nullable
+    public List<IndexedVein> getVeins(int chunkX, int chunkZ) {
+        Region region = getRegion(chunkX, chunkZ);
+        return region == null ? null : region.chunks[getIndexInRegion(chunkX, chunkZ)];
+    }
+
+    /**
+     * @return the highest y position of an indexed ore in the chunks of the area, -1 if the area has no indexed veins,
+     *         or {@link Integer#MIN_VALUE} if any chunk of the area is not indexed
+     */
+    public int getHighestOre(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        int highestOre = -1;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                List<IndexedVein> veins = getVeins(chunkX, chunkZ);
+                if (veins == null) return Integer.MIN_VALUE;
+                for (IndexedVein vein : veins) {
+                    highestOre = Math.max(highestOre, vein.getMaxY());
+                }
+            }
+        }
+        return highestOre;
+    }
+
+    /**
+     * Removes a vein from the veins of a chunk, such as once all of its ores were mined.
+     */
+    public void removeVein(int chunkX, int chunkZ, @NotNull IndexedVein vein) {
+        Region region = getRegion(chunkX, chunkZ);
+        if (region == null) return;
+        int index = getIndexInRegion(chunkX, chunkZ);
+        List<IndexedVein> veins = region.chunks[index];
+        if (veins == null || !veins.contains(vein)) return;
+        List<IndexedVein> remaining = new ArrayList<>(veins);
+        remaining.remove(vein);
+        region.chunks[index] = remaining.isEmpty() ? Collections.emptyList() : remaining;
+        region.markDirty();
+    }
+
+    /**
+     * The veins of a single region, saved to their own file.
+     */
+    public static class Region extends WorldSavedData {
+
+        private final List<IndexedVein>[] chunks = createChunks();
+
+        /**
+         * Used by {@link MapStorage} when loading a region.
+         */
+        public Region(String name) {
+            super(name);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static List<IndexedVein>[] createChunks() {
+            return new List[1 << (REGION_SHIFT * 2)];
+        }
+
+        @Override
+        public void readFromNBT(@NotNull NBTTagCompound nbt) {
+            Arrays.fill(chunks, null);
+            // chunks without veins are only saved as a bit in the mask
+            int[] indexed = nbt.getIntArray("i");
+            for (int i = 0; i < chunks.length && (i >> 5) < indexed.length; i++) {
+                if ((indexed[i >> 5] & (1 << i)) != 0) {
+                    chunks[i] = Collections.emptyList();
+                }
+            }
+            NBTTagList chunkList = nbt.getTagList("c", Constants.NBT.TAG_COMPOUND);
+            for (int i = 0; i < chunkList.tagCount(); i++) {
+                NBTTagCompound chunkTag = chunkList.getCompoundTagAt(i);
+                NBTTagList veinList = chunkTag.getTagList("v", Constants.NBT.TAG_COMPOUND);
+                List<IndexedVein> veins;
+                if (veinList.isEmpty()) {
+                    veins = Collections.emptyList();
+                } else {
+                    IndexedVein[] array = new IndexedVein[veinList.tagCount()];
+                    for (int j = 0; j < array.length; j++) {
+                        array[j] = IndexedVein.readFromNBT(veinList.getCompoundTagAt(j));
+                    }
+                    veins = Arrays.asList(array);
+                }
+                chunks[chunkTag.getShort("i") & (chunks.length - 1)] = veins;
+            }
+        }
+
+        @NotNull
+        @Override
+        public NBTTagCompound writeToNBT(@NotNull NBTTagCompound nbt) {
+            int[] indexed = new int[chunks.length >> 5];
+            NBTTagList chunkList = new NBTTagList();
+            for (int i = 0; i < chunks.length; i++) {
+                if (chunks[i] == null) continue;
+                indexed[i >> 5] |= 1 << i;
+                if (chunks[i].isEmpty()) continue;
+                NBTTagCompound chunkTag = new NBTTagCompound();
+                chunkTag.setShort("i", (short) i);
+                NBTTagList veinList = new NBTTagList();
+                for (IndexedVein vein : chunks[i]) {
+                    veinList.appendTag(vein.writeToNBT());
+                }
+                chunkTag.setTag("v", veinList);
+                chunkList.appendTag(chunkTag);
+            }
+            nbt.setIntArray("i", indexed);
+            nbt.setTag("c", chunkList);
+            return nbt;
+        }
+    }
+}
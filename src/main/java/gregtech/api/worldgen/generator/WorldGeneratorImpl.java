@@ -20,6 +20,8 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 import com.google.common.collect.ImmutableSet;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 
@@ -62,11 +64,35 @@ public class WorldGeneratorImpl implements IWorldGenerator {
                                          Random random) {
         int halfSizeX = (GRID_SIZE_X - 1) / 2;
         int halfSizeZ = (GRID_SIZE_Z - 1) / 2;
+        List<IndexedVein> indexedVeins = ConfigHolder.performance.oreVeinIndex ? new ArrayList<>() : null;
         for (int gridX = -halfSizeX; gridX <= halfSizeX; gridX++) {
             for (int gridZ = -halfSizeZ; gridZ <= halfSizeZ; gridZ++) {
                 CachedGridEntry cachedGridEntry = CachedGridEntry.getOrCreateEntry(world, selfGridX + gridX,
                         selfGridZ + gridZ, chunkX, chunkZ);
-                cachedGridEntry.populateChunk(world, chunkX, chunkZ, random);
+                cachedGridEntry.populateChunk(world, chunkX, chunkZ, random, indexedVeins);
+            }
+        }
+        if (indexedVeins != null) {
+            OreVeinIndex.get(world).put(chunkX, chunkZ, indexedVeins);
+        }
+        if (ConfigHolder.performance.asyncVeinPlanning) {
+            planAhead(world, selfGridX, selfGridZ, chunkX, chunkZ);
+        }
+    }
+
+    /**
+     * Starts planning the grid entries in the ring just outside the ones used by the chunk, as those will be needed
+     * by the chunks generated next to it.
+     */
+    private static void planAhead(World world, int selfGridX, int selfGridZ, int chunkX, int chunkZ) {
+        GridEntryCache cache = GridEntryCache.get(world);
+        int rangeX = (GRID_SIZE_X - 1) / 2 + 1;
+        int rangeZ = (GRID_SIZE_Z - 1) / 2 + 1;
+        for (int gridX = -rangeX; gridX <= rangeX; gridX++) {
+            for (int gridZ = -rangeZ; gridZ <= rangeZ; gridZ++) {
+                if (Math.abs(gridX) == rangeX || Math.abs(gridZ) == rangeZ) {
+                    cache.planAhead(world, selfGridX + gridX, selfGridZ + gridZ, chunkX, chunkZ);
+                }
             }
         }
     }
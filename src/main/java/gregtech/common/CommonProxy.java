@@ -9,6 +9,7 @@ import gregtech.api.items.toolitem.IGTTool;
 import gregtech.api.metatileentity.registry.MTERegistry;
 import gregtech.api.recipes.GTRecipeInputCache;
 import gregtech.api.recipes.ModHandler;
+import gregtech.api.recipes.RecipeMap;
 import gregtech.api.recipes.ingredients.GTRecipeOreInput;
 import gregtech.api.recipes.properties.impl.FusionEUToStartProperty;
 import gregtech.api.unification.material.Material;
@@ -309,6 +310,9 @@ public class CommonProxy {
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public static void initComponents(RegistryEvent.Register<IRecipe> event) {
         GTRecipeInputCache.enableCache();
+        if (ConfigHolder.performance.parallelRecipeTreeBuilding || ConfigHolder.performance.recipeLookupSnapshot) {
+            RecipeMap.setDeferTreeBuilding(true);
+        }
         CraftingComponent.initializeComponents();
         MinecraftForge.EVENT_BUS.post(new GregTechAPI.RegisterEvent<>(null, CraftingComponent.class));
     }
@@ -357,6 +361,7 @@ public class CommonProxy {
         GTLog.logger.info("Running late material handlers...");
         OrePrefix.runMaterialHandlers();
         GTRecipeManager.loadLatest();
+        RecipeMap.buildPendingRecipes();
 
         // On initial load we need to postpone cache flushing until FMLPostInitializationEvent
         // to account for post-init recipe registration
@@ -416,6 +421,8 @@ public class CommonProxy {
 
     public void onLoadComplete() {
         GTRecipeInputCache.disableCache();
+        RecipeMap.setDeferTreeBuilding(false);
+        RecipeMap.freezeLookups();
 
         // If JEI and GS is not loaded, refresh ore dict ingredients
         // Not needed if JEI is loaded, as done in the JEI plugin (and this runs after that)
@@ -42,6 +42,10 @@ public class ConfigHolder {
     @Config.RequiresMcRestart
     public static WorldGenOptions worldgen = new WorldGenOptions();
 
+    @Config.Comment("Config options for server performance tuning")
+    @Config.Name("Performance Options")
+    public static PerformanceOptions performance = new PerformanceOptions();
+
     public static class MachineOptions {
 
         @Config.Comment({ "Whether insufficient energy supply should reset Machine recipe progress to zero.",
@@ -368,6 +372,150 @@ public class ConfigHolder {
         public boolean spawnTerminal = true;
     }
 
+    public static class PerformanceOptions {
+
+        @Config.Comment({ "Whether recipe lookups should reuse per-thread buffers and pooled lookup keys.",
+                "Avoids allocating on every recipe search. Disable only for debugging.",
+                "RecipeMaps which override the recipe search methods always search without pooling.",
+                "Default: true" })
+        public boolean pooledRecipeLookup = true;
+
+        @Config.Comment({ "The amount of failed recipe searches each Recipe Map remembers.",
+                "Machines whose inputs match nothing skip the recipe search until the inputs or recipes change.",
+                "Set to 0 to disable.", "Default: 1024" })
+        @Config.RangeInt(min = 0)
+        public int recipeLookupMissCacheSize = 1024;
+
+        @Config.Comment({ "Whether recipe lookup trees should be compiled into a compact array based structure",
+                "once recipe loading is finished.", "Default: true" })
+        public boolean compiledRecipeLookup = true;
+
+        @Config.Comment({ "Whether recipe lookup trees should be built in parallel during startup.",
+                "Each Recipe Map is built on its own thread, and the time taken by each is logged.",
+                "Addons overriding RecipeMap#compileRecipe must not rely on shared state for this.",
+                "Default: false" })
+        @Config.RequiresMcRestart
+        public boolean parallelRecipeTreeBuilding = false;
+
+        @Config.Comment({ "Whether compiled recipe lookups should be saved to disk, and restored on the next start.",
+                "Snapshots are only used while the loaded mods and registered recipes are unchanged.",
+                "Requires the compiled recipe lookup.", "Default: false" })
+        @Config.RequiresMcRestart
+        public boolean recipeLookupSnapshot = false;
+
+        @Config.Comment({ "Whether formed multiblocks should only check their structure when one of their blocks",
+                "changes, instead of every second. Blocks set without block updates and tile entities of other mods",
+                "are only noticed by the safety check.", "Default: false" })
+        public boolean eventDrivenStructureChecks = false;
+
+        @Config.Comment({ "The interval in ticks at which formed multiblocks still check their structure when",
+                "event driven structure checks are enabled, in case a change was missed.", "Set to 0 to disable.",
+                "Default: 1200" })
+        @Config.RangeInt(min = 0)
+        public int structureSafetyCheckInterval = 1200;
+
+        @Config.Comment({ "Whether fluid pipe networks should distribute fluid as a whole, sending it directly from",
+                "the pipe it entered to the handlers it can reach, instead of passing it on from pipe to pipe.",
+                "Fluid pipes without ticking covers then stop ticking.", "Default: false" })
+        @Config.RequiresMcRestart
+        public boolean fluidPipeNetSolver = false;
+
+        @Config.Comment({ "Whether tile entity updates should be sent in one packet per chunk each tick, instead of one",
+                "vanilla packet per tile entity. Repeated updates of the same state are only sent once.",
+                "Default: false" })
+        public boolean batchedTileEntitySync = false;
+
+        @Config.Comment({ "Whether the initial data of tile entities should be sent in one compressed packet",
+                "per chunk, with identical data only sent once, instead of with the chunk's tile entity data.",
+                "Default: false" })
+        public boolean batchedInitialSync = false;
+
+        @Config.Comment({ "Whether the ore veins of the grid cells around newly generated chunks should be planned",
+                "ahead on worker threads, instead of on the server thread once a chunk needs them.",
+                "Cells planned ahead take their terrain height from the chunk which started the planning.",
+                "Default: false" })
+        public boolean asyncVeinPlanning = false;
+
+        @Config.Comment({ "The amount of worker threads planning ore veins ahead. Set to 0 to use half of the",
+                "available processors.", "Default: 0" })
+        @Config.RangeInt(min = 0)
+        @Config.RequiresMcRestart
+        public int veinPlanningThreads = 0;
+
+        @Config.Comment({ "The amount of ore vein grid cells cached per world. A cell covers 3x3 chunks.",
+                "Default: 1024" })
+        @Config.RangeInt(min = 1)
+        public int gridEntryCacheSize = 1024;
+
+        @Config.Comment({ "Whether ore blocks should be written straight into chunk sections during generation,",
+                "when that needs no light, height map or tile entity updates.",
+                "Other blocks are still set through the world.",
+                "Default: false" })
+        public boolean directOrePlacement = false;
+
+        @Config.Comment({ "Whether the ore veins generated in each chunk should be recorded in a per dimension index.",
+                "The indexed veins around a player are listed by /gregtech worldgen veins.",
+                "Default: false" })
+        public boolean oreVeinIndex = false;
+
+        @Config.Comment({ "Whether prospectors and miners should use the ore vein index for the chunks in it.",
+                "Prospectors then only scan the columns of the indexed veins of a chunk, and miners skip the layers",
+                "above the highest indexed ore in their area. The index only knows ores generated in GregTech veins,",
+                "so only enable this if GregTech generates all ores.",
+                "Default: false" })
+        public boolean oreVeinIndexLookups = false;
+
+        @Config.Comment({ "Whether conveyors, robotic arms and pumps should skip transfers while neither inventory has",
+                "changed since their last transfer moved nothing. Only GregTech inventories are tracked.",
+                "Skipping covers still retry every 100 ticks.",
+                "Default: false" })
+        public boolean skipIdleTransfers = false;
+
+        @Config.Comment({ "Whether conveyors, pumps, detectors and other covers which only work every few ticks should",
+                "be updated by a per world scheduler on those ticks only, instead of by their holder every tick.",
+                "Scheduled covers which accomplish nothing are updated less and less often, until their holder's",
+                "inventories or energy change, or a neighbor changes.",
+                "Default: false" })
+        public boolean coverTickScheduler = false;
+
+        @Config.Comment({ "The most ticks a scheduled cover which accomplishes nothing may wait between updates.",
+                "Default: 100" })
+        @Config.RangeInt(min = 1, max = 1200)
+        public int coverTickBackoffCeiling = 100;
+
+        @Config.Comment({ "Whether simple item filters should match against a snapshot of their filter slots, and",
+                "remember recent results for each item, metadata and NBT until their settings change.",
+                "Default: false" })
+        public boolean itemFilterMatchCache = false;
+
+        @Config.Comment({ "Whether conveyors and robotic arms inserting into item pipes should insert everything they",
+                "took from one pass over their inventory as one batch, instead of stack by stack.",
+                "Default: false" })
+        public boolean batchedPipeInsertion = false;
+
+        @Config.Comment({ "Whether energy sent through cables should be added up per route and applied to each cable",
+                "once per tick, or when the cable is inspected, instead of on every transfer.",
+                "Default: false" })
+        public boolean aggregatedEnergyFlow = false;
+
+        @Config.Comment({ "Whether miners should look for ores chunk section by chunk section, skipping sections that",
+                "hold no ore blocks at all, instead of checking every block of their area.",
+                "Default: false" })
+        public boolean sectionOreScanning = false;
+
+        @Config.Comment({ "The milliseconds per tick all miners in a world may spend together looking for and mining",
+                "ores, shared fairly between them. 0 lets each miner pick its own amount from the server tick time.",
+                "Default: 0" })
+        @Config.RangeDouble(min = 0, max = 50)
+        public double minerTickBudget = 0;
+
+        @Config.Comment({ "Whether quantum storage controllers should keep track of which chests hold each item, so",
+                "items are inserted straight into the right chest, and storages are added to and removed from",
+                "their network without searching the whole network again where possible.",
+                "Default: false" })
+        public boolean quantumItemIndex = false;
+    }
+
     public static class ClientOptions {
 
         @Config.Name("Gui Config")
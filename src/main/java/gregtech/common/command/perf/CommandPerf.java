@@ -0,0 +1,35 @@
+package gregtech.common.command.perf;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraftforge.server.command.CommandTreeBase;
+
+import org.jetbrains.annotations.NotNull;
+
+public class CommandPerf extends CommandTreeBase {
+
+    public CommandPerf() {
+        addSubcommand(new CommandPerfCovers());
+        addSubcommand(new CommandPerfMiners());
+        addSubcommand(new CommandPerfRecipeCache());
+        addSubcommand(new CommandPerfRouteCache());
+        addSubcommand(new CommandPerfTileSync());
+        addSubcommand(new CommandPerfVeinCache());
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "perf";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 3;
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.perf.usage";
+    }
+}
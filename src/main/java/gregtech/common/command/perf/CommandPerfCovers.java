@@ -0,0 +1,66 @@
+package gregtech.common.command.perf;
+
+import gregtech.api.cover.CoverTickScheduler;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CommandPerfCovers extends CommandBase {
+
+    private static final int MAX_ENTRIES = 10;
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "covers";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.perf.covers.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender,
+                        String @NotNull [] args) throws WrongUsageException {
+        if (args.length > 0) {
+            if (!"reset".equals(args[0])) {
+                throw new WrongUsageException(getUsage(sender));
+            }
+            CoverTickScheduler.resetStats();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.covers.reset"));
+            return;
+        }
+
+        int scheduledCovers = 0;
+        int backedOffCovers = 0;
+        for (CoverTickScheduler scheduler : CoverTickScheduler.getAllSchedulers()) {
+            scheduledCovers += scheduler.getScheduledCovers();
+            backedOffCovers += scheduler.getBackedOffCovers();
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.covers.total", scheduledCovers,
+                backedOffCovers, CoverTickScheduler.getScheduledUpdates(), CoverTickScheduler.getHolderTicks()));
+
+        Object2LongMap<String> nanosByType = CoverTickScheduler.getNanosByType();
+        Object2LongMap<String> updatesByType = CoverTickScheduler.getUpdatesByType();
+        List<Object2LongMap.Entry<String>> entries = new ArrayList<>(nanosByType.object2LongEntrySet());
+        entries.sort((a, b) -> Long.compare(b.getLongValue(), a.getLongValue()));
+        for (int i = 0; i < entries.size() && i < MAX_ENTRIES; i++) {
+            Object2LongMap.Entry<String> entry = entries.get(i);
+            long updates = updatesByType.getLong(entry.getKey());
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.covers.entry", entry.getKey(),
+                    updates, String.format("%.1f", entry.getLongValue() / 1_000_000.0),
+                    String.format("%.1f", updates == 0 ? 0 : entry.getLongValue() / (double) updates / 1000.0)));
+        }
+    }
+}
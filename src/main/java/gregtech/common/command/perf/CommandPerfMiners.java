@@ -0,0 +1,51 @@
+package gregtech.common.command.perf;
+
+import gregtech.api.capability.impl.miner.MiningBudget;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import org.jetbrains.annotations.NotNull;
+
+public class CommandPerfMiners extends CommandBase {
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "miners";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.perf.miners.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender,
+                        String @NotNull [] args) throws WrongUsageException {
+        if (args.length > 0) {
+            if (!"reset".equals(args[0])) {
+                throw new WrongUsageException(getUsage(sender));
+            }
+            MiningBudget.resetStats();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.miners.reset"));
+            return;
+        }
+
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.miners.total",
+                MiningBudget.getTicksOverBudget(), MiningBudget.getTicks(), MiningBudget.getMinesDeferred()));
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.miners.work",
+                MiningBudget.getScanSteps(), String.format("%.1f", MiningBudget.getScanNanos() / 1_000_000.0),
+                MiningBudget.getBlocksMined(), String.format("%.1f", MiningBudget.getMineNanos() / 1_000_000.0)));
+        for (MiningBudget budget : MiningBudget.getAllBudgets()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.miners.world",
+                    budget.getWorld().provider.getDimension(), budget.getMinersLastTick(),
+                    String.format("%.1f", budget.getNanosPerScan() / 1000.0),
+                    String.format("%.1f", budget.getNanosPerMine() / 1000.0)));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package gregtech.common.command.perf;
+
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.map.RecipeLookupMissCache;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import org.jetbrains.annotations.NotNull;
+
+public class CommandPerfRecipeCache extends CommandBase {
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "recipecache";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.perf.recipecache.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender, String @NotNull [] args) {
+        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            RecipeLookupMissCache cache = recipeMap.getMissCache();
+            long lookups = cache.getHits() + cache.getMisses();
+            if (lookups == 0) continue;
+
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.recipecache.entry",
+                    recipeMap.getUnlocalizedName(), cache.getHits(), lookups,
+                    String.format("%.1f", 100.0 * cache.getHits() / lookups), cache.size(), cache.getEvictions()));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package gregtech.common.command.perf;
+
+import gregtech.api.pipenet.RouteCacheStats;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import org.jetbrains.annotations.NotNull;
+
+public class CommandPerfRouteCache extends CommandBase {
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "routecache";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.perf.routecache.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender, String @NotNull [] args) {
+        for (RouteCacheStats stats : RouteCacheStats.getAllStats()) {
+            long lookups = stats.getHits() + stats.getWalks();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.routecache.entry",
+                    stats.getName(), stats.getHits(), lookups,
+                    String.format("%.1f", lookups == 0 ? 0.0 : 100.0 * stats.getHits() / lookups), stats.getWalks(),
+                    stats.getPatches(), stats.getInvalidations()));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package gregtech.common.command.perf;
+
+import gregtech.api.metatileentity.SyncedTileEntityBatcher;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CommandPerfTileSync extends CommandBase {
+
+    private static final int MAX_ENTRIES = 10;
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "tilesync";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.perf.tilesync.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender,
+                        String @NotNull [] args) throws WrongUsageException {
+        if (args.length > 0) {
+            if (!"reset".equals(args[0])) {
+                throw new WrongUsageException(getUsage(sender));
+            }
+            SyncedTileEntityBatcher.resetStats();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.tilesync.reset"));
+            return;
+        }
+
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.tilesync.total",
+                SyncedTileEntityBatcher.getPacketsSent(), SyncedTileEntityBatcher.getBytesSent()));
+
+        Object2LongMap<String> bytesByClass = SyncedTileEntityBatcher.getBytesByClass();
+        Object2LongMap<String> updatesByClass = SyncedTileEntityBatcher.getUpdatesByClass();
+        List<Object2LongMap.Entry<String>> entries = new ArrayList<>(bytesByClass.object2LongEntrySet());
+        entries.sort((a, b) -> Long.compare(b.getLongValue(), a.getLongValue()));
+        for (int i = 0; i < entries.size() && i < MAX_ENTRIES; i++) {
+            Object2LongMap.Entry<String> entry = entries.get(i);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.tilesync.entry",
+                    entry.getKey(), updatesByClass.getLong(entry.getKey()), entry.getLongValue()));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package gregtech.common.command.perf;
+
+import gregtech.api.worldgen.generator.GridEntryCache;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.World;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+public class CommandPerfVeinCache extends CommandBase {
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "veincache";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.perf.veincache.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender, String @NotNull [] args) {
+        long lookups = GridEntryCache.getHits() + GridEntryCache.getMisses();
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.veincache.total",
+                GridEntryCache.getHits(), lookups,
+                String.format("%.1f", lookups == 0 ? 0.0 : 100.0 * GridEntryCache.getHits() / lookups),
+                GridEntryCache.getEvictions()));
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.veincache.plans",
+                GridEntryCache.getPlansStarted(), GridEntryCache.getPlansUsed(), GridEntryCache.getPlansWaitedFor(),
+                String.format("%.1f", GridEntryCache.getPlanWaitNanos() / 1_000_000.0)));
+        long populates = GridEntryCache.getPopulates();
+        double populateMillis = GridEntryCache.getPopulateNanos() / 1_000_000.0;
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.veincache.populate", populates,
+                String.format("%.1f", populateMillis),
+                String.format("%.3f", populates == 0 ? 0.0 : populateMillis / populates)));
+        for (Map.Entry<World, GridEntryCache> entry : GridEntryCache.getAllCaches().entrySet()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.perf.veincache.world",
+                    entry.getKey().provider.getDimension(), entry.getValue().size(),
+                    entry.getValue().getPendingPlans()));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package gregtech.common.command.worldgen;
+
+import gregtech.api.worldgen.generator.IndexedVein;
+import gregtech.api.worldgen.generator.OreVeinIndex;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CommandWorldgenVeins extends CommandBase {
+
+    private static final int MAX_RADIUS = 32;
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "veins";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.worldgen.veins.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender,
+                        String @NotNull [] args) throws CommandException {
+        int radius = args.length > 0 ? parseInt(args[0], 0, MAX_RADIUS) : 2;
+        BlockPos origin = sender.getPosition();
+        OreVeinIndex index = OreVeinIndex.get(sender.getEntityWorld());
+
+        // veins spanning several chunks are listed once, by deposit and center
+        Map<String, IndexedVein> veinsByKey = new LinkedHashMap<>();
+        Object2IntOpenHashMap<String> chunksByKey = new Object2IntOpenHashMap<>();
+        int missingChunks = 0;
+        for (int chunkX = (origin.getX() >> 4) - radius; chunkX <= (origin.getX() >> 4) + radius; chunkX++) {
+            for (int chunkZ = (origin.getZ() >> 4) - radius; chunkZ <= (origin.getZ() >> 4) + radius; chunkZ++) {
+                List<IndexedVein> veins = index.getVeins(chunkX, chunkZ);
+                if (veins == null) {
+                    missingChunks++;
+                    continue;
+                }
+                for (IndexedVein vein : veins) {
+                    String key = vein.getDepositName() + '@' + vein.getCenter().toLong();
+                    veinsByKey.putIfAbsent(key, vein);
+                    chunksByKey.addTo(key, 1);
+                }
+            }
+        }
+
+        for (Map.Entry<String, IndexedVein> entry : veinsByKey.entrySet()) {
+            BlockPos center = entry.getValue().getCenter();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.veins.entry",
+                    entry.getValue().getDepositName(), center.getX(), center.getY(), center.getZ(),
+                    chunksByKey.getInt(entry.getKey())));
+        }
+        if (veinsByKey.isEmpty()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.veins.none"));
+        }
+        if (missingChunks > 0) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.veins.missing", missingChunks));
+        }
+    }
+}
@@ -6,15 +6,20 @@ import gregtech.api.capability.IControllable;
 import gregtech.api.capability.impl.ItemHandlerDelegate;
 import gregtech.api.cover.CoverBase;
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.CoverWithUI;
 import gregtech.api.cover.CoverableView;
+import gregtech.api.cover.ScheduledCover;
 import gregtech.api.mui.GTGuiTextures;
 import gregtech.api.mui.GTGuis;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.ItemStackHashStrategy;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.renderer.texture.cube.SimpleSidedCubeRenderer;
+import gregtech.common.ConfigHolder;
 import gregtech.common.covers.filter.ItemFilterContainer;
+import gregtech.common.covers.filter.MatchResult;
+import gregtech.common.pipelike.itempipe.net.ItemNetHandler;
 import gregtech.common.pipelike.itempipe.tile.TileEntityItemPipe;
 
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
@@ -29,7 +34,6 @@ import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.IStringSerializable;
-import net.minecraft.util.ITickable;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fml.relauncher.Side;
@@ -69,7 +73,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
-public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable, IControllable {
+public class CoverConveyor extends CoverBase implements CoverWithUI, ScheduledCover, IControllable {
 
     public final int tier;
     public final int maxItemTransferRate;
@@ -81,6 +85,8 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
     protected int itemsLeftToTransferLastSecond;
     private CoverableItemHandlerWrapper itemHandlerWrapper;
     protected boolean isWorkingAllowed = true;
+    protected final IdleTransferTracker idleTransferTracker = new IdleTransferTracker();
+    private final IntList pipeBatchSlots = new IntArrayList();
 
     public CoverConveyor(@NotNull CoverDefinition definition, @NotNull CoverableView coverableView,
                          @NotNull EnumFacing attachedSide, int tier, int itemsPerSecond) {
@@ -155,22 +161,52 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
 
     @Override
     public void update() {
+        if (getCoverableView().getOffsetTimer() % 5 == 0) {
+            updateScheduled();
+        }
+    }
+
+    @Override
+    public int getTickPeriod() {
+        return 5;
+    }
+
+    @Override
+    public boolean updateScheduled() {
         CoverableView coverable = getCoverableView();
         long timer = coverable.getOffsetTimer();
-        if (timer % 5 == 0 && isWorkingAllowed && itemsLeftToTransferLastSecond > 0) {
+        // waiting for the transfer budget to refill is not idle, as the refill must not be skipped
+        boolean accomplished = itemsLeftToTransferLastSecond <= 0;
+        if (isWorkingAllowed && itemsLeftToTransferLastSecond > 0) {
             EnumFacing side = getAttachedSide();
             TileEntity tileEntity = coverable.getNeighbor(side);
             IItemHandler itemHandler = tileEntity == null ? null :
                     tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side.getOpposite());
             IItemHandler myItemHandler = coverable.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side);
             if (itemHandler != null && myItemHandler != null) {
-                int totalTransferred = doTransferItems(itemHandler, myItemHandler, itemsLeftToTransferLastSecond);
-                this.itemsLeftToTransferLastSecond -= totalTransferred;
+                int transferBudget = getTransferBudget();
+                if (!idleTransferTracker.canSkip(itemHandler, myItemHandler, transferBudget, timer)) {
+                    int totalTransferred = doTransferItems(itemHandler, myItemHandler, itemsLeftToTransferLastSecond);
+                    this.itemsLeftToTransferLastSecond -= totalTransferred;
+                    idleTransferTracker.onTransfer(itemHandler, myItemHandler, transferBudget, totalTransferred,
+                            timer);
+                    accomplished = totalTransferred > 0;
+                }
+            } else {
+                idleTransferTracker.reset();
             }
         }
         if (timer % 20 == 0) {
             this.itemsLeftToTransferLastSecond = transferRate;
         }
+        return accomplished;
+    }
+
+    /**
+     * @return the most items the next transfer may move, including any carried over from earlier transfers
+     */
+    protected int getTransferBudget() {
+        return itemsLeftToTransferLastSecond;
     }
 
     protected int doTransferItems(IItemHandler itemHandler, IItemHandler myItemHandler, int maxTransferAmount) {
@@ -332,6 +368,9 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
 
     protected int moveInventoryItems(IItemHandler sourceInventory, IItemHandler targetInventory,
                                      int maxTransferAmount) {
+        if (targetInventory instanceof ItemNetHandler netHandler && ConfigHolder.performance.batchedPipeInsertion) {
+            return moveInventoryItemsToPipe(sourceInventory, netHandler, maxTransferAmount);
+        }
         int itemsLeftToTransfer = maxTransferAmount;
         for (int srcIndex = 0; srcIndex < sourceInventory.getSlots(); srcIndex++) {
             ItemStack sourceStack = sourceInventory.extractItem(srcIndex, itemsLeftToTransfer, true);
@@ -360,6 +399,27 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
         return maxTransferAmount - itemsLeftToTransfer;
     }
 
+    /**
+     * Moves items into an item pipe net, inserting all matching slots of the source inventory as one batch.
+     */
+    private int moveInventoryItemsToPipe(IItemHandler sourceInventory, ItemNetHandler netHandler,
+                                         int maxTransferAmount) {
+        IntList batchSlots = this.pipeBatchSlots;
+        batchSlots.clear();
+        for (int srcIndex = 0; srcIndex < sourceInventory.getSlots(); srcIndex++) {
+            ItemStack sourceStack = sourceInventory.extractItem(srcIndex, maxTransferAmount, true);
+            if (sourceStack.isEmpty() || !itemFilterContainer.match(sourceStack).isMatched()) {
+                continue;
+            }
+            batchSlots.add(srcIndex);
+        }
+
+        int itemsTransferred = batchSlots.isEmpty() ? 0 :
+                netHandler.insertBatch(sourceInventory, batchSlots, maxTransferAmount);
+        batchSlots.clear();
+        return itemsTransferred;
+    }
+
     protected static class TypeItemInfo {
 
         public final ItemStack itemStack;
@@ -392,13 +452,14 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
     protected Map<ItemStack, TypeItemInfo> countInventoryItemsByType(@NotNull IItemHandler inventory) {
         Map<ItemStack, TypeItemInfo> result = new Object2ObjectOpenCustomHashMap<>(
                 ItemStackHashStrategy.comparingAllButCount());
+        MatchResult[] matchResults = itemFilterContainer.matchAll(inventory);
         for (int srcIndex = 0; srcIndex < inventory.getSlots(); srcIndex++) {
             ItemStack itemStack = inventory.getStackInSlot(srcIndex);
             if (itemStack.isEmpty()) {
                 continue;
             }
 
-            var matchResult = itemFilterContainer.match(itemStack);
+            var matchResult = matchResults[srcIndex];
             if (!matchResult.isMatched()) continue;
 
             if (!result.containsKey(itemStack)) {
@@ -419,13 +480,14 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
     @NotNull
     protected Map<Integer, GroupItemInfo> countInventoryItemsByMatchSlot(@NotNull IItemHandler inventory) {
         Map<Integer, GroupItemInfo> result = new Int2ObjectOpenHashMap<>();
+        MatchResult[] matchResults = itemFilterContainer.matchAll(inventory);
         for (int srcIndex = 0; srcIndex < inventory.getSlots(); srcIndex++) {
             ItemStack itemStack = inventory.getStackInSlot(srcIndex);
             if (itemStack.isEmpty()) {
                 continue;
             }
 
-            var matchResult = itemFilterContainer.match(itemStack);
+            var matchResult = matchResults[srcIndex];
             if (!matchResult.isMatched()) continue;
             int matchedSlot = matchResult.getFilterIndex();
 
@@ -450,6 +512,21 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
         return coverable.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, getAttachedSide()) != null;
     }
 
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        idleTransferTracker.reset();
+        CoverTickScheduler.wakeCover(this);
+    }
+
+    @Override
+    public void markAsDirty() {
+        // filters notify their cover through this when their settings change
+        CoverWithUI.super.markAsDirty();
+        idleTransferTracker.reset();
+        CoverTickScheduler.wakeCover(this);
+    }
+
     @Override
     public boolean canInteractWithOutputSide() {
         return true;
@@ -631,6 +708,7 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
     @Override
     public void setWorkingEnabled(boolean isActivationAllowed) {
         this.isWorkingAllowed = isActivationAllowed;
+        CoverTickScheduler.wakeCover(this);
     }
 
     @Override
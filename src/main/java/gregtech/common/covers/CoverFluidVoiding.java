@@ -2,6 +2,7 @@ package gregtech.common.covers;
 
 import gregtech.api.capability.GregtechTileCapabilities;
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.CoverableView;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.client.renderer.texture.Textures;
@@ -55,6 +56,17 @@ public class CoverFluidVoiding extends CoverPump {
         }
     }
 
+    @Override
+    public int getTickPeriod() {
+        return 20;
+    }
+
+    @Override
+    public boolean updateScheduled() {
+        update();
+        return isWorkingAllowed;
+    }
+
     protected void doTransferFluids() {
         IFluidHandler myFluidHandler = getCoverableView().getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY,
                 getAttachedSide());
@@ -107,6 +119,7 @@ public class CoverFluidVoiding extends CoverPump {
     public @NotNull EnumActionResult onSoftMalletClick(@NotNull EntityPlayer playerIn, @NotNull EnumHand hand,
                                                        @NotNull CuboidRayTraceResult hitResult) {
         this.isWorkingAllowed = !this.isWorkingAllowed;
+        CoverTickScheduler.wakeCover(this);
         if (!playerIn.world.isRemote) {
             playerIn.sendStatusMessage(new TextComponentTranslation(isWorkingEnabled() ?
                     "cover.voiding.message.enabled" : "cover.voiding.message.disabled"), true);
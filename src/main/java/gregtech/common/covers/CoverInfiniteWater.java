@@ -3,11 +3,11 @@ package gregtech.common.covers;
 import gregtech.api.cover.CoverBase;
 import gregtech.api.cover.CoverDefinition;
 import gregtech.api.cover.CoverableView;
+import gregtech.api.cover.ScheduledCover;
 import gregtech.client.renderer.texture.Textures;
 
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
@@ -19,7 +19,7 @@ import codechicken.lib.vec.Cuboid6;
 import codechicken.lib.vec.Matrix4;
 import org.jetbrains.annotations.NotNull;
 
-public class CoverInfiniteWater extends CoverBase implements ITickable {
+public class CoverInfiniteWater extends CoverBase implements ScheduledCover {
 
     public CoverInfiniteWater(@NotNull CoverDefinition definition, @NotNull CoverableView coverableView,
                               @NotNull EnumFacing attachedSide) {
@@ -38,6 +38,11 @@ public class CoverInfiniteWater extends CoverBase implements ITickable {
         Textures.INFINITE_WATER.renderSided(getAttachedSide(), cuboid6, ccRenderState, iVertexOperations, matrix4);
     }
 
+    @Override
+    public int getTickPeriod() {
+        return 20;
+    }
+
     @Override
     public void update() {
         if (!getWorld().isRemote && getOffsetTimer() % 20 == 0) {
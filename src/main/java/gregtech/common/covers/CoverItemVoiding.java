@@ -2,6 +2,7 @@ package gregtech.common.covers;
 
 import gregtech.api.capability.GregtechTileCapabilities;
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.CoverableView;
 import gregtech.client.renderer.texture.Textures;
 
@@ -50,6 +51,17 @@ public class CoverItemVoiding extends CoverConveyor {
         }
     }
 
+    @Override
+    public int getTickPeriod() {
+        return 20;
+    }
+
+    @Override
+    public boolean updateScheduled() {
+        update();
+        return isWorkingAllowed;
+    }
+
     protected void doTransferItems() {
         IItemHandler myItemHandler = getCoverableView().getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY,
                 getAttachedSide());
@@ -119,6 +131,7 @@ public class CoverItemVoiding extends CoverConveyor {
     public @NotNull EnumActionResult onSoftMalletClick(@NotNull EntityPlayer playerIn, @NotNull EnumHand hand,
                                                        @NotNull CuboidRayTraceResult hitResult) {
         this.isWorkingAllowed = !this.isWorkingAllowed;
+        CoverTickScheduler.wakeCover(this);
         if (!playerIn.world.isRemote) {
             playerIn.sendStatusMessage(new TextComponentTranslation(isWorkingEnabled() ?
                     "cover.voiding.message.enabled" : "cover.voiding.message.disabled"), true);
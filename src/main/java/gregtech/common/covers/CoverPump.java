@@ -6,8 +6,10 @@ import gregtech.api.capability.IControllable;
 import gregtech.api.capability.impl.FluidHandlerDelegate;
 import gregtech.api.cover.CoverBase;
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.CoverWithUI;
 import gregtech.api.cover.CoverableView;
+import gregtech.api.cover.ScheduledCover;
 import gregtech.api.mui.GTGuiTextures;
 import gregtech.api.mui.GTGuis;
 import gregtech.api.util.GTTransferUtils;
@@ -26,7 +28,6 @@ import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.IStringSerializable;
-import net.minecraft.util.ITickable;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fluids.FluidStack;
@@ -59,7 +60,7 @@ import com.cleanroommc.modularui.widgets.textfield.TextFieldWidget;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public class CoverPump extends CoverBase implements CoverWithUI, ITickable, IControllable {
+public class CoverPump extends CoverBase implements CoverWithUI, ScheduledCover, IControllable {
 
     public final int tier;
     public final int maxFluidTransferRate;
@@ -72,6 +73,7 @@ public class CoverPump extends CoverBase implements CoverWithUI, ITickable, ICon
     protected boolean isWorkingAllowed = true;
     protected FluidFilterContainer fluidFilterContainer;
     protected BucketMode bucketMode = BucketMode.MILLI_BUCKET;
+    protected final IdleTransferTracker idleTransferTracker = new IdleTransferTracker();
 
     public CoverPump(@NotNull CoverDefinition definition, @NotNull CoverableView coverableView,
                      @NotNull EnumFacing attachedSide, int tier, int mbPerTick) {
@@ -147,13 +149,28 @@ public class CoverPump extends CoverBase implements CoverWithUI, ITickable, ICon
 
     @Override
     public void update() {
+        updateScheduled();
+    }
+
+    @Override
+    public int getTickPeriod() {
+        return 1;
+    }
+
+    @Override
+    public boolean updateScheduled() {
         long timer = getOffsetTimer();
+        // waiting for the transfer budget to refill is not idle, as the refill must not be skipped
+        boolean accomplished = fluidLeftToTransferLastSecond <= 0;
         if (isWorkingAllowed && fluidLeftToTransferLastSecond > 0) {
-            this.fluidLeftToTransferLastSecond -= doTransferFluids(fluidLeftToTransferLastSecond);
+            int transferred = doTransferFluids(fluidLeftToTransferLastSecond);
+            this.fluidLeftToTransferLastSecond -= transferred;
+            accomplished = transferred > 0;
         }
         if (timer % 20 == 0) {
             this.fluidLeftToTransferLastSecond = transferRate;
         }
+        return accomplished;
     }
 
     protected int doTransferFluids(int transferLimit) {
@@ -163,9 +180,16 @@ public class CoverPump extends CoverBase implements CoverWithUI, ITickable, ICon
         IFluidHandler myFluidHandler = getCoverableView().getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY,
                 getAttachedSide());
         if (fluidHandler == null || myFluidHandler == null) {
+            idleTransferTracker.reset();
+            return 0;
+        }
+        long timer = getOffsetTimer();
+        if (idleTransferTracker.canSkip(myFluidHandler, fluidHandler, transferLimit, timer)) {
             return 0;
         }
-        return doTransferFluidsInternal(myFluidHandler, fluidHandler, transferLimit);
+        int transferred = doTransferFluidsInternal(myFluidHandler, fluidHandler, transferLimit);
+        idleTransferTracker.onTransfer(myFluidHandler, fluidHandler, transferLimit, transferred, timer);
+        return transferred;
     }
 
     protected int doTransferFluidsInternal(IFluidHandler myFluidHandler, IFluidHandler fluidHandler,
@@ -330,6 +354,21 @@ public class CoverPump extends CoverBase implements CoverWithUI, ITickable, ICon
         return coverable.hasCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
     }
 
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        idleTransferTracker.reset();
+        CoverTickScheduler.wakeCover(this);
+    }
+
+    @Override
+    public void markAsDirty() {
+        // filters notify their cover through this when their settings change
+        CoverWithUI.super.markAsDirty();
+        idleTransferTracker.reset();
+        CoverTickScheduler.wakeCover(this);
+    }
+
     @Override
     public boolean canInteractWithOutputSide() {
         return true;
@@ -376,6 +415,7 @@ public class CoverPump extends CoverBase implements CoverWithUI, ITickable, ICon
     @Override
     public void setWorkingEnabled(boolean isActivationAllowed) {
         this.isWorkingAllowed = isActivationAllowed;
+        CoverTickScheduler.wakeCover(this);
     }
 
     @Override
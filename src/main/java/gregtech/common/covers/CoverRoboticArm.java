@@ -56,6 +56,11 @@ public class CoverRoboticArm extends CoverConveyor {
         }
     }
 
+    @Override
+    protected int getTransferBudget() {
+        return super.getTransferBudget() + itemsTransferBuffered;
+    }
+
     @Override
     protected int doTransferItems(IItemHandler itemHandler, IItemHandler myItemHandler, int maxTransferAmount) {
         if (conveyorMode == ConveyorMode.EXPORT && itemHandler instanceof ItemNetHandler &&
@@ -174,6 +179,7 @@ public class CoverRoboticArm extends CoverConveyor {
         if (this.transferMode != transferMode) {
             this.transferMode = transferMode;
             this.getCoverableView().markDirty();
+            this.idleTransferTracker.reset();
             this.itemFilterContainer.setMaxTransferSize(transferMode.maxStackSize);
             writeCustomData(GregtechDataCodes.UPDATE_TRANSFER_MODE,
                     buffer -> buffer.writeByte(this.transferMode.ordinal()));
@@ -0,0 +1,83 @@
+package gregtech.common.covers;
+
+import gregtech.api.capability.IVersionedHandler;
+import gregtech.common.ConfigHolder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Remembers the contents versions of two handlers after a transfer between them moved nothing, so the same transfer
+ * can be skipped until either handler changes.
+ * <p>
+ * Handlers which are not {@link IVersionedHandler versioned} are never skipped. Contents can also change without the
+ * version changing, such as when a stack returned by a handler is modified directly, so skipped transfers are still
+ * retried every {@link #MAX_IDLE_TICKS} ticks.
+ */
+public class IdleTransferTracker {
+
+    public static final int MAX_IDLE_TICKS = 100;
+
+    @Nullable
+    private Object first;
+    @Nullable
+    private Object second;
+    private long firstVersion;
+    private long secondVersion;
+    private int transferLimit;
+    private long idleSince;
+
+    /**
+     * @param first         the first handler
+     * @param second        the second handler
+     * @param transferLimit the most which may be transferred
+     * @param timer         the offset timer of the cover
+     * @return if the transfer would move nothing, as neither handler has changed since it last moved nothing
+     */
+    public boolean canSkip(@NotNull Object first, @NotNull Object second, int transferLimit, long timer) {
+        if (!ConfigHolder.performance.skipIdleTransfers) return false;
+        if (first != this.first || second != this.second) return false;
+        // a larger limit may allow moving an exact amount which did not fit before
+        if (transferLimit > this.transferLimit || timer - idleSince >= MAX_IDLE_TICKS) return false;
+        return IVersionedHandler.getContentsVersion(first) == firstVersion &&
+                IVersionedHandler.getContentsVersion(second) == secondVersion;
+    }
+
+    /**
+     * Records the result of a transfer.
+     *
+     * @param first         the first handler
+     * @param second        the second handler
+     * @param transferLimit the most which could have been transferred
+     * @param transferred   the amount transferred
+     * @param timer         the offset timer of the cover
+     */
+    public void onTransfer(@NotNull Object first, @NotNull Object second, int transferLimit, int transferred,
+                           long timer) {
+        if (transferred > 0 || !ConfigHolder.performance.skipIdleTransfers) {
+            reset();
+            return;
+        }
+        long firstVersion = IVersionedHandler.getContentsVersion(first);
+        long secondVersion = IVersionedHandler.getContentsVersion(second);
+        if (firstVersion == IVersionedHandler.UNTRACKED || secondVersion == IVersionedHandler.UNTRACKED) {
+            reset();
+            return;
+        }
+        this.first = first;
+        this.second = second;
+        this.firstVersion = firstVersion;
+        this.secondVersion = secondVersion;
+        this.transferLimit = transferLimit;
+        this.idleSince = timer;
+    }
+
+    /**
+     * Forgets the last transfer, so the next one is never skipped. Must be called when the settings deciding what is
+     * transferred change.
+     */
+    public void reset() {
+        this.first = null;
+        this.second = null;
+    }
+}
@@ -2,7 +2,9 @@ package gregtech.common.covers.detector;
 
 import gregtech.api.cover.CoverBase;
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.CoverableView;
+import gregtech.api.cover.ScheduledCover;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
@@ -17,7 +19,7 @@ import org.jetbrains.annotations.NotNull;
 
 import static gregtech.api.capability.GregtechDataCodes.UPDATE_INVERTED;
 
-public abstract class CoverDetectorBase extends CoverBase {
+public abstract class CoverDetectorBase extends CoverBase implements ScheduledCover {
 
     protected static final String NBT_KEY_IS_INVERTED = "isInverted";
 
@@ -35,6 +37,7 @@ public abstract class CoverDetectorBase extends CoverBase {
 
     protected void setInverted(boolean isInverted) {
         this.isInverted = isInverted;
+        CoverTickScheduler.wakeCover(this);
     }
 
     private void toggleInvertedWithNotification() {
@@ -59,6 +62,22 @@ public abstract class CoverDetectorBase extends CoverBase {
         return this.redstoneSignalOutput;
     }
 
+    @Override
+    public int getTickPeriod() {
+        return 20;
+    }
+
+    /**
+     * Updates the detector, for detectors whose reading only changes when their holder notifies its covers.
+     *
+     * @return if the redstone signal output changed
+     */
+    protected final boolean updateComparingOutput() {
+        int previousOutput = this.redstoneSignalOutput;
+        update();
+        return this.redstoneSignalOutput != previousOutput;
+    }
+
     @Override
     public void writeToNBT(@NotNull NBTTagCompound tagCompound) {
         super.writeToNBT(tagCompound);
@@ -10,7 +10,6 @@ import gregtech.common.metatileentities.multi.electric.MetaTileEntityPowerSubsta
 
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 
 import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.IVertexOperation;
@@ -18,7 +17,7 @@ import codechicken.lib.vec.Cuboid6;
 import codechicken.lib.vec.Matrix4;
 import org.jetbrains.annotations.NotNull;
 
-public class CoverDetectorEnergy extends CoverDetectorBase implements ITickable {
+public class CoverDetectorEnergy extends CoverDetectorBase {
 
     public CoverDetectorEnergy(@NotNull CoverDefinition definition, @NotNull CoverableView coverableView,
                                @NotNull EnumFacing attachedSide) {
@@ -59,6 +58,11 @@ public class CoverDetectorEnergy extends CoverDetectorBase implements ITickable
         Textures.DETECTOR_ENERGY.renderSided(getAttachedSide(), plateBox, renderState, pipeline, translation);
     }
 
+    @Override
+    public boolean updateScheduled() {
+        return updateComparingOutput();
+    }
+
     @Override
     public void update() {
         if (getOffsetTimer() % 20 != 0) return;
@@ -1,6 +1,7 @@
 package gregtech.common.covers.detector;
 
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.CoverWithUI;
 import gregtech.api.cover.CoverableView;
 import gregtech.api.gui.GuiTextures;
@@ -147,6 +148,7 @@ public class CoverDetectorEnergyAdvanced extends CoverDetectorEnergy implements
                 0,
                 this.maxValue - 1,
                 usePercent ? DEFAULT_MIN_PERCENT : DEFAULT_MIN_EU);
+        CoverTickScheduler.wakeCover(this);
     }
 
     private void setMaxValue(String val) {
@@ -154,6 +156,7 @@ public class CoverDetectorEnergyAdvanced extends CoverDetectorEnergy implements
                 this.minValue + 1,
                 usePercent ? 100 : Long.MAX_VALUE,
                 usePercent ? DEFAULT_MAX_PERCENT : DEFAULT_MAX_EU);
+        CoverTickScheduler.wakeCover(this);
     }
 
     private boolean isUsePercent() {
@@ -173,6 +176,7 @@ public class CoverDetectorEnergyAdvanced extends CoverDetectorEnergy implements
 
         // update widgets
         updateSyncedWidgets();
+        CoverTickScheduler.wakeCover(this);
     }
 
     private void updateSyncedWidgets() {
@@ -7,7 +7,6 @@ import gregtech.client.renderer.texture.Textures;
 
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler;
@@ -19,7 +18,7 @@ import codechicken.lib.vec.Cuboid6;
 import codechicken.lib.vec.Matrix4;
 import org.jetbrains.annotations.NotNull;
 
-public class CoverDetectorFluid extends CoverDetectorBase implements ITickable {
+public class CoverDetectorFluid extends CoverDetectorBase {
 
     public CoverDetectorFluid(@NotNull CoverDefinition definition, @NotNull CoverableView coverableView,
                               @NotNull EnumFacing attachedSide) {
@@ -37,6 +36,11 @@ public class CoverDetectorFluid extends CoverDetectorBase implements ITickable {
         Textures.DETECTOR_FLUID.renderSided(getAttachedSide(), plateBox, renderState, pipeline, translation);
     }
 
+    @Override
+    public boolean updateScheduled() {
+        return updateComparingOutput();
+    }
+
     @Override
     public void update() {
         if (getOffsetTimer() % 20 != 0) return;
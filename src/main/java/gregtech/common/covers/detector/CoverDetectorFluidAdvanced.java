@@ -1,6 +1,7 @@
 package gregtech.common.covers.detector;
 
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.CoverWithUI;
 import gregtech.api.cover.CoverableView;
 import gregtech.api.gui.GuiTextures;
@@ -117,14 +118,17 @@ public class CoverDetectorFluidAdvanced extends CoverDetectorFluid implements Co
 
     private void setMinValue(String val) {
         this.min = CoverDetectorBase.parseCapped(val, 0, max - 1, DEFAULT_MIN);
+        CoverTickScheduler.wakeCover(this);
     }
 
     private void setMaxValue(String val) {
         this.max = CoverDetectorBase.parseCapped(val, min + 1, Integer.MAX_VALUE, DEFAULT_MAX);
+        CoverTickScheduler.wakeCover(this);
     }
 
     private void setLatched(boolean isLatched) {
         this.isLatched = isLatched;
+        CoverTickScheduler.wakeCover(this);
     }
 
     public boolean isLatched() {
@@ -159,6 +163,13 @@ public class CoverDetectorFluidAdvanced extends CoverDetectorFluid implements Co
         setRedstoneSignalOutput(outputAmount);
     }
 
+    @Override
+    public void markAsDirty() {
+        // filters notify their cover through this when their settings change
+        CoverWithUI.super.markAsDirty();
+        CoverTickScheduler.wakeCover(this);
+    }
+
     @Override
     public void writeToNBT(@NotNull NBTTagCompound tagCompound) {
         super.writeToNBT(tagCompound);
@@ -7,7 +7,6 @@ import gregtech.client.renderer.texture.Textures;
 
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 
@@ -17,7 +16,7 @@ import codechicken.lib.vec.Cuboid6;
 import codechicken.lib.vec.Matrix4;
 import org.jetbrains.annotations.NotNull;
 
-public class CoverDetectorItem extends CoverDetectorBase implements ITickable {
+public class CoverDetectorItem extends CoverDetectorBase {
 
     public CoverDetectorItem(@NotNull CoverDefinition definition, @NotNull CoverableView coverableView,
                              @NotNull EnumFacing attachedSide) {
@@ -35,6 +34,11 @@ public class CoverDetectorItem extends CoverDetectorBase implements ITickable {
         Textures.DETECTOR_ITEM.renderSided(getAttachedSide(), plateBox, renderState, pipeline, translation);
     }
 
+    @Override
+    public boolean updateScheduled() {
+        return updateComparingOutput();
+    }
+
     @Override
     public void update() {
         if (getOffsetTimer() % 20 != 0) return;
@@ -1,6 +1,7 @@
 package gregtech.common.covers.detector;
 
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverTickScheduler;
 import gregtech.api.cover.CoverWithUI;
 import gregtech.api.cover.CoverableView;
 import gregtech.api.gui.GuiTextures;
@@ -111,6 +112,7 @@ public class CoverDetectorItemAdvanced extends CoverDetectorItem implements Cove
             parsedValue = DEFAULT_MIN;
         }
         this.min = Math.min(max - 1, Math.max(0, parsedValue));
+        CoverTickScheduler.wakeCover(this);
     }
 
     private void setMaxValue(String val) {
@@ -121,10 +123,12 @@ public class CoverDetectorItemAdvanced extends CoverDetectorItem implements Cove
             parsedValue = DEFAULT_MAX;
         }
         max = Math.max(min + 1, parsedValue);
+        CoverTickScheduler.wakeCover(this);
     }
 
     private void setLatched(boolean isLatched) {
         this.isLatched = isLatched;
+        CoverTickScheduler.wakeCover(this);
     }
 
     public boolean isLatched() {
@@ -165,6 +169,13 @@ public class CoverDetectorItemAdvanced extends CoverDetectorItem implements Cove
         setRedstoneSignalOutput(outputAmount);
     }
 
+    @Override
+    public void markAsDirty() {
+        // filters notify their cover through this when their settings change
+        CoverWithUI.super.markAsDirty();
+        CoverTickScheduler.wakeCover(this);
+    }
+
     @Override
     public void writeToNBT(@NotNull NBTTagCompound tagCompound) {
         super.writeToNBT(tagCompound);
@@ -8,7 +8,6 @@ import gregtech.common.ConfigHolder;
 
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 
 import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.IVertexOperation;
@@ -16,7 +15,7 @@ import codechicken.lib.vec.Cuboid6;
 import codechicken.lib.vec.Matrix4;
 import org.jetbrains.annotations.NotNull;
 
-public class CoverDetectorMaintenance extends CoverDetectorBase implements ITickable {
+public class CoverDetectorMaintenance extends CoverDetectorBase {
 
     public CoverDetectorMaintenance(@NotNull CoverDefinition definition, @NotNull CoverableView coverableView,
                                     @NotNull EnumFacing attachedSide) {
@@ -81,6 +81,16 @@ public abstract class CoverAbstractEnderLink<T extends VirtualEntry> extends Cov
         markDirty();
     }
 
+    /**
+     * @return the entry the cover is linked to, linking it again if the entry was deleted from the registry
+     */
+    protected T getActiveEntry() {
+        if (this.activeEntry.isRemoved()) {
+            updateLink();
+        }
+        return this.activeEntry;
+    }
+
     protected abstract EntryTypes<T> getType();
 
     public String getColorStr() {
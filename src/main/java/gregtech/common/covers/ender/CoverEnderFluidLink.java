@@ -101,10 +101,11 @@ public class CoverEnderFluidLink extends CoverAbstractEnderLink<VirtualTank>
         IFluidHandler fluidHandler = getCoverableView().getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY,
                 getAttachedSide());
         if (fluidHandler == null) return;
+        VirtualTank tank = getActiveEntry();
         if (pumpMode == CoverPump.PumpMode.IMPORT) {
-            GTTransferUtils.transferFluids(fluidHandler, activeEntry, TRANSFER_RATE, fluidFilter::test);
+            GTTransferUtils.transferFluids(fluidHandler, tank, TRANSFER_RATE, fluidFilter::test);
         } else if (pumpMode == CoverPump.PumpMode.EXPORT) {
-            GTTransferUtils.transferFluids(activeEntry, fluidHandler, TRANSFER_RATE, fluidFilter::test);
+            GTTransferUtils.transferFluids(tank, fluidHandler, TRANSFER_RATE, fluidFilter::test);
         }
     }
 
@@ -175,7 +176,7 @@ public class CoverEnderFluidLink extends CoverAbstractEnderLink<VirtualTank>
 
     public <T> T getCapability(Capability<T> capability, T defaultValue) {
         if (capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY) {
-            return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(this.activeEntry);
+            return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(getActiveEntry());
         }
         if (capability == GregtechTileCapabilities.CAPABILITY_CONTROLLABLE) {
             return GregtechTileCapabilities.CAPABILITY_CONTROLLABLE.cast(this);
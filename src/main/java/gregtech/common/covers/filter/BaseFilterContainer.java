@@ -8,6 +8,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.MathHelper;
+import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
 
 import com.cleanroommc.modularui.api.drawable.IKey;
@@ -50,6 +51,25 @@ public abstract class BaseFilterContainer extends ItemStackHandler {
         return getFilter().match(toMatch);
     }
 
+    /**
+     * Matches the stacks in every slot of an inventory.
+     *
+     * @param inventory the inventory to match
+     * @return the result for each slot, which is {@link MatchResult#NONE} for empty slots
+     * @see IFilter#matchAll(IItemHandler)
+     */
+    public MatchResult @NotNull [] matchAll(@NotNull IItemHandler inventory) {
+        if (hasFilter()) {
+            return getFilter().matchAll(inventory);
+        }
+        MatchResult[] results = new MatchResult[inventory.getSlots()];
+        for (int i = 0; i < results.length; i++) {
+            ItemStack stack = inventory.getStackInSlot(i);
+            results[i] = stack.isEmpty() ? MatchResult.NONE : MatchResult.create(true, stack, -1);
+        }
+        return results;
+    }
+
     public int getTransferLimit(Object stack) {
         if (!hasFilter() || isBlacklistFilter()) {
             return getTransferSize();
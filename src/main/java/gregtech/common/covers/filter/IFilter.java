@@ -5,6 +5,7 @@ import gregtech.api.util.IDirtyNotifiable;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.items.IItemHandler;
 
 import com.cleanroommc.modularui.screen.ModularPanel;
 import com.cleanroommc.modularui.value.sync.PanelSyncManager;
@@ -48,6 +49,21 @@ public interface IFilter {
 
     boolean test(Object toTest);
 
+    /**
+     * Matches the stacks in every slot of an inventory.
+     *
+     * @param inventory the inventory to match
+     * @return the result for each slot, which is {@link MatchResult#NONE} for empty slots
+     */
+    default MatchResult @NotNull [] matchAll(@NotNull IItemHandler inventory) {
+        MatchResult[] results = new MatchResult[inventory.getSlots()];
+        for (int i = 0; i < results.length; i++) {
+            ItemStack stack = inventory.getStackInSlot(i);
+            results[i] = stack.isEmpty() ? MatchResult.NONE : match(stack);
+        }
+        return results;
+    }
+
     int getTransferLimit(Object stack, int transferSize);
 
     default int getTransferLimit(int slot, int transferSize) {
@@ -0,0 +1,57 @@
+package gregtech.common.covers.filter;
+
+import gregtech.api.util.ItemStackHashStrategy;
+
+import net.minecraft.item.ItemStack;
+
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenCustomHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Remembers the results of matching item stacks against a filter, by item, metadata and NBT.
+ * <p>
+ * Holds at most {@link #MAX_SIZE} results, evicting the oldest result first. Must be cleared whenever the settings of
+ * the filter change.
+ */
+public class ItemFilterMatchCache {
+
+    public static final int MAX_SIZE = 256;
+    private static final int MISSING = Integer.MIN_VALUE;
+
+    private final Object2IntLinkedOpenCustomHashMap<ItemStack> results = new Object2IntLinkedOpenCustomHashMap<>(
+            ItemStackHashStrategy.comparingAllButCount());
+
+    public ItemFilterMatchCache() {
+        results.defaultReturnValue(MISSING);
+    }
+
+    /**
+     * Gets the result for a stack, matching it if there is no result yet.
+     *
+     * @param stack   the stack to match
+     * @param matcher the function matching stacks, which must never return {@link Integer#MIN_VALUE}
+     * @return the result for the stack
+     */
+    public int getOrMatch(@NotNull ItemStack stack, @NotNull ToIntFunction<ItemStack> matcher) {
+        int result = results.getInt(stack);
+        if (result == MISSING) {
+            result = matcher.applyAsInt(stack);
+            if (results.size() >= MAX_SIZE) {
+                results.removeFirstInt();
+            }
+            // stacks are mutable, so the key must not be shared with the caller
+            results.put(stack.copy(), result);
+        }
+        return result;
+    }
+
+    public void clear() {
+        results.clear();
+    }
+
+    public int size() {
+        return results.size();
+    }
+}
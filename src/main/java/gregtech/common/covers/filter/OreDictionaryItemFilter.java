@@ -44,6 +44,8 @@ public class OreDictionaryItemFilter extends BaseFilter {
     private final Map<Item, ItemVariantMap.Mutable<Boolean>> matchCache = new Object2ObjectOpenHashMap<>();
     private final SingleItemVariantMap<Boolean> noOreDictMatch = new SingleItemVariantMap<>();
     private final OreDictFilterReader filterReader;
+    /** The revision of the filter settings the match cache was filled with */
+    private int cacheRevision;
 
     public OreDictionaryItemFilter(ItemStack stack) {
         this.filterReader = new OreDictFilterReader(stack);
@@ -68,6 +70,7 @@ public class OreDictionaryItemFilter extends BaseFilter {
     protected void clearCache() {
         this.matchCache.clear();
         this.noOreDictMatch.clear();
+        this.cacheRevision = this.filterReader.getRevision();
     }
 
     @Override
@@ -278,6 +281,8 @@ public class OreDictionaryItemFilter extends BaseFilter {
     public boolean matchesItemStack(@NotNull ItemStack itemStack) {
         var result = this.filterReader.getResult();
         if (result == null || result.hasError()) return false;
+        // the expression or its options were changed through the reader
+        if (this.cacheRevision != this.filterReader.getRevision()) clearCache();
         Item item = itemStack.getItem();
         ItemVariantMap<Set<String>> oreDictEntry = OreDictUnifier.getOreDictionaryEntry(item);
 
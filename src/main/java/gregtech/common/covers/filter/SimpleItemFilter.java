@@ -7,6 +7,7 @@ import gregtech.api.gui.widgets.ToggleButtonWidget;
 import gregtech.api.mui.GTGuiTextures;
 import gregtech.api.mui.GTGuis;
 import gregtech.api.util.TextFormattingUtil;
+import gregtech.common.ConfigHolder;
 import gregtech.common.covers.CoverItemVoidingAdvanced;
 import gregtech.common.covers.CoverRoboticArm;
 import gregtech.common.covers.TransferMode;
@@ -36,6 +37,10 @@ public class SimpleItemFilter extends BaseFilter {
 
     private static final int MAX_MATCH_SLOTS = 9;
     private final SimpleItemFilterReader filterReader;
+    private final ItemFilterMatchCache matchCache = new ItemFilterMatchCache();
+    /** The filter slots as of {@link #compiledRevision}, so matching does not need to read stacks from NBT */
+    private ItemStack[] compiledSlots;
+    private int compiledRevision;
 
     public SimpleItemFilter(ItemStack stack) {
         filterReader = new SimpleItemFilterReader(stack, MAX_MATCH_SLOTS);
@@ -48,25 +53,66 @@ public class SimpleItemFilter extends BaseFilter {
 
     @Override
     public MatchResult matchItem(ItemStack itemStack) {
-        int matchedSlot = itemFilterMatch(filterReader, filterReader.isIgnoreDamage(), filterReader.isIgnoreNBT(),
-                itemStack);
+        int matchedSlot = getMatchingSlot(itemStack);
         return MatchResult.create(matchedSlot != -1 == !isBlacklistFilter(),
-                filterReader.getStackInSlot(matchedSlot), matchedSlot);
+                getStackInFilterSlot(matchedSlot), matchedSlot);
     }
 
     @Override
     public boolean testItem(ItemStack toTest) {
-        int matchedSlot = itemFilterMatch(filterReader, filterReader.isIgnoreDamage(), filterReader.isIgnoreNBT(),
-                toTest);
-        return matchedSlot != -1;
+        return getMatchingSlot(toTest) != -1;
     }
 
     @Override
     public int getTransferLimit(int matchSlot, int transferSize) {
-        ItemStack stackInFilterSlot = filterReader.getStackInSlot(matchSlot);
+        ItemStack stackInFilterSlot = getStackInFilterSlot(matchSlot);
         return Math.min(stackInFilterSlot.getCount(), transferSize);
     }
 
+    /**
+     * @return the index of the first filter slot matching the stack, or -1 if there is none
+     */
+    private int getMatchingSlot(@NotNull ItemStack stack) {
+        if (!ConfigHolder.performance.itemFilterMatchCache) {
+            return itemFilterMatch(filterReader, filterReader.isIgnoreDamage(), filterReader.isIgnoreNBT(), stack);
+        }
+        compileIfChanged();
+        return matchCache.getOrMatch(stack, this::matchCompiledSlots);
+    }
+
+    @NotNull
+    private ItemStack getStackInFilterSlot(int slot) {
+        if (!ConfigHolder.performance.itemFilterMatchCache) {
+            return filterReader.getStackInSlot(slot);
+        }
+        compileIfChanged();
+        return slot >= 0 && slot < compiledSlots.length ? compiledSlots[slot].copy() : ItemStack.EMPTY;
+    }
+
+    private void compileIfChanged() {
+        int revision = filterReader.getRevision();
+        if (compiledSlots != null && compiledRevision == revision) return;
+        ItemStack[] slots = new ItemStack[filterReader.getSlots()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = filterReader.getStackInSlot(i);
+        }
+        this.compiledSlots = slots;
+        this.compiledRevision = revision;
+        this.matchCache.clear();
+    }
+
+    private int matchCompiledSlots(@NotNull ItemStack stack) {
+        boolean ignoreDamage = filterReader.isIgnoreDamage();
+        boolean ignoreNBT = filterReader.isIgnoreNBT();
+        for (int i = 0; i < compiledSlots.length; i++) {
+            ItemStack filterStack = compiledSlots[i];
+            if (!filterStack.isEmpty() && areItemsEqual(ignoreDamage, ignoreNBT, filterStack, stack)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @Override
     public FilterType getType() {
         return FilterType.ITEM;
@@ -74,9 +120,7 @@ public class SimpleItemFilter extends BaseFilter {
 
     @Override
     public int getTransferLimit(ItemStack stack, int transferSize) {
-        int matchedSlot = itemFilterMatch(filterReader, filterReader.isIgnoreDamage(), filterReader.isIgnoreNBT(),
-                stack);
-        return getTransferLimit(matchedSlot, transferSize);
+        return getTransferLimit(getMatchingSlot(stack), transferSize);
     }
 
     @Override
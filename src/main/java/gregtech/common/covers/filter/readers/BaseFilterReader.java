@@ -17,6 +17,7 @@ public class BaseFilterReader implements FilterReader, INBTSerializable<NBTTagCo
     private IDirtyNotifiable dirtyNotifiable;
     private final int size;
     private int maxTransferRate = 1;
+    private int revision;
     protected static final String BLACKLIST = "IsBlacklist";
     protected static final String FILTER_CONTENTS = "FilterSlots";
     protected static final String KEY_LEGACY_FILTER = "Filter";
@@ -34,6 +35,7 @@ public class BaseFilterReader implements FilterReader, INBTSerializable<NBTTagCo
     @Override
     public void readStack(@NotNull ItemStack stack) {
         this.container = stack;
+        this.revision++;
     }
 
     public @NotNull NBTTagList getInventoryNbt() {
@@ -66,7 +68,15 @@ public class BaseFilterReader implements FilterReader, INBTSerializable<NBTTagCo
         this.dirtyNotifiable = dirtyNotifiable;
     }
 
+    /**
+     * @return a number which changes every time the settings of the filter change
+     */
+    public final int getRevision() {
+        return this.revision;
+    }
+
     public final void markDirty() {
+        this.revision++;
         if (dirtyNotifiable != null) {
             dirtyNotifiable.markAsDirty();
         }
@@ -11,6 +11,9 @@ import gregtech.api.worldgen.bedrockFluids.BedrockFluidVeinHandler;
 import gregtech.api.worldgen.config.OreDepositDefinition;
 import gregtech.api.worldgen.config.WorldGenRegistry;
 import gregtech.api.worldgen.filler.FillerEntry;
+import gregtech.api.worldgen.generator.IndexedVein;
+import gregtech.api.worldgen.generator.OreVeinIndex;
+import gregtech.common.ConfigHolder;
 import gregtech.common.gui.widget.prospector.ProspectingTexture;
 import gregtech.common.gui.widget.prospector.ProspectorMode;
 import gregtech.core.network.packets.PacketProspecting;
@@ -124,43 +127,22 @@ public class WidgetProspectingMap extends Widget {
 
             switch (mode) {
                 case ORE:
+                    OreVeinIndex index = ConfigHolder.performance.oreVeinIndexLookups ? OreVeinIndex.get(world) :
+                            null;
+                    List<IndexedVein> indexedVeins = index == null ? null : index.getVeins(chunk.x, chunk.z);
+                    if (indexedVeins != null) {
+                        addIndexedOres(packet, chunk, index, indexedVeins);
+                        break;
+                    }
                     BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
                     for (int x = 0; x < 16; x++) {
                         for (int z = 0; z < 16; z++) {
                             int ySize = chunk.getHeightValue(x, z);
                             for (int y = 1; y < ySize; y++) {
                                 pos.setPos(x, y, z);
-                                IBlockState state = chunk.getBlockState(pos);
-                                ItemStack itemBlock = GTUtility.toItem(state);
+                                ItemStack itemBlock = GTUtility.toItem(chunk.getBlockState(pos));
                                 if (GTUtility.isOre(itemBlock)) {
-                                    boolean added = false;
-                                    String oreDictString = OreDictUnifier.getOreDictionaryNames(itemBlock).stream()
-                                            .findFirst()
-                                            .orElse("");
-                                    OrePrefix prefix = OreDictUnifier.getPrefix(itemBlock);
-                                    if (prefix != null) {
-                                        for (StoneType type : StoneType.STONE_TYPE_REGISTRY) {
-                                            if (type.processingPrefix == prefix && type.shouldBeDroppedAsItem) {
-                                                packet.addBlock(x, y, z, oreDictString);
-                                                added = true;
-                                                break;
-                                            } else if (type.processingPrefix == prefix) {
-                                                MaterialStack materialStack = OreDictUnifier.getMaterial(itemBlock);
-                                                if (materialStack != null) {
-                                                    String oreDict = "ore" +
-                                                            oreDictString.replaceFirst(prefix.name(), "");
-                                                    packet.addBlock(x, y, z, oreDict);
-                                                    added = true;
-                                                    break;
-                                                }
-                                            }
-                                        }
-                                    }
-                                    // Probably other mod's ores
-                                    if (!added) {
-                                        // Fallback
-                                        packet.addBlock(x, y, z, oreDictString);
-                                    }
+                                    packet.addBlock(x, y, z, getOreName(itemBlock));
                                 }
                             }
                         }
@@ -190,6 +172,69 @@ public class WidgetProspectingMap extends Widget {
         }
     }
 
+    /**
+     * Adds the ores in the columns and y range of a chunk's indexed veins, scanning each block once even where veins
+     * overlap. Veins with none of their ores left are removed from the index.
+     */
+    private static void addIndexedOres(@NotNull PacketProspecting packet, @NotNull Chunk chunk,
+                                       @NotNull OreVeinIndex index, @NotNull List<IndexedVein> veins) {
+        if (veins.isEmpty()) return;
+        boolean[] foundVeinOre = new boolean[veins.size()];
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int minY = Integer.MAX_VALUE;
+                int maxY = Integer.MIN_VALUE;
+                for (IndexedVein vein : veins) {
+                    if (vein.hasColumn(x, z)) {
+                        minY = Math.min(minY, vein.getMinY());
+                        maxY = Math.max(maxY, vein.getMaxY());
+                    }
+                }
+                for (int y = minY; y <= maxY; y++) {
+                    pos.setPos(x, y, z);
+                    IBlockState state = chunk.getBlockState(pos);
+                    ItemStack itemBlock = GTUtility.toItem(state);
+                    if (!GTUtility.isOre(itemBlock)) continue;
+                    packet.addBlock(x, y, z, getOreName(itemBlock));
+                    for (int i = 0; i < foundVeinOre.length; i++) {
+                        if (!foundVeinOre[i] && veins.get(i).hasState(state)) {
+                            foundVeinOre[i] = true;
+                        }
+                    }
+                }
+            }
+        }
+        // removing a vein replaces the list of the chunk, so the veins can still be iterated here
+        for (int i = 0; i < foundVeinOre.length; i++) {
+            if (!foundVeinOre[i]) {
+                index.removeVein(chunk.x, chunk.z, veins.get(i));
+            }
+        }
+    }
+
+    @NotNull
+    private static String getOreName(@NotNull ItemStack itemBlock) {
+        String oreDictString = OreDictUnifier.getOreDictionaryNames(itemBlock).stream()
+                .findFirst()
+                .orElse("");
+        OrePrefix prefix = OreDictUnifier.getPrefix(itemBlock);
+        if (prefix != null) {
+            for (StoneType type : StoneType.STONE_TYPE_REGISTRY) {
+                if (type.processingPrefix == prefix && type.shouldBeDroppedAsItem) {
+                    return oreDictString;
+                } else if (type.processingPrefix == prefix) {
+                    MaterialStack materialStack = OreDictUnifier.getMaterial(itemBlock);
+                    if (materialStack != null) {
+                        return "ore" + oreDictString.replaceFirst(prefix.name(), "");
+                    }
+                }
+            }
+        }
+        // Probably other mod's ores
+        return oreDictString;
+    }
+
     @SideOnly(Side.CLIENT)
     @Override
     public void drawInBackground(int mouseX, int mouseY, float partialTicks, IRenderContext context) {
@@ -255,8 +255,8 @@ public class AdvancedMonitorPluginBehavior extends ProxyHolderPluginBehavior {
                                     entity.getWorld(), entity.getPos(), entity.getFrontFacing().getOpposite(),
                                     entity.getUpwardsFacing(), entity.allowsFlip());
                             if (result != null) {
-                                validPos = entity.structurePattern.cache.keySet().stream().map(BlockPos::fromLong)
-                                        .collect(Collectors.toSet());
+                                validPos = Arrays.stream(entity.structurePattern.getMatchCache().toPositionArray())
+                                        .mapToObj(BlockPos::fromLong).collect(Collectors.toSet());
                                 writePluginData(GregtechDataCodes.UPDATE_ADVANCED_VALID_POS, buf -> {
                                     buf.writeVarInt(validPos.size());
                                     for (BlockPos pos : validPos) {
@@ -103,7 +103,7 @@ public class MetaTileEntityFisher extends TieredMetaTileEntity {
                 if (GTTransferUtils.addItemsToItemHandler(exportItems, true, itemStacks)) {
                     GTTransferUtils.addItemsToItemHandler(exportItems, false, itemStacks);
                     energyContainer.removeEnergy(energyAmountPerFish);
-                    baitStack.shrink(1);
+                    importItems.extractItem(0, 1, false);
                 }
             }
         }
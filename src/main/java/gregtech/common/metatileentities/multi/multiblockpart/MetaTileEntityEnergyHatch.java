@@ -219,7 +219,7 @@ public class MetaTileEntityEnergyHatch extends MetaTileEntityMultiblockPart
     public void onRemoval() {
         if (!getWorld().isRemote && isConnected()) {
             IQuantumController controller = getQuantumController();
-            if (controller != null) controller.rebuildNetwork();
+            if (controller != null) controller.onStorageRemoved(this);
         }
     }
 
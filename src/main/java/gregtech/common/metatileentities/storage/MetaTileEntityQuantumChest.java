@@ -2,6 +2,8 @@ package gregtech.common.metatileentities.storage;
 
 import gregtech.api.capability.GregtechTileCapabilities;
 import gregtech.api.capability.IActiveOutputSide;
+import gregtech.api.capability.IQuantumController;
+import gregtech.api.capability.IVersionedHandler;
 import gregtech.api.capability.impl.ItemHandlerList;
 import gregtech.api.capability.impl.ItemHandlerProxy;
 import gregtech.api.cover.CoverRayTracer;
@@ -69,6 +71,8 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
     /** The ItemStack that the Quantum Chest is storing */
     protected ItemStack virtualItemStack = ItemStack.EMPTY;
     protected long itemsStoredInside = 0L;
+    /** Counts the changes to the virtualized items, and to what can be inserted */
+    private long virtualContentsVersion;
     private boolean autoOutputItems;
     private EnumFacing outputFacing;
     private boolean allowInputFromOutputSide = false;
@@ -80,6 +84,8 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
     private ItemHandlerList combinedInventory;
     protected ItemStack previousStack;
     protected long previousStackSize;
+    /** The stored item the quantum controller was last told about */
+    private ItemStack reportedItem = ItemStack.EMPTY;
     protected boolean voiding;
 
     public MetaTileEntityQuantumChest(ResourceLocation metaTileEntityId, int tier, long maxStoredItems) {
@@ -170,7 +176,39 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
                 writeCustomData(UPDATE_ITEM_COUNT, buf -> buf.writeLong(itemsStoredInside));
                 previousStackSize = itemsStoredInside;
             }
+
+            ItemStack storedItem = getStoredItem();
+            if (storedItem.isEmpty() != reportedItem.isEmpty() ||
+                    (!storedItem.isEmpty() && !areItemStackIdentical(storedItem, reportedItem))) {
+                reportedItem = storedItem.isEmpty() ? ItemStack.EMPTY : storedItem.copy();
+                IQuantumController controller = getQuantumController();
+                if (controller != null) {
+                    controller.onStorageContentsChanged(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the item stored in this chest, virtually or in its output slot, which must not be modified
+     */
+    @NotNull
+    public ItemStack getStoredItem() {
+        if (!virtualItemStack.isEmpty() && itemsStoredInside > 0L) {
+            return virtualItemStack;
         }
+        return exportItems.getStackInSlot(0);
+    }
+
+    /**
+     * @return the amount of items stored in this chest, virtually and in its output slot
+     */
+    public long getStoredAmount() {
+        long amount = exportItems.getStackInSlot(0).getCount();
+        if (!virtualItemStack.isEmpty()) {
+            amount += itemsStoredInside;
+        }
+        return amount;
     }
 
     protected static boolean areItemStackIdentical(ItemStack first, ItemStack second) {
@@ -455,6 +493,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
 
     protected void setVoiding(boolean isVoiding) {
         this.voiding = isVoiding;
+        this.virtualContentsVersion++;
         if (!getWorld().isRemote) {
             writeCustomData(UPDATE_IS_VOIDING, buf -> buf.writeBoolean(this.voiding));
             markDirty();
@@ -569,7 +608,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
         return new AxisAlignedBB(getPos());
     }
 
-    private class QuantumChestItemHandler implements IItemHandler {
+    private class QuantumChestItemHandler implements IItemHandler, IVersionedHandler {
 
         @Override
         public int getSlots() {
@@ -608,6 +647,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
             extractedStack.setCount(extractedAmount);
 
             if (!simulate) {
+                MetaTileEntityQuantumChest.this.virtualContentsVersion++;
                 MetaTileEntityQuantumChest.this.itemsStoredInside -= extractedAmount;
                 if (itemsStoredInside == 0L) {
                     MetaTileEntityQuantumChest.this.virtualItemStack = ItemStack.EMPTY;
@@ -651,6 +691,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
 
             if (!simulate) {
                 if (actualVirtualizedAmount > 0) {
+                    MetaTileEntityQuantumChest.this.virtualContentsVersion++;
                     if (virtualItemStack.isEmpty()) {
                         ItemStack virtualStack = insertedStack.copy();
 
@@ -670,6 +711,11 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
                 return remainingStack;
             }
         }
+
+        @Override
+        public long getContentsVersion() {
+            return MetaTileEntityQuantumChest.this.virtualContentsVersion;
+        }
     }
 
     @Override
@@ -111,7 +111,7 @@ public abstract class MetaTileEntityQuantumStorage<T> extends MetaTileEntity imp
     public void onRemoval() {
         if (!getWorld().isRemote && isConnected()) {
             IQuantumController controller = getQuantumController();
-            if (controller != null) controller.rebuildNetwork();
+            if (controller != null) controller.onStorageRemoved(this);
         }
     }
 
@@ -4,6 +4,7 @@ import gregtech.api.GTValues;
 import gregtech.api.capability.GregtechDataCodes;
 import gregtech.api.capability.IDualHandler;
 import gregtech.api.capability.IEnergyContainer;
+import gregtech.api.capability.IIndexedItemHandler;
 import gregtech.api.capability.IQuantumController;
 import gregtech.api.capability.IQuantumStorage;
 import gregtech.api.capability.impl.EnergyContainerList;
@@ -14,6 +15,7 @@ import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.util.GTUtility;
 import gregtech.client.renderer.texture.Textures;
+import gregtech.common.ConfigHolder;
 
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.resources.I18n;
@@ -38,6 +40,7 @@ import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.ColourMultiplier;
 import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
@@ -72,6 +75,7 @@ public class MetaTileEntityQuantumStorageController extends MetaTileEntity imple
     private final BlockPos[] bounds = new BlockPos[2];
     private long energyConsumption = 0;
     private final QuantumControllerHandler handler = new QuantumControllerHandler();
+    private final QuantumItemIndex itemIndex = new QuantumItemIndex();
 
     private boolean isDead = false;
     private boolean isPowered = false;
@@ -214,6 +218,7 @@ public class MetaTileEntityQuantumStorageController extends MetaTileEntity imple
         storagePositions.clear();
         storageInstances.clear();
         typePosMap.clear();
+        itemIndex.clear();
     }
 
     @Override
@@ -336,6 +341,143 @@ public class MetaTileEntityQuantumStorageController extends MetaTileEntity imple
         markDirty();
     }
 
+    @Override
+    public void onStorageAdded(IQuantumStorage<?> storage) {
+        if (getWorld().isRemote) return;
+        if (!ConfigHolder.performance.quantumItemIndex) {
+            rebuildNetwork();
+            return;
+        }
+
+        // only search from the new storage, through storages which are not in the network yet
+        Queue<BlockPos> searchQueue = new ArrayDeque<>();
+        Set<BlockPos> checked = new HashSet<>();
+        searchQueue.add(storage.getPos());
+
+        BlockPos min = bounds[0] == null ? getPos() : bounds[0];
+        BlockPos max = bounds[1] == null ? getPos() : bounds[1];
+        int minx = min.getX();
+        int miny = min.getY();
+        int minz = min.getZ();
+        int maxx = max.getX();
+        int maxy = max.getY();
+        int maxz = max.getZ();
+
+        while (!searchQueue.isEmpty()) {
+            BlockPos pos = searchQueue.remove();
+            if (storagePositions.contains(pos) || !checked.add(pos)) continue;
+            if (!isInRange(pos) || !getWorld().isBlockLoaded(pos, false)) continue;
+
+            MetaTileEntity mte = GTUtility.getMetaTileEntity(getWorld(), pos);
+            if (!(mte instanceof IQuantumStorage<?>newStorage)) continue;
+
+            // connected to some other network already, ignore
+            if (newStorage.isConnected() && !newStorage.getControllerPos().equals(getPos())) continue;
+
+            storageInstances.put(pos, new WeakReference<>(newStorage));
+            storagePositions.add(pos);
+            typePosMap.get(newStorage.getType()).add(pos);
+            newStorage.setConnected(this);
+            if (newStorage instanceof MetaTileEntityQuantumChest chest) {
+                itemIndex.update(chest);
+            }
+
+            minx = Math.min(minx, pos.getX());
+            miny = Math.min(miny, pos.getY());
+            minz = Math.min(minz, pos.getZ());
+
+            maxx = Math.max(maxx, pos.getX());
+            maxy = Math.max(maxy, pos.getY());
+            maxz = Math.max(maxz, pos.getZ());
+
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                BlockPos offsetPos = pos.offset(facing);
+                if (checked.contains(offsetPos) || getPos().equals(offsetPos)) continue;
+                if (checkStorageNeighbor(mte, facing))
+                    searchQueue.add(offsetPos);
+            }
+        }
+
+        this.bounds[0] = new BlockPos(minx, miny, minz);
+        this.bounds[1] = new BlockPos(maxx, maxy, maxz);
+
+        handler.invalidateHandlers();
+        calculateEnergyUsage();
+        markDirty();
+    }
+
+    @Override
+    public void onStorageRemoved(IQuantumStorage<?> storage) {
+        if (getWorld().isRemote) return;
+        BlockPos pos = storage.getPos();
+        if (!ConfigHolder.performance.quantumItemIndex || !storagePositions.contains(pos)) {
+            rebuildNetwork();
+            return;
+        }
+
+        // a storage connected to the network on only one side cannot split it, so it can be removed on its own
+        int connections = 0;
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            BlockPos offsetPos = pos.offset(facing);
+            if (getPos().equals(offsetPos) || storagePositions.contains(offsetPos)) {
+                connections++;
+            }
+        }
+        if (connections > 1) {
+            rebuildNetwork();
+            return;
+        }
+
+        storagePositions.remove(pos);
+        storageInstances.remove(pos);
+        typePosMap.get(storage.getType()).remove(pos);
+        if (storage instanceof MetaTileEntityQuantumChest chest) {
+            itemIndex.remove(chest);
+        }
+        if (isOnBounds(pos)) {
+            recalculateBounds();
+        }
+        handler.invalidateHandlers();
+        calculateEnergyUsage();
+        markDirty();
+    }
+
+    private boolean isOnBounds(BlockPos pos) {
+        BlockPos min = bounds[0];
+        BlockPos max = bounds[1];
+        if (min == null || max == null) return false;
+        return pos.getX() == min.getX() || pos.getY() == min.getY() || pos.getZ() == min.getZ() ||
+                pos.getX() == max.getX() || pos.getY() == max.getY() || pos.getZ() == max.getZ();
+    }
+
+    private void recalculateBounds() {
+        int minx = getPos().getX();
+        int miny = getPos().getY();
+        int minz = getPos().getZ();
+        int maxx = minx;
+        int maxy = miny;
+        int maxz = minz;
+        for (BlockPos pos : storagePositions) {
+            minx = Math.min(minx, pos.getX());
+            miny = Math.min(miny, pos.getY());
+            minz = Math.min(minz, pos.getZ());
+
+            maxx = Math.max(maxx, pos.getX());
+            maxy = Math.max(maxy, pos.getY());
+            maxz = Math.max(maxz, pos.getZ());
+        }
+        this.bounds[0] = new BlockPos(minx, miny, minz);
+        this.bounds[1] = new BlockPos(maxx, maxy, maxz);
+    }
+
+    @Override
+    public void onStorageContentsChanged(IQuantumStorage<?> storage) {
+        if (ConfigHolder.performance.quantumItemIndex && storage instanceof MetaTileEntityQuantumChest chest &&
+                storagePositions.contains(chest.getPos())) {
+            itemIndex.update(chest);
+        }
+    }
+
     private static boolean checkStorageNeighbor(MetaTileEntity mte, EnumFacing facing) {
         if (mte.getNeighbor(facing) instanceof IGregTechTileEntity gtte) {
             return gtte.getMetaTileEntity() instanceof IQuantumStorage<?>;
@@ -468,26 +610,60 @@ public class MetaTileEntityQuantumStorageController extends MetaTileEntity imple
         // IItemHandler saved values
         private ItemHandlerList itemHandlers;
 
+        // if the item index holds every chest of the network
+        private boolean itemsIndexed;
+
         private void invalidate() {
             fluidTanks = new FluidTankList(false);
             itemHandlers = new ItemHandlerList(Collections.emptyList());
+            itemsIndexed = false;
         }
 
+        /**
+         * Rebuilds the handler lists and the item index from every storage of the network.
+         */
         private void rebuildCache() {
+            itemIndex.clear();
+            itemsIndexed = false;
+            rebuildHandlers();
+        }
+
+        /**
+         * Drops the handler lists, so they are rebuilt on their next use. The item index is kept, so storages added to
+         * or removed from the network must be added to or removed from the index by the caller.
+         */
+        private void invalidateHandlers() {
+            fluidTanks = null;
+            itemHandlers = null;
+        }
+
+        /**
+         * Rebuilds the handler lists, and indexes the chests if they were not indexed yet.
+         */
+        private void rebuildHandlers() {
             List<IItemHandler> itemHandlerList = new ArrayList<>();
             List<IFluidTank> fluidTankList = new ArrayList<>();
+            boolean indexItems = ConfigHolder.performance.quantumItemIndex;
+            boolean addToIndex = indexItems && !itemsIndexed;
             for (BlockPos pos : storagePositions) {
                 IQuantumStorage<?> storage = getStorage(pos);
                 if (storage == null) continue;
                 switch (storage.getType()) {
-                    case ITEM -> itemHandlerList.add((IItemHandler) storage.getTypeValue());
+                    case ITEM -> {
+                        itemHandlerList.add((IItemHandler) storage.getTypeValue());
+                        if (addToIndex && storage instanceof MetaTileEntityQuantumChest chest) {
+                            itemIndex.update(chest);
+                        }
+                    }
                     case FLUID -> fluidTankList.add((IFluidTank) storage.getTypeValue());
                 }
             }
 
+            this.itemsIndexed = indexItems;
             // todo allow this "allowSameFluidFill" to be configured in this controller?
             this.fluidTanks = new FluidTankList(false, fluidTankList);
-            this.itemHandlers = new ItemHandlerList(itemHandlerList);
+            this.itemHandlers = indexItems ? new IndexedItemHandlerList(itemHandlerList) :
+                    new ItemHandlerList(itemHandlerList);
         }
 
         @Override
@@ -503,7 +679,7 @@ public class MetaTileEntityQuantumStorageController extends MetaTileEntity imple
         @Override
         public FluidTankList getFluidTanks() {
             if (fluidTanks == null) {
-                rebuildCache();
+                rebuildHandlers();
             }
             return fluidTanks;
         }
@@ -511,9 +687,42 @@ public class MetaTileEntityQuantumStorageController extends MetaTileEntity imple
         @Override
         public ItemHandlerList getItemHandlers() {
             if (itemHandlers == null) {
-                rebuildCache();
+                rebuildHandlers();
             }
             return itemHandlers;
         }
     }
+
+    /**
+     * The items of the network, inserted into and extracted from the chests which hold them through the item index
+     */
+    private class IndexedItemHandlerList extends ItemHandlerList implements IIndexedItemHandler {
+
+        private IndexedItemHandlerList(List<? extends IItemHandler> itemHandlerList) {
+            super(itemHandlerList);
+        }
+
+        @NotNull
+        @Override
+        public ItemStack insertItem(@NotNull ItemStack stack, boolean simulate) {
+            return itemIndex.insert(stack, simulate);
+        }
+
+        @NotNull
+        @Override
+        public ItemStack extractItem(@NotNull ItemStack stack, int amount, boolean simulate) {
+            return itemIndex.extract(stack, amount, simulate);
+        }
+
+        @Override
+        public long getItemCount(@NotNull ItemStack stack) {
+            return itemIndex.getCount(stack);
+        }
+
+        @NotNull
+        @Override
+        public Object2LongMap<ItemStack> getItemCounts() {
+            return itemIndex.getCounts();
+        }
+    }
 }
@@ -4,6 +4,7 @@ import gregtech.api.capability.GregtechTileCapabilities;
 import gregtech.api.capability.IActiveOutputSide;
 import gregtech.api.capability.IFilter;
 import gregtech.api.capability.IFilteredFluidContainer;
+import gregtech.api.capability.IVersionedHandler;
 import gregtech.api.capability.impl.FilteredItemHandler;
 import gregtech.api.capability.impl.FluidHandlerProxy;
 import gregtech.api.capability.impl.FluidTankList;
@@ -90,6 +91,8 @@ public class MetaTileEntityQuantumTank extends MetaTileEntityQuantumStorage<IFlu
     protected FluidStack previousFluid;
     protected boolean locked;
     protected boolean voiding;
+    /** Counts the changes to the stored fluid, and to what can be filled */
+    private long fluidContentsVersion;
     @Nullable
     private FluidStack lockedFluid;
 
@@ -619,6 +622,7 @@ public class MetaTileEntityQuantumTank extends MetaTileEntityQuantumStorage<IFlu
     protected void setLocked(boolean locked) {
         if (this.locked == locked) return;
         this.locked = locked;
+        this.fluidContentsVersion++;
         if (!getWorld().isRemote) {
             markDirty();
         }
@@ -636,6 +640,7 @@ public class MetaTileEntityQuantumTank extends MetaTileEntityQuantumStorage<IFlu
 
     protected void setVoiding(boolean isPartialVoid) {
         this.voiding = isPartialVoid;
+        this.fluidContentsVersion++;
         if (!getWorld().isRemote) {
             writeCustomData(UPDATE_IS_VOIDING, buf -> buf.writeBoolean(this.voiding));
             markDirty();
@@ -676,7 +681,8 @@ public class MetaTileEntityQuantumTank extends MetaTileEntityQuantumStorage<IFlu
         return 0;
     }
 
-    private class QuantumFluidTank extends FluidTank implements IFilteredFluidContainer, IFilter<FluidStack> {
+    private class QuantumFluidTank extends FluidTank
+                                   implements IFilteredFluidContainer, IFilter<FluidStack>, IVersionedHandler {
 
         public QuantumFluidTank(int capacity) {
             super(capacity);
@@ -698,6 +704,17 @@ public class MetaTileEntityQuantumTank extends MetaTileEntityQuantumStorage<IFlu
             return voiding ? resource.amount : accepted;
         }
 
+        @Override
+        protected void onContentsChanged() {
+            super.onContentsChanged();
+            MetaTileEntityQuantumTank.this.fluidContentsVersion++;
+        }
+
+        @Override
+        public long getContentsVersion() {
+            return MetaTileEntityQuantumTank.this.fluidContentsVersion;
+        }
+
         @Override
         public boolean canFillFluidType(FluidStack fluid) {
             return test(fluid);
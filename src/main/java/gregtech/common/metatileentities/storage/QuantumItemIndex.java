@@ -0,0 +1,212 @@
+package gregtech.common.metatileentities.storage;
+
+import gregtech.api.util.GTTransferUtils;
+import gregtech.api.util.ItemStackHashStrategy;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenCustomHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Knows which quantum chests of a network hold each kind of item, and which are empty.
+ * <p>
+ * Chests report when the kind of item they hold changes on their next tick, so the index may be a tick behind. Every
+ * chest is checked before it is used, and re-indexed if it no longer holds what the index expected.
+ */
+public class QuantumItemIndex {
+
+    private static final ItemStackHashStrategy STRATEGY = ItemStackHashStrategy.comparingAllButCount();
+    private static final MetaTileEntityQuantumChest[] NO_CHESTS = new MetaTileEntityQuantumChest[0];
+
+    private final Map<ItemStack, List<MetaTileEntityQuantumChest>> chestsByItem =
+            new Object2ObjectOpenCustomHashMap<>(STRATEGY);
+    private final Map<MetaTileEntityQuantumChest, ItemStack> itemByChest = new Reference2ObjectOpenHashMap<>();
+    private final Set<MetaTileEntityQuantumChest> emptyChests = new ReferenceLinkedOpenHashSet<>();
+
+    /**
+     * Adds a chest to the index, or updates the item it is indexed by.
+     *
+     * @param chest the chest
+     */
+    public void update(@NotNull MetaTileEntityQuantumChest chest) {
+        ItemStack storedItem = chest.getStoredItem();
+        ItemStack indexedItem = itemByChest.get(chest);
+        if (indexedItem != null) {
+            if (isSameItem(indexedItem, storedItem)) return;
+            unlink(chest, indexedItem);
+        }
+
+        if (storedItem.isEmpty()) {
+            itemByChest.put(chest, ItemStack.EMPTY);
+            emptyChests.add(chest);
+        } else {
+            ItemStack key = storedItem.copy();
+            key.setCount(1);
+            itemByChest.put(chest, key);
+            chestsByItem.computeIfAbsent(key, k -> new ArrayList<>()).add(chest);
+        }
+    }
+
+    /**
+     * @param chest the chest to remove from the index
+     */
+    public void remove(@NotNull MetaTileEntityQuantumChest chest) {
+        ItemStack indexedItem = itemByChest.remove(chest);
+        if (indexedItem != null) {
+            unlink(chest, indexedItem);
+        }
+    }
+
+    public void clear() {
+        chestsByItem.clear();
+        itemByChest.clear();
+        emptyChests.clear();
+    }
+
+    private void unlink(@NotNull MetaTileEntityQuantumChest chest, @NotNull ItemStack indexedItem) {
+        if (indexedItem.isEmpty()) {
+            emptyChests.remove(chest);
+            return;
+        }
+        List<MetaTileEntityQuantumChest> chests = chestsByItem.get(indexedItem);
+        if (chests != null) {
+            chests.remove(chest);
+            if (chests.isEmpty()) {
+                chestsByItem.remove(indexedItem);
+            }
+        }
+    }
+
+    /**
+     * Inserts a stack into the chests holding its item, then into empty chests.
+     *
+     * @param stack    the stack to insert
+     * @param simulate if the insertion should only be simulated
+     * @return the part of the stack which could not be inserted
+     */
+    @NotNull
+    public ItemStack insert(@NotNull ItemStack stack, boolean simulate) {
+        if (stack.isEmpty()) return stack;
+        stack = insert(chestsByItem.get(stack), stack, simulate);
+        if (stack.isEmpty()) return stack;
+        return insert(emptyChests, stack, simulate);
+    }
+
+    @NotNull
+    private ItemStack insert(@Nullable Collection<MetaTileEntityQuantumChest> chests, @NotNull ItemStack stack,
+                             boolean simulate) {
+        // copy the chests, as using them may update the index
+        for (MetaTileEntityQuantumChest chest : toArray(chests)) {
+            if (!isUsable(chest)) continue;
+            ItemStack storedItem = chest.getStoredItem();
+            if (!storedItem.isEmpty() && !STRATEGY.equals(storedItem, stack)) {
+                update(chest);
+                continue;
+            }
+
+            stack = GTTransferUtils.insertItem(chest.getTypeValue(), stack, simulate);
+            if (!simulate) {
+                update(chest);
+            }
+            if (stack.isEmpty()) break;
+        }
+        return stack;
+    }
+
+    /**
+     * @param stack    the item to extract
+     * @param amount   the most items to extract
+     * @param simulate if the extraction should only be simulated
+     * @return the extracted stack
+     */
+    @NotNull
+    public ItemStack extract(@NotNull ItemStack stack, int amount, boolean simulate) {
+        if (stack.isEmpty() || amount <= 0) return ItemStack.EMPTY;
+
+        int extracted = 0;
+        for (MetaTileEntityQuantumChest chest : toArray(chestsByItem.get(stack))) {
+            if (!isUsable(chest)) continue;
+            if (!STRATEGY.equals(chest.getStoredItem(), stack)) {
+                update(chest);
+                continue;
+            }
+
+            IItemHandler handler = chest.getTypeValue();
+            for (int slot = 0; slot < handler.getSlots() && extracted < amount; slot++) {
+                extracted += handler.extractItem(slot, amount - extracted, simulate).getCount();
+            }
+            if (!simulate) {
+                update(chest);
+            }
+            if (extracted >= amount) break;
+        }
+
+        if (extracted == 0) return ItemStack.EMPTY;
+        ItemStack result = stack.copy();
+        result.setCount(extracted);
+        return result;
+    }
+
+    /**
+     * @param stack the item to count
+     * @return the amount of the item in the indexed chests
+     */
+    public long getCount(@NotNull ItemStack stack) {
+        List<MetaTileEntityQuantumChest> chests = chestsByItem.get(stack);
+        if (chests == null) return 0;
+
+        long count = 0;
+        for (MetaTileEntityQuantumChest chest : chests) {
+            if (chest.isValid() && STRATEGY.equals(chest.getStoredItem(), stack)) {
+                count += chest.getStoredAmount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the amount of each item in the indexed chests
+     */
+    @NotNull
+    public Object2LongMap<ItemStack> getCounts() {
+        Object2LongMap<ItemStack> counts = new Object2LongOpenCustomHashMap<>(chestsByItem.size(), STRATEGY);
+        for (Map.Entry<ItemStack, List<MetaTileEntityQuantumChest>> entry : chestsByItem.entrySet()) {
+            long count = getCount(entry.getKey());
+            if (count > 0) {
+                counts.put(entry.getKey().copy(), count);
+            }
+        }
+        return counts;
+    }
+
+    private boolean isUsable(@NotNull MetaTileEntityQuantumChest chest) {
+        if (chest.isValid()) return true;
+        remove(chest);
+        return false;
+    }
+
+    private static boolean isSameItem(@NotNull ItemStack indexedItem, @NotNull ItemStack storedItem) {
+        if (indexedItem.isEmpty() || storedItem.isEmpty()) {
+            return indexedItem.isEmpty() == storedItem.isEmpty();
+        }
+        return STRATEGY.equals(indexedItem, storedItem);
+    }
+
+    @NotNull
+    private static MetaTileEntityQuantumChest[] toArray(@Nullable Collection<MetaTileEntityQuantumChest> chests) {
+        return chests == null || chests.isEmpty() ? NO_CHESTS : chests.toArray(NO_CHESTS);
+    }
+}
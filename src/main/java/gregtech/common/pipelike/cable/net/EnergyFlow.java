@@ -0,0 +1,129 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.GTValues;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Adds up the energy sent over each {@link EnergyRoutePath} in a tick, so it can be applied to the cables on the path
+ * once, instead of on every transfer.
+ * <p>
+ * Each {@link WorldENet} keeps the flow of its world, which only exists on the server. The flow is applied at the end
+ * of a tick in which energy was sent, or as soon as a cable in the world is inspected, and heats the cables as much as
+ * the transfers would have one by one.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class EnergyFlow {
+
+    // the flows with transfers not applied yet, so ticks without any transfers do nothing
+    private static final List<EnergyFlow> pendingFlows = new ArrayList<>();
+
+    private final World world;
+    private EnergyRoutePath[] paths = new EnergyRoutePath[16];
+    private long[] amperage = new long[16];
+    private long[] voltageSum = new long[16];
+    private long[] maxVoltage = new long[16];
+    private int[] transfers = new int[16];
+    private int size;
+
+    EnergyFlow(@NotNull World world) {
+        this.world = world;
+    }
+
+    /**
+     * Applies all the flow recorded in a world to its cables. Does nothing on the client, which has no flow.
+     *
+     * @param world the world
+     */
+    public static void flush(@Nullable World world) {
+        if (world == null || world.isRemote) return;
+        WorldENet.getWorldENet(world).getEnergyFlow().apply();
+    }
+
+    /**
+     * Records a transfer over a path, to be applied to its cables later.
+     *
+     * @param path    the path the energy was sent over
+     * @param amps    the amperage sent
+     * @param voltage the voltage sent, before any loss
+     */
+    public void record(@NotNull EnergyRoutePath path, long amps, long voltage) {
+        if (size == 0) {
+            pendingFlows.add(this);
+        }
+        int slot = path.flowSlot;
+        if (slot < 0 || slot >= size || paths[slot] != path) {
+            slot = size++;
+            if (slot == paths.length) {
+                int length = slot * 2;
+                paths = Arrays.copyOf(paths, length);
+                amperage = Arrays.copyOf(amperage, length);
+                voltageSum = Arrays.copyOf(voltageSum, length);
+                maxVoltage = Arrays.copyOf(maxVoltage, length);
+                transfers = Arrays.copyOf(transfers, length);
+            }
+            paths[slot] = path;
+            path.flowSlot = slot;
+        }
+        amperage[slot] += amps;
+        voltageSum[slot] += voltage;
+        maxVoltage[slot] = Math.max(maxVoltage[slot], voltage);
+        transfers[slot]++;
+    }
+
+    private void apply() {
+        if (size == 0) return;
+        // reset the size first, so inspecting a cable while applying does not apply anything twice
+        int size = this.size;
+        this.size = 0;
+        pendingFlows.remove(this);
+        for (int slot = 0; slot < size; slot++) {
+            EnergyRoutePath path = paths[slot];
+            TileEntityCable[] cables = path.getPath();
+            for (int i = 0; i < cables.length; i++) {
+                TileEntityCable cable = cables[i];
+                if (cable.isInvalid()) continue;
+
+                long loss = path.getLossAt(i);
+                cable.applyFlow(amperage[slot], voltageSum[slot] - loss * transfers[slot],
+                        maxVoltage[slot] - loss, transfers[slot]);
+            }
+            path.flowSlot = -1;
+            paths[slot] = null;
+            amperage[slot] = 0;
+            voltageSum[slot] = 0;
+            maxVoltage[slot] = 0;
+            transfers[slot] = 0;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.world.isRemote || event.phase != TickEvent.Phase.END || pendingFlows.isEmpty()) return;
+        for (int i = pendingFlows.size() - 1; i >= 0; i--) {
+            EnergyFlow flow = pendingFlows.get(i);
+            if (flow.world == event.world) {
+                flow.apply();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            pendingFlows.removeIf(flow -> flow.world == event.getWorld());
+        }
+    }
+}
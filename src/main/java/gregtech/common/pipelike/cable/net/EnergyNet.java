@@ -1,11 +1,16 @@
 package gregtech.common.pipelike.cable.net;
 
+import gregtech.api.capability.GregtechCapabilities;
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
+import gregtech.api.pipenet.RouteCache;
+import gregtech.api.pipenet.RouteCache.RouteFactory;
+import gregtech.api.pipenet.RouteCacheStats;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.WireProperties;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
@@ -22,26 +27,37 @@ public class EnergyNet extends PipeNet<WireProperties> {
     private long energyFluxPerSec;
     private long lastTime;
 
-    private final Map<BlockPos, List<EnergyRoutePath>> NET_DATA = new Object2ObjectOpenHashMap<>();
+    public static final RouteCacheStats ROUTE_CACHE_STATS = new RouteCacheStats("cable");
+
+    private final RouteCache<EnergyRoutePath> NET_DATA = new RouteCache<>(
+            GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, Comparator.comparingInt(EnergyRoutePath::getDistance),
+            ROUTE_CACHE_STATS);
+
+    private final WorldENet worldENet;
 
     protected EnergyNet(WorldPipeNet<WireProperties, EnergyNet> world) {
         super(world);
+        this.worldENet = (WorldENet) world;
     }
 
     public List<EnergyRoutePath> getNetData(BlockPos pipePos) {
         List<EnergyRoutePath> data = NET_DATA.get(pipePos);
         if (data == null) {
-            data = EnergyNetWalker.createNetData(getWorldData(), pipePos);
+            Map<BlockPos, RouteFactory<EnergyRoutePath>> walkedPipes = new Object2ObjectOpenHashMap<>();
+            data = NET_DATA.put(pipePos, EnergyNetWalker.createNetData(getWorldData(), pipePos, walkedPipes),
+                    walkedPipes);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
                 return Collections.emptyList();
             }
-            data.sort(Comparator.comparingInt(EnergyRoutePath::getDistance));
-            NET_DATA.put(pipePos, data);
         }
         return data;
     }
 
+    public EnergyFlow getEnergyFlow() {
+        return worldENet.getEnergyFlow();
+    }
+
     public long getEnergyFluxPerSec() {
         World world = getWorldData();
         if (world != null && !world.isRemote && (world.getTotalWorldTime() - lastTime) >= 20) {
@@ -62,7 +78,7 @@ public class EnergyNet extends PipeNet<WireProperties> {
 
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        NET_DATA.onNeighbourUpdate(getWorldData(), fromPos);
     }
 
     @Override
@@ -70,6 +86,11 @@ public class EnergyNet extends PipeNet<WireProperties> {
         NET_DATA.clear();
     }
 
+    @Override
+    public void onPipeConnectionsUpdate(BlockPos pipePos, EnumFacing side) {
+        NET_DATA.onPipeConnectionsUpdate(getWorldData(), pipePos, side);
+    }
+
     @Override
     public void onChunkUnload() {
         NET_DATA.clear();
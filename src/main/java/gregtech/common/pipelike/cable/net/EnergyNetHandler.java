@@ -3,6 +3,7 @@ package gregtech.common.pipelike.cable.net;
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTUtility;
+import gregtech.common.ConfigHolder;
 import gregtech.common.pipelike.cable.tile.TileEntityCable;
 
 import net.minecraft.init.Blocks;
@@ -58,6 +59,7 @@ public class EnergyNetHandler implements IEnergyContainer {
             side = facing;
         }
 
+        boolean aggregated = ConfigHolder.performance.aggregatedEnergyFlow;
         long amperesUsed = 0L;
         for (EnergyRoutePath path : net.getNetData(cable.getPos())) {
             if (path.getMaxLoss() >= voltage) {
@@ -78,21 +80,23 @@ public class EnergyNetHandler implements IEnergyContainer {
 
             long pathVoltage = voltage - path.getMaxLoss();
             boolean cableBroken = false;
-            for (TileEntityCable cable : path.getPath()) {
-                if (cable.getMaxVoltage() < voltage) {
-                    int heat = (int) (Math.log(
-                            GTUtility.getTierByVoltage(voltage) - GTUtility.getTierByVoltage(cable.getMaxVoltage())) *
-                            45 + 36.5);
-                    cable.applyHeat(heat);
-
-                    cableBroken = cable.isInvalid();
-                    if (cableBroken) {
-                        // a cable burned away (or insulation melted)
-                        break;
+            // no cable can overheat from the voltage if it is within the path's bottleneck
+            if (!aggregated || voltage > path.getBottleneckVoltage()) {
+                for (TileEntityCable cable : path.getPath()) {
+                    if (cable.getMaxVoltage() < voltage) {
+                        int heat = (int) (Math.log(GTUtility.getTierByVoltage(voltage) -
+                                GTUtility.getTierByVoltage(cable.getMaxVoltage())) * 45 + 36.5);
+                        cable.applyHeat(heat);
+
+                        cableBroken = cable.isInvalid();
+                        if (cableBroken) {
+                            // a cable burned away (or insulation melted)
+                            break;
+                        }
+
+                        // limit transfer to cables max and void rest
+                        pathVoltage = Math.min(cable.getMaxVoltage(), pathVoltage);
                     }
-
-                    // limit transfer to cables max and void rest
-                    pathVoltage = Math.min(cable.getMaxVoltage(), pathVoltage);
                 }
             }
 
@@ -104,6 +108,12 @@ public class EnergyNetHandler implements IEnergyContainer {
             if (amps == 0) continue;
 
             amperesUsed += amps;
+            if (aggregated) {
+                net.getEnergyFlow().record(path, amps, voltage);
+                if (amperage == amperesUsed) break;
+                continue;
+            }
+
             long voltageTraveled = voltage;
             for (TileEntityCable cable : path.getPath()) {
                 voltageTraveled -= cable.getNodeData().getLossPerBlock();
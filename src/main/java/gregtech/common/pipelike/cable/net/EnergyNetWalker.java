@@ -3,6 +3,7 @@ package gregtech.common.pipelike.cable.net;
 import gregtech.api.capability.GregtechCapabilities;
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.pipenet.PipeNetWalker;
+import gregtech.api.pipenet.RouteCache.RouteFactory;
 import gregtech.common.pipelike.cable.tile.TileEntityCable;
 
 import net.minecraft.tileentity.TileEntity;
@@ -15,19 +16,30 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class EnergyNetWalker extends PipeNetWalker<TileEntityCable> {
 
     public static List<EnergyRoutePath> createNetData(World world, BlockPos sourcePipe) {
+        return createNetData(world, sourcePipe, null);
+    }
+
+    /**
+     * @param walked if not null, filled with a way to create a route to a handler next to each walked pipe
+     */
+    public static List<EnergyRoutePath> createNetData(World world, BlockPos sourcePipe,
+                                                      @Nullable Map<BlockPos, RouteFactory<EnergyRoutePath>> walked) {
         if (!(world.getTileEntity(sourcePipe) instanceof TileEntityCable)) {
             return null;
         }
         EnergyNetWalker walker = new EnergyNetWalker(world, sourcePipe, 1, new ArrayList<>());
+        walker.walkedPipes = walked;
         walker.traversePipeNet();
         return walker.isFailed() ? null : walker.routes;
     }
 
     private final List<EnergyRoutePath> routes;
+    private Map<BlockPos, RouteFactory<EnergyRoutePath>> walkedPipes;
     private TileEntityCable[] pipes = {};
     private int loss;
 
@@ -42,6 +54,7 @@ public class EnergyNetWalker extends PipeNetWalker<TileEntityCable> {
         EnergyNetWalker walker = new EnergyNetWalker(world, nextPos, walkedBlocks, routes);
         walker.loss = loss;
         walker.pipes = pipes;
+        walker.walkedPipes = walkedPipes;
         return walker;
     }
 
@@ -49,6 +62,12 @@ public class EnergyNetWalker extends PipeNetWalker<TileEntityCable> {
     protected void checkPipe(TileEntityCable pipeTile, BlockPos pos) {
         pipes = ArrayUtils.add(pipes, pipeTile);
         loss += pipeTile.getNodeData().getLossPerBlock();
+        if (walkedPipes != null) {
+            TileEntityCable[] pipes = this.pipes;
+            int walkedBlocks = getWalkedBlocks();
+            int loss = this.loss;
+            walkedPipes.put(pos.toImmutable(), facing -> new EnergyRoutePath(facing, pipes, walkedBlocks, loss));
+        }
     }
 
     @Override
@@ -16,6 +16,10 @@ public class EnergyRoutePath implements IRoutePath<TileEntityCable> {
     private final int distance;
     private final TileEntityCable[] path;
     private final long maxLoss;
+    private long bottleneckVoltage = -1;
+    private long[] lossAt;
+    /** The slot of this path in the pending flow of its world, or -1 */
+    int flowSlot = -1;
 
     public EnergyRoutePath(EnumFacing destFacing, TileEntityCable[] path, int distance, long maxLoss) {
         this.targetPipe = path[path.length - 1];
@@ -48,6 +52,37 @@ public class EnergyRoutePath implements IRoutePath<TileEntityCable> {
         return path;
     }
 
+    /**
+     * @return the lowest max voltage of the cables on this path
+     */
+    public long getBottleneckVoltage() {
+        if (bottleneckVoltage < 0) {
+            long voltage = Long.MAX_VALUE;
+            for (TileEntityCable cable : path) {
+                voltage = Math.min(voltage, cable.getMaxVoltage());
+            }
+            bottleneckVoltage = voltage;
+        }
+        return bottleneckVoltage;
+    }
+
+    /**
+     * @param index the index of a cable on this path
+     * @return the voltage lost once energy has passed the cable, including the cable itself
+     */
+    public long getLossAt(int index) {
+        if (lossAt == null) {
+            long[] lossAt = new long[path.length];
+            long loss = 0;
+            for (int i = 0; i < path.length; i++) {
+                loss += path[i].getNodeData().getLossPerBlock();
+                lossAt[i] = loss;
+            }
+            this.lossAt = lossAt;
+        }
+        return lossAt[index];
+    }
+
     public IEnergyContainer getHandler() {
         return getTargetCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER);
     }
@@ -9,6 +9,8 @@ public class WorldENet extends WorldPipeNet<WireProperties, EnergyNet> {
 
     private static final String DATA_ID_BASE = "gregtech.e_net";
 
+    private EnergyFlow energyFlow;
+
     public static WorldENet getWorldENet(World world) {
         final String DATA_ID = getDataID(DATA_ID_BASE, world);
         WorldENet eNetWorldData = (WorldENet) world.loadData(WorldENet.class, DATA_ID);
@@ -24,6 +26,16 @@ public class WorldENet extends WorldPipeNet<WireProperties, EnergyNet> {
         super(name);
     }
 
+    /**
+     * @return the energy flow of this world, which is not saved
+     */
+    public EnergyFlow getEnergyFlow() {
+        if (energyFlow == null) {
+            energyFlow = new EnergyFlow(getWorld());
+        }
+        return energyFlow;
+    }
+
     @Override
     protected EnergyNet createNetInstance() {
         return new EnergyNet(this);
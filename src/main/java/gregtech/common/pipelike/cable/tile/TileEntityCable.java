@@ -14,6 +14,7 @@ import gregtech.client.particle.GTParticleManager;
 import gregtech.common.blocks.MetaBlocks;
 import gregtech.common.pipelike.cable.BlockCable;
 import gregtech.common.pipelike.cable.Insulation;
+import gregtech.common.pipelike.cable.net.EnergyFlow;
 import gregtech.common.pipelike.cable.net.EnergyNet;
 import gregtech.common.pipelike.cable.net.EnergyNetHandler;
 import gregtech.common.pipelike.cable.net.WorldENet;
@@ -123,6 +124,36 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
         return false;
     }
 
+    /**
+     * Should only be called internally. Applies several transfers through this cable at once, heating it as much as
+     * {@link #incrementAmperage(long, long)} would have for each of them, if they all had the same amperage.
+     *
+     * @param amps       the total amperage of the transfers
+     * @param voltageSum the sum of the voltages of the transfers
+     * @param maxVoltage the highest voltage of the transfers
+     * @param transfers  the amount of transfers
+     */
+    public void applyFlow(long amps, long voltageSum, long maxVoltage, int transfers) {
+        if (maxVoltage > maxVoltageCounter.get(getWorld())) {
+            maxVoltageCounter.set(getWorld(), maxVoltage);
+        }
+        averageVoltageCounter.increment(getWorld(), voltageSum);
+        long start = averageAmperageCounter.getLast(getWorld());
+        averageAmperageCounter.increment(getWorld(), amps);
+
+        long maxAmperage = getMaxAmperage();
+        if (start + amps <= maxAmperage) return;
+
+        int heat = 0;
+        for (int i = 1; i <= transfers; i++) {
+            int dif = (int) (start + amps * i / transfers - maxAmperage);
+            if (dif > 0) {
+                heat += dif * 40;
+            }
+        }
+        applyHeat(heat);
+    }
+
     public void applyHeat(int amount) {
         heatQueue += amount;
         if (!world.isRemote && !isTicking && temperature + heatQueue > getDefaultTemp()) {
@@ -233,14 +264,17 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
     }
 
     public double getAverageAmperage() {
+        EnergyFlow.flush(getWorld());
         return averageAmperageCounter.getAverage(getWorld());
     }
 
     public long getCurrentMaxVoltage() {
+        EnergyFlow.flush(getWorld());
         return maxVoltageCounter.get(getWorld());
     }
 
     public double getAverageVoltage() {
+        EnergyFlow.flush(getWorld());
         return averageVoltageCounter.getAverage(getWorld());
     }
 
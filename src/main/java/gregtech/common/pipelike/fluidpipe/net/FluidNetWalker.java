@@ -0,0 +1,67 @@
+package gregtech.common.pipelike.fluidpipe.net;
+
+import gregtech.api.pipenet.PipeNetWalker;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipe;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FluidNetWalker extends PipeNetWalker<TileEntityFluidPipe> {
+
+    public static List<FluidRoutePath> createNetData(World world, BlockPos sourcePipe) {
+        if (!(world.getTileEntity(sourcePipe) instanceof TileEntityFluidPipe)) {
+            return null;
+        }
+        FluidNetWalker walker = new FluidNetWalker(world, sourcePipe, 1, new ArrayList<>());
+        walker.traversePipeNet();
+        return walker.isFailed() ? null : walker.routes;
+    }
+
+    private final List<FluidRoutePath> routes;
+    private TileEntityFluidPipe[] pipes = {};
+
+    protected FluidNetWalker(World world, BlockPos sourcePipe, int walkedBlocks, List<FluidRoutePath> routes) {
+        super(world, sourcePipe, walkedBlocks);
+        this.routes = routes;
+    }
+
+    @Override
+    protected PipeNetWalker<TileEntityFluidPipe> createSubWalker(World world, EnumFacing facingToNextPos,
+                                                                 BlockPos nextPos, int walkedBlocks) {
+        FluidNetWalker walker = new FluidNetWalker(world, nextPos, walkedBlocks, routes);
+        walker.pipes = pipes;
+        return walker;
+    }
+
+    @Override
+    protected void checkPipe(TileEntityFluidPipe pipeTile, BlockPos pos) {
+        pipes = ArrayUtils.add(pipes, pipeTile);
+    }
+
+    @Override
+    protected void checkNeighbour(TileEntityFluidPipe pipeTile, BlockPos pipePos, EnumFacing faceToNeighbour,
+                                  @Nullable TileEntity neighbourTile) {
+        // fluid is only passed on to other pipes along the walked routes
+        if (neighbourTile == null || neighbourTile instanceof TileEntityFluidPipe) return;
+        IFluidHandler handler = neighbourTile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY,
+                faceToNeighbour.getOpposite());
+        if (handler != null) {
+            routes.add(new FluidRoutePath(faceToNeighbour, pipes, getWalkedBlocks()));
+        }
+    }
+
+    @Override
+    protected Class<TileEntityFluidPipe> getBasePipeClass() {
+        return TileEntityFluidPipe.class;
+    }
+}
@@ -1,17 +1,266 @@
 package gregtech.common.pipelike.fluidpipe.net;
 
+import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.common.ConfigHolder;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipe;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.capability.IFluidHandler;
 
-public class FluidPipeNet extends PipeNet<FluidPipeProperties> {
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class FluidPipeNet extends PipeNet<FluidPipeProperties> implements ITickable {
+
+    private final Map<BlockPos, List<FluidRoutePath>> NET_DATA = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * The pipes holding fluid, which the net solver distributes from
+     */
+    private final Set<TileEntityFluidPipeTickable> activePipes = new ReferenceOpenHashSet<>();
+    /**
+     * The amount of fluid passed through each pipe during the current update
+     */
+    private final Reference2IntOpenHashMap<TileEntityFluidPipe> transferred = new Reference2IntOpenHashMap<>();
 
     public FluidPipeNet(WorldPipeNet<FluidPipeProperties, FluidPipeNet> world) {
         super(world);
     }
 
+    public List<FluidRoutePath> getNetData(BlockPos pipePos) {
+        List<FluidRoutePath> data = NET_DATA.get(pipePos);
+        if (data == null) {
+            data = FluidNetWalker.createNetData(getWorldData(), pipePos);
+            if (data == null) {
+                // walker failed, don't cache so it tries again on next update
+                return Collections.emptyList();
+            }
+            data.sort(Comparator.comparingInt(FluidRoutePath::getDistance));
+            NET_DATA.put(pipePos, data);
+        }
+        return data;
+    }
+
+    /**
+     * Marks a pipe as holding fluid, so the net solver distributes from it until it is empty.
+     *
+     * @param pipe the pipe
+     */
+    public void markActive(@NotNull TileEntityFluidPipeTickable pipe) {
+        activePipes.add(pipe);
+    }
+
+    /**
+     * Distributes the fluid of every pipe holding some directly to the handlers reachable from it, when the net
+     * solver is enabled.
+     */
+    @Override
+    public void update() {
+        if (!ConfigHolder.performance.fluidPipeNetSolver) {
+            // the pipes distribute their fluid themselves, so don't keep them loaded
+            if (!activePipes.isEmpty()) {
+                activePipes.clear();
+            }
+            return;
+        }
+        if (activePipes.isEmpty()) return;
+
+        // filling a handler may cause fluid to be inserted back into a pipe of this net
+        TileEntityFluidPipeTickable[] pipes = activePipes.toArray(new TileEntityFluidPipeTickable[0]);
+        for (TileEntityFluidPipeTickable pipe : pipes) {
+            if (pipe.isInvalid() || !containsNode(pipe.getPipePos()) || !distributeFluid(pipe)) {
+                activePipes.remove(pipe);
+            }
+        }
+        transferred.clear();
+    }
+
+    /**
+     * @return if the pipe still holds fluid
+     */
+    private boolean distributeFluid(@NotNull TileEntityFluidPipeTickable pipe) {
+        byte receivedFrom = pipe.lastReceivedFrom;
+        pipe.lastReceivedFrom = 0;
+
+        boolean holdsFluid = false;
+        List<FluidRoutePath> routes = null;
+        for (FluidTank tank : pipe.getFluidTanks()) {
+            FluidStack fluid = tank.getFluid();
+            if (fluid == null) continue;
+            if (fluid.amount <= 0) {
+                tank.setFluid(null);
+                continue;
+            }
+
+            if (routes == null) {
+                routes = getNetData(pipe.getPipePos());
+            }
+            if (!distributeFluid(pipe, tank, fluid, routes, receivedFrom)) {
+                // a pipe was destroyed, so the routes are out of date until the next update
+                return true;
+            }
+            if (tank.getFluidAmount() > 0) {
+                holdsFluid = true;
+            }
+        }
+        return holdsFluid;
+    }
+
+    /**
+     * Splits the fluid of a tank between the routes which accept it, by how much each of them accepts, like a pipe
+     * passing fluid on to its neighbours does.
+     *
+     * @return false if a pipe of a route was destroyed by the fluid, after which no more fluid is distributed
+     */
+    private boolean distributeFluid(@NotNull TileEntityFluidPipeTickable pipe, @NotNull FluidTank tank,
+                                    @NotNull FluidStack fluid, @NotNull List<FluidRoutePath> routes,
+                                    byte receivedFrom) {
+        // the same amount a pipe passes on to its neighbours when ticking on its own
+        int maxAmount = Math.min(pipe.getCapacityPerTank() / 2, fluid.amount);
+        List<FluidTransfer> transfers = new ArrayList<>();
+        long availableCapacity = 0;
+        for (FluidRoutePath route : routes) {
+            // don't push fluid back into the handler it was just received from
+            if (route.getTargetPipe() == pipe &&
+                    (receivedFrom & (1 << route.getTargetFacing().getIndex())) != 0) {
+                continue;
+            }
+
+            int limit = Math.min(maxAmount, getRemainingThroughput(route));
+            if (limit <= 0) continue;
+
+            IFluidHandler handler = route.getHandler();
+            if (handler == null) continue;
+            IFluidHandler pipeTank = route.getSourceHandler(tank);
+            if (pipeTank == null) continue;
+
+            FluidStack toDrain = fluid.copy();
+            toDrain.amount = limit;
+            FluidStack drainable = pipeTank.drain(toDrain, false);
+            if (drainable == null || drainable.amount <= 0) continue;
+
+            int filled = Math.min(handler.fill(drainable.copy(), false), drainable.amount);
+            if (filled <= 0) continue;
+
+            transfers.add(new FluidTransfer(route, handler, pipeTank, filled));
+            availableCapacity += filled;
+        }
+
+        for (FluidTransfer transfer : transfers) {
+            int amount = transfer.amount;
+            if (availableCapacity > maxAmount) {
+                // split by the share of the accepted amount, giving at least 1L while there is fluid left
+                amount = (int) (amount * (long) maxAmount / availableCapacity);
+                if (amount == 0) {
+                    if (tank.getFluidAmount() <= 0) break;
+                    amount = 1;
+                }
+            }
+            // an earlier transfer may have used up the throughput of a pipe shared with this route
+            amount = Math.min(amount, getRemainingThroughput(transfer.route));
+            if (amount <= 0 || tank.getFluidAmount() <= 0) continue;
+
+            FluidStack toDrain = fluid.copy();
+            toDrain.amount = amount;
+            FluidStack drained = transfer.pipeTank.drain(toDrain, true);
+            if (drained == null || drained.amount <= 0) continue;
+
+            TileEntityFluidPipe[] path = transfer.route.getPath();
+            for (TileEntityFluidPipe pathPipe : path) {
+                transferred.addTo(pathPipe, drained.amount);
+            }
+
+            // the fluid still passes every pipe on the way, so they must be able to hold it. Fluid voided by a pipe
+            // which can't hold it is lost, as it would be when passed on pipe by pipe.
+            for (int i = 1; i < path.length && drained.amount > 0; i++) {
+                if (path[i] instanceof TileEntityFluidPipeTickable pathPipe) {
+                    pathPipe.checkAndDestroy(drained);
+                    if (pathPipe.isInvalid()) {
+                        // the route is broken, and the handler may be gone with it
+                        returnFluid(pipe, tank, drained);
+                        return false;
+                    }
+                }
+            }
+            if (drained.amount > 0) {
+                drained.amount -= transfer.handler.fill(drained.copy(), true);
+                // the handler may accept less than it did when simulated
+                returnFluid(pipe, tank, drained);
+            }
+        }
+        return true;
+    }
+
+    private static void returnFluid(@NotNull TileEntityFluidPipeTickable pipe, @NotNull FluidTank tank,
+                                    @NotNull FluidStack fluid) {
+        if (fluid.amount > 0 && !pipe.isInvalid()) {
+            tank.fill(fluid, true);
+        }
+    }
+
+    /**
+     * @return the amount of fluid which can still pass every pipe of a route during this update
+     */
+    private int getRemainingThroughput(@NotNull FluidRoutePath route) {
+        int throughput = Integer.MAX_VALUE;
+        for (TileEntityFluidPipe pipe : route.getPath()) {
+            int capacity = pipe.getCapacityPerTank() / 2 * pipe.getNodeData().getTanks();
+            throughput = Math.min(throughput, capacity - transferred.getInt(pipe));
+        }
+        return throughput;
+    }
+
+    @Override
+    public void onNeighbourUpdate(BlockPos fromPos) {
+        NET_DATA.clear();
+    }
+
+    @Override
+    public void onPipeConnectionsUpdate() {
+        NET_DATA.clear();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        NET_DATA.clear();
+    }
+
+    @Override
+    protected void transferNodeData(Map<BlockPos, Node<FluidPipeProperties>> transferredNodes,
+                                    PipeNet<FluidPipeProperties> parentNet) {
+        super.transferNodeData(transferredNodes, parentNet);
+        FluidPipeNet parent = (FluidPipeNet) parentNet;
+        NET_DATA.clear();
+        parent.NET_DATA.clear();
+
+        Iterator<TileEntityFluidPipeTickable> iterator = parent.activePipes.iterator();
+        while (iterator.hasNext()) {
+            TileEntityFluidPipeTickable pipe = iterator.next();
+            if (transferredNodes.containsKey(pipe.getPipePos())) {
+                iterator.remove();
+                activePipes.add(pipe);
+            }
+        }
+    }
+
     @Override
     protected void writeNodeData(FluidPipeProperties nodeData, NBTTagCompound tagCompound) {
         tagCompound.setInteger("max_temperature", nodeData.getMaxFluidTemperature());
@@ -35,4 +284,19 @@ public class FluidPipeNet extends PipeNet<FluidPipeProperties> {
         return new FluidPipeProperties(maxTemperature, throughput, gasProof, acidProof, cryoProof, plasmaProof,
                 channels);
     }
+
+    private static class FluidTransfer {
+
+        private final FluidRoutePath route;
+        private final IFluidHandler handler;
+        private final IFluidHandler pipeTank;
+        private final int amount;
+
+        private FluidTransfer(FluidRoutePath route, IFluidHandler handler, IFluidHandler pipeTank, int amount) {
+            this.route = route;
+            this.handler = handler;
+            this.pipeTank = pipeTank;
+            this.amount = amount;
+        }
+    }
 }
@@ -0,0 +1,111 @@
+package gregtech.common.pipelike.fluidpipe.net;
+
+import gregtech.api.capability.GregtechTileCapabilities;
+import gregtech.api.cover.Cover;
+import gregtech.api.cover.CoverableView;
+import gregtech.api.pipenet.IRoutePath;
+import gregtech.common.covers.CoverPump;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipe;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class FluidRoutePath implements IRoutePath<TileEntityFluidPipe> {
+
+    private final TileEntityFluidPipe targetPipe;
+    private final EnumFacing destFacing;
+    private final int distance;
+    private final TileEntityFluidPipe[] path;
+    private final EnumFacing[] pathFacings;
+
+    public FluidRoutePath(EnumFacing destFacing, TileEntityFluidPipe[] path, int distance) {
+        this.targetPipe = path[path.length - 1];
+        this.destFacing = destFacing;
+        this.path = path;
+        this.distance = distance;
+        this.pathFacings = new EnumFacing[path.length - 1];
+        for (int i = 0; i < pathFacings.length; i++) {
+            BlockPos from = path[i].getPipePos();
+            BlockPos to = path[i + 1].getPipePos();
+            this.pathFacings[i] = EnumFacing.getFacingFromVector(to.getX() - from.getX(), to.getY() - from.getY(),
+                    to.getZ() - from.getZ());
+        }
+    }
+
+    @Override
+    public @NotNull TileEntityFluidPipe getTargetPipe() {
+        return targetPipe;
+    }
+
+    @Override
+    public @NotNull EnumFacing getTargetFacing() {
+        return destFacing;
+    }
+
+    @Override
+    public int getDistance() {
+        return distance;
+    }
+
+    /**
+     * @return every pipe the fluid passes, starting with the source pipe
+     */
+    public TileEntityFluidPipe[] getPath() {
+        return path;
+    }
+
+    public IFluidHandler getHandler() {
+        return getTargetCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+    }
+
+    /**
+     * Applies the covers along this route to the tank of the source pipe, the same way they are applied when fluid
+     * is passed on from pipe to pipe. Covers are checked on every call, as they are not tracked by the route cache.
+     *
+     * @param sourceTank the tank of the source pipe
+     * @return the handler to drain the source tank with, or null if a cover blocks this route
+     */
+    @Nullable
+    public IFluidHandler getSourceHandler(@NotNull IFluidHandler sourceTank) {
+        IFluidHandler handler = sourceTank;
+        for (int i = 0; i < pathFacings.length; i++) {
+            EnumFacing facing = pathFacings[i];
+            Cover neighbourCover = path[i + 1].getCoverableImplementation().getCoverAtSide(facing.getOpposite());
+            handler = applyCovers(path[i], facing, neighbourCover, handler);
+            if (handler == null) return null;
+        }
+
+        TileEntity target = getTargetTileEntity();
+        if (target == null) return null;
+        CoverableView coverable = target.getCapability(GregtechTileCapabilities.CAPABILITY_COVER_HOLDER,
+                destFacing.getOpposite());
+        Cover neighbourCover = coverable == null ? null : coverable.getCoverAtSide(destFacing.getOpposite());
+        return applyCovers(targetPipe, destFacing, neighbourCover, handler);
+    }
+
+    @Nullable
+    private static IFluidHandler applyCovers(@NotNull TileEntityFluidPipe pipe, @NotNull EnumFacing facing,
+                                             @Nullable Cover neighbourCover, @NotNull IFluidHandler handler) {
+        Cover cover = pipe.getCoverableImplementation().getCoverAtSide(facing);
+        // the handler should only be determined by the cover attached to the pipe passing the fluid on
+        if (cover != null) {
+            if (isPump(pipe, cover)) return null;
+            return cover.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, handler);
+        }
+        return isPump(pipe, neighbourCover) ? null : handler;
+    }
+
+    private static boolean isPump(@NotNull TileEntityFluidPipe pipe, @Nullable Cover cover) {
+        if (pipe instanceof TileEntityFluidPipeTickable tickable) {
+            return tickable.checkForPumpCover(cover);
+        }
+        return cover instanceof CoverPump;
+    }
+}
@@ -1,14 +1,25 @@
 package gregtech.common.pipelike.fluidpipe.net;
 
-import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.pipenet.tickable.TickableWorldPipeNet;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipe;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
 
 import net.minecraft.world.World;
 
-public class WorldFluidPipeNet extends WorldPipeNet<FluidPipeProperties, FluidPipeNet> {
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+public class WorldFluidPipeNet extends TickableWorldPipeNet<FluidPipeProperties, FluidPipeNet> {
 
     private static final String DATA_ID_BASE = "gregtech.fluid_pipe_net";
 
+    // tile entities can only leave or join the world's ticking list outside of its tile entity updates
+    private final Set<TileEntityFluidPipeTickable> pipesToStop = new ReferenceOpenHashSet<>();
+    private final Set<TileEntityFluidPipeTickable> pipesToStart = new ReferenceOpenHashSet<>();
+
     public static WorldFluidPipeNet getWorldPipeNet(World world) {
         String DATA_ID = getDataID(DATA_ID_BASE, world);
         WorldFluidPipeNet netWorldData = (WorldFluidPipeNet) world.loadData(WorldFluidPipeNet.class, DATA_ID);
@@ -24,6 +35,50 @@ public class WorldFluidPipeNet extends WorldPipeNet<FluidPipeProperties, FluidPi
         super(name);
     }
 
+    /**
+     * Stops a pipe from ticking, once its fluid is distributed by the net solver and it has no ticking covers.
+     *
+     * @param pipe the pipe
+     */
+    public void stopTicking(@NotNull TileEntityFluidPipeTickable pipe) {
+        pipesToStop.add(pipe);
+    }
+
+    /**
+     * Makes a pipe stopped by {@link #stopTicking(TileEntityFluidPipeTickable)} tick again.
+     *
+     * @param pipe the pipe
+     */
+    public void startTicking(@NotNull TileEntityFluidPipeTickable pipe) {
+        // a pipe which was not stopped yet is still ticking
+        if (!pipesToStop.remove(pipe)) {
+            pipesToStart.add(pipe);
+        }
+    }
+
+    @Override
+    public void update() {
+        super.update();
+        World world = getWorld();
+        if (!pipesToStop.isEmpty()) {
+            world.tickableTileEntities.removeAll(pipesToStop);
+            pipesToStop.clear();
+        }
+        if (!pipesToStart.isEmpty()) {
+            for (TileEntityFluidPipeTickable pipe : pipesToStart) {
+                if (!pipe.isInvalid() && world.isBlockLoaded(pipe.getPos())) {
+                    world.tickableTileEntities.add(pipe);
+                }
+            }
+            pipesToStart.clear();
+        }
+    }
+
+    @Override
+    protected int getUpdateRate() {
+        return TileEntityFluidPipe.FREQUENCY;
+    }
+
     @Override
     protected FluidPipeNet createNetInstance() {
         return new FluidPipeNet(this);
@@ -12,8 +12,11 @@ import gregtech.api.metatileentity.IDataInfoProvider;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
 import gregtech.api.util.EntityDamageUtil;
 import gregtech.api.util.TextFormattingUtil;
+import gregtech.common.ConfigHolder;
 import gregtech.common.covers.CoverPump;
+import gregtech.common.pipelike.fluidpipe.net.FluidPipeNet;
 import gregtech.common.pipelike.fluidpipe.net.PipeTankList;
+import gregtech.common.pipelike.fluidpipe.net.WorldFluidPipeNet;
 
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.init.Blocks;
@@ -50,11 +53,13 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
     private PipeTankList pipeTankList;
     private final EnumMap<EnumFacing, PipeTankList> tankLists = new EnumMap<>(EnumFacing.class);
     private FluidTank[] fluidTanks;
-    private long timer = 0L;
     private final int offset = GTValues.RNG.nextInt(20);
+    // whether the pipe was removed from the ticking tile entities, as the net solver distributes its fluid
+    private boolean tickingStopped;
 
     public long getOffsetTimer() {
-        return timer + offset;
+        // the world time keeps counting while the pipe does not tick
+        return world.getTotalWorldTime() + offset;
     }
 
     @Nullable
@@ -71,8 +76,15 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
 
     @Override
     public void update() {
-        timer++;
         getCoverableImplementation().update();
+        if (!world.isRemote && ConfigHolder.performance.fluidPipeNetSolver) {
+            // the pipe net distributes the fluid of the pipes registered with it, so the pipe only ticks for covers
+            if (!tickingStopped && !hasTickingCover()) {
+                tickingStopped = true;
+                getWorldFluidPipeNet().stopTicking(this);
+            }
+            return;
+        }
         if (!world.isRemote && getOffsetTimer() % FREQUENCY == 0) {
             lastReceivedFrom &= 63;
             if (lastReceivedFrom == 63) {
@@ -106,6 +118,15 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         return true;
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (!world.isRemote && ConfigHolder.performance.fluidPipeNetSolver && holdsFluid()) {
+            // the fluid was loaded from disk, so the pipe net does not know about it yet
+            markActive();
+        }
+    }
+
     private void distributeFluid(int channel, FluidTank tank, FluidStack fluid) {
         // Tank, From, Amount to receive
         List<FluidTransaction> tanks = new ArrayList<>();
@@ -195,7 +216,7 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         }
     }
 
-    private boolean checkForPumpCover(@Nullable Cover cover) {
+    public boolean checkForPumpCover(@Nullable Cover cover) {
         if (cover instanceof CoverPump coverPump) {
             int pipeThroughput = getNodeData().getThroughput() * 20;
             if (coverPump.getTransferRate() > pipeThroughput) {
@@ -360,6 +381,49 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         if (facing != null) {
             lastReceivedFrom |= (1 << facing.getIndex());
         }
+        if (ConfigHolder.performance.fluidPipeNetSolver) {
+            markActive();
+        }
+    }
+
+    @Override
+    public void notifyBlockUpdate() {
+        super.notifyBlockUpdate();
+        // covers are added with a block update, and ticking covers need the pipe to tick
+        if (tickingStopped && !world.isRemote && hasTickingCover()) {
+            tickingStopped = false;
+            getWorldFluidPipeNet().startTicking(this);
+        }
+    }
+
+    private boolean hasTickingCover() {
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            if (getCoverableImplementation().getCoverAtSide(facing) instanceof ITickable) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NotNull
+    private WorldFluidPipeNet getWorldFluidPipeNet() {
+        return (WorldFluidPipeNet) getPipeBlock().getWorldPipeNet(getPipeWorld());
+    }
+
+    private void markActive() {
+        FluidPipeNet net = getFluidPipeNet();
+        if (net != null) {
+            net.markActive(this);
+        }
+    }
+
+    private boolean holdsFluid() {
+        for (FluidTank tank : getFluidTanks()) {
+            if (tank.getFluidAmount() > 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public FluidStack getContainedFluid(int channel) {
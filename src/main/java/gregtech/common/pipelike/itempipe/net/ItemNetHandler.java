@@ -25,6 +25,7 @@ import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -33,12 +34,23 @@ import java.util.List;
 
 public class ItemNetHandler implements IItemHandler {
 
+    private static final ItemStackHashStrategy SAME_ITEM = ItemStackHashStrategy.comparingAllButCount();
+
     private ItemPipeNet net;
     private TileEntityItemPipe pipe;
     private final EnumFacing facing;
     private final Object2IntMap<FacingPos> simulatedTransfersGlobalRoundRobin = new Object2IntOpenHashMap<>();
     private int simulatedTransfers = 0;
     private final ItemStackHandler testHandler = new ItemStackHandler(1);
+    // scratch lists for round robin insertion, reused as handlers are only used from the server thread
+    private final List<ItemRoutePath> routePathsCopy = new ArrayList<>();
+    private final List<EnhancedRoundRobinData> roundRobinData = new ArrayList<>();
+    private final List<EnhancedRoundRobinData> roundRobinDataCopy = new ArrayList<>();
+    private final IntList roundRobinSteps = new IntArrayList();
+    // scratch lists for batch insertion: the kinds of items, their total amounts and the kind in each slot
+    private final List<ItemStack> batchTypes = new ArrayList<>();
+    private final IntList batchTypeCounts = new IntArrayList();
+    private final IntList batchSlotTypes = new IntArrayList();
 
     public ItemNetHandler(ItemPipeNet net, TileEntityItemPipe pipe, EnumFacing facing) {
         this.net = net;
@@ -77,29 +89,130 @@ public class ItemNetHandler implements IItemHandler {
             return stack;
         }
 
-        copyTransferred();
-        Cover pipeCover = this.pipe.getCoverableImplementation().getCoverAtSide(facing);
+        // the simulated transfer counters are only used when simulating
+        if (simulate) copyTransferred();
+        Cover tileCover = getCoverOnNeighbour(this.pipe, facing);
+        DistributionMode distributionMode = getDistributionMode(tileCover);
+        if (distributionMode == null) return stack;
+
+        return insertDistributed(stack, simulate, tileCover, distributionMode);
+    }
+
+    /**
+     * Moves items from slots of an inventory into the net, such as the slots a conveyor found in one pass.
+     * <p>
+     * The covers on both sides of the pipe are only looked up once, and the transfer counters of the pipe are only
+     * copied once for the whole batch. Slots holding the same item are merged, so each kind of item is distributed
+     * over the net once: simulated, extracted from its slots, and inserted. Only the amount the net accepts is
+     * extracted. Should the net still refuse some of it, the items are put back into the slots they came from.
+     *
+     * @param source    the inventory to move items from
+     * @param slots     the slots to move items from, in order
+     * @param maxAmount the most items to move in total
+     * @return the amount of items inserted into the net
+     */
+    public int insertBatch(@NotNull IItemHandler source, @NotNull IntList slots, int maxAmount) {
+        if (net == null || pipe == null || pipe.isInvalid() || pipe.isFaceBlocked(facing)) {
+            return 0;
+        }
         Cover tileCover = getCoverOnNeighbour(this.pipe, facing);
+        DistributionMode distributionMode = getDistributionMode(tileCover);
+        if (distributionMode == null) return 0;
+
+        List<ItemStack> types = this.batchTypes;
+        IntList typeCounts = this.batchTypeCounts;
+        IntList slotTypes = this.batchSlotTypes;
+        try {
+            for (int i = 0; i < slots.size(); i++) {
+                ItemStack stack = source.extractItem(slots.getInt(i), maxAmount, true);
+                int type = -1;
+                if (!stack.isEmpty()) {
+                    type = indexOfType(types, stack);
+                    if (type == -1) {
+                        type = types.size();
+                        types.add(stack);
+                        typeCounts.add(0);
+                    }
+                    typeCounts.set(type, typeCounts.getInt(type) + stack.getCount());
+                }
+                slotTypes.add(type);
+            }
+
+            copyTransferred();
+            int inserted = 0;
+            for (int type = 0; type < types.size() && inserted < maxAmount; type++) {
+                ItemStack stack = types.get(type).copy();
+                stack.setCount(Math.min(typeCounts.getInt(type), maxAmount - inserted));
+                int accepted = stack.getCount() -
+                        insertDistributed(stack.copy(), true, tileCover, distributionMode).getCount();
+                if (accepted <= 0) continue;
+
+                int extracted = 0;
+                for (int i = 0; i < slots.size() && extracted < accepted; i++) {
+                    if (slotTypes.getInt(i) != type) continue;
+                    extracted += source.extractItem(slots.getInt(i), accepted - extracted, false).getCount();
+                }
+                if (extracted == 0) continue;
+
+                stack.setCount(extracted);
+                ItemStack remainder = insertDistributed(stack, false, tileCover, distributionMode);
+                inserted += extracted - remainder.getCount();
+                for (int i = 0; i < slots.size() && !remainder.isEmpty(); i++) {
+                    if (slotTypes.getInt(i) != type) continue;
+                    remainder = source.insertItem(slots.getInt(i), remainder, false);
+                }
+            }
+            return inserted;
+        } finally {
+            types.clear();
+            typeCounts.clear();
+            slotTypes.clear();
+        }
+    }
+
+    private static int indexOfType(@NotNull List<ItemStack> types, @NotNull ItemStack stack) {
+        for (int i = 0; i < types.size(); i++) {
+            if (SAME_ITEM.equals(types.get(i), stack)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @return how items inserted through this handler are distributed, or null if they can not be inserted
+     */
+    @Nullable
+    private DistributionMode getDistributionMode(@Nullable Cover tileCover) {
+        Cover pipeCover = this.pipe.getCoverableImplementation().getCoverAtSide(facing);
 
         boolean pipeConveyor = pipeCover instanceof CoverConveyor, tileConveyor = tileCover instanceof CoverConveyor;
         // abort if there are two conveyors
-        if (pipeConveyor && tileConveyor) return stack;
-
-        if (tileCover != null && !checkImportCover(tileCover, false, stack))
-            return stack;
+        if (pipeConveyor && tileConveyor) return null;
 
         if (!pipeConveyor && !tileConveyor)
-            return insertFirst(stack, simulate);
+            return DistributionMode.INSERT_FIRST;
 
         CoverConveyor conveyor = (CoverConveyor) (pipeConveyor ? pipeCover : tileCover);
         if (conveyor.getConveyorMode() ==
                 (pipeConveyor ? CoverConveyor.ConveyorMode.IMPORT : CoverConveyor.ConveyorMode.EXPORT)) {
-            boolean roundRobinGlobal = conveyor.getDistributionMode() == DistributionMode.ROUND_ROBIN_GLOBAL;
-            if (roundRobinGlobal || conveyor.getDistributionMode() == DistributionMode.ROUND_ROBIN_PRIO)
-                return insertRoundRobin(stack, simulate, roundRobinGlobal);
+            DistributionMode distributionMode = conveyor.getDistributionMode();
+            if (distributionMode == DistributionMode.ROUND_ROBIN_GLOBAL ||
+                    distributionMode == DistributionMode.ROUND_ROBIN_PRIO)
+                return distributionMode;
         }
 
-        return insertFirst(stack, simulate);
+        return DistributionMode.INSERT_FIRST;
+    }
+
+    private ItemStack insertDistributed(ItemStack stack, boolean simulate, @Nullable Cover tileCover,
+                                        @NotNull DistributionMode distributionMode) {
+        if (tileCover != null && !checkImportCover(tileCover, false, stack))
+            return stack;
+
+        return switch (distributionMode) {
+            case ROUND_ROBIN_GLOBAL -> insertRoundRobin(stack, simulate, true);
+            case ROUND_ROBIN_PRIO -> insertRoundRobin(stack, simulate, false);
+            case INSERT_FIRST -> insertFirst(stack, simulate);
+        };
     }
 
     public static boolean checkImportCover(Cover cover, boolean onPipe, ItemStack stack) {
@@ -127,7 +240,9 @@ public class ItemNetHandler implements IItemHandler {
             return stack;
         if (routePaths.size() == 1)
             return insert(routePaths.get(0), stack, simulate);
-        List<ItemRoutePath> routePathsCopy = new ArrayList<>(routePaths);
+        List<ItemRoutePath> routePathsCopy = this.routePathsCopy;
+        routePathsCopy.clear();
+        routePathsCopy.addAll(routePaths);
 
         if (global) {
             stack = insertToHandlersEnhanced(routePathsCopy, stack, routePaths.size(), simulate);
@@ -136,6 +251,7 @@ public class ItemNetHandler implements IItemHandler {
             if (!stack.isEmpty() && !routePathsCopy.isEmpty())
                 stack = insertToHandlers(routePathsCopy, stack, simulate);
         }
+        routePathsCopy.clear();
 
         return stack;
     }
@@ -185,8 +301,10 @@ public class ItemNetHandler implements IItemHandler {
     }
 
     private ItemStack insertToHandlersEnhanced(List<ItemRoutePath> copy, ItemStack stack, int dest, boolean simulate) {
-        List<EnhancedRoundRobinData> transferred = new ArrayList<>();
-        IntList steps = new IntArrayList();
+        List<EnhancedRoundRobinData> transferred = this.roundRobinData;
+        IntList steps = this.roundRobinSteps;
+        transferred.clear();
+        steps.clear();
         int min = Integer.MAX_VALUE;
         ItemStack simStack;
 
@@ -224,7 +342,9 @@ public class ItemNetHandler implements IItemHandler {
         int amount = stack.getCount();
         int c = amount / transferred.size();
         int m = amount % transferred.size();
-        List<EnhancedRoundRobinData> transferredCopy = new ArrayList<>(transferred);
+        List<EnhancedRoundRobinData> transferredCopy = this.roundRobinDataCopy;
+        transferredCopy.clear();
+        transferredCopy.addAll(transferred);
         int nextStep = steps.removeInt(0);
 
         // equally distribute items over all inventories
@@ -291,6 +411,8 @@ public class ItemNetHandler implements IItemHandler {
             inserted += ins;
             transferTo(data.routePath, simulate, ins);
         }
+        transferred.clear();
+        transferredCopy.clear();
 
         ItemStack remainder = stack.copy();
         remainder.shrink(inserted);
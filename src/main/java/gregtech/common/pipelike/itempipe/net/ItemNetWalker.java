@@ -2,6 +2,7 @@ package gregtech.common.pipelike.itempipe.net;
 
 import gregtech.api.cover.Cover;
 import gregtech.api.pipenet.PipeNetWalker;
+import gregtech.api.pipenet.RouteCache.RouteFactory;
 import gregtech.api.unification.material.properties.ItemPipeProperties;
 import gregtech.api.util.GTUtility;
 import gregtech.common.covers.CoverItemFilter;
@@ -20,19 +21,30 @@ import net.minecraftforge.items.IItemHandler;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 public class ItemNetWalker extends PipeNetWalker<TileEntityItemPipe> {
 
     public static List<ItemRoutePath> createNetData(World world, BlockPos sourcePipe, EnumFacing faceToSourceHandler) {
+        return createNetData(world, sourcePipe, faceToSourceHandler, null);
+    }
+
+    /**
+     * @param walked if not null, filled with a way to create a route to a handler next to each walked pipe
+     */
+    public static List<ItemRoutePath> createNetData(World world, BlockPos sourcePipe, EnumFacing faceToSourceHandler,
+                                                    @Nullable Map<BlockPos, RouteFactory<ItemRoutePath>> walked) {
         if (!(world.getTileEntity(sourcePipe) instanceof TileEntityItemPipe)) {
             return null;
         }
         ItemNetWalker walker = new ItemNetWalker(world, sourcePipe, 1, new ArrayList<>(), null);
         walker.sourcePipe = sourcePipe;
         walker.facingToHandler = faceToSourceHandler;
+        walker.walkedPipes = walked;
         walker.traversePipeNet();
         return walker.isFailed() ? null : walker.inventories;
     }
@@ -43,6 +55,7 @@ public class ItemNetWalker extends PipeNetWalker<TileEntityItemPipe> {
     private final EnumMap<EnumFacing, List<Predicate<ItemStack>>> nextFilters = new EnumMap<>(EnumFacing.class);
     private BlockPos sourcePipe;
     private EnumFacing facingToHandler;
+    private Map<BlockPos, RouteFactory<ItemRoutePath>> walkedPipes;
 
     protected ItemNetWalker(World world, BlockPos sourcePipe, int distance, List<ItemRoutePath> inventories,
                             ItemPipeProperties properties) {
@@ -57,6 +70,7 @@ public class ItemNetWalker extends PipeNetWalker<TileEntityItemPipe> {
         ItemNetWalker walker = new ItemNetWalker(world, nextPos, walkedBlocks, inventories, minProperties);
         walker.facingToHandler = facingToHandler;
         walker.sourcePipe = sourcePipe;
+        walker.walkedPipes = walkedPipes;
         walker.filters.addAll(filters);
         List<Predicate<ItemStack>> moreFilters = nextFilters.get(facingToNextPos);
         if (moreFilters != null && !moreFilters.isEmpty()) {
@@ -80,6 +94,15 @@ public class ItemNetWalker extends PipeNetWalker<TileEntityItemPipe> {
             minProperties = new ItemPipeProperties(minProperties.getPriority() + pipeProperties.getPriority(),
                     Math.min(minProperties.getTransferRate(), pipeProperties.getTransferRate()));
         }
+        if (walkedPipes != null) {
+            ItemPipeProperties properties = minProperties;
+            List<Predicate<ItemStack>> filters = this.filters.isEmpty() ? Collections.emptyList() :
+                    new ArrayList<>(this.filters);
+            EnumFacing sourceFacing = GTUtility.arePosEqual(pos, sourcePipe) ? facingToHandler : null;
+            int walkedBlocks = getWalkedBlocks();
+            walkedPipes.put(pos.toImmutable(), facing -> facing == sourceFacing ? null :
+                    new ItemRoutePath(pipeTile, facing, walkedBlocks, properties, filters));
+        }
     }
 
     @Override
@@ -2,12 +2,16 @@ package gregtech.common.pipelike.itempipe.net;
 
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
+import gregtech.api.pipenet.RouteCache;
+import gregtech.api.pipenet.RouteCache.RouteFactory;
+import gregtech.api.pipenet.RouteCacheStats;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.ItemPipeProperties;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.items.CapabilityItemHandler;
 
 import java.util.Collections;
 import java.util.Comparator;
@@ -17,7 +21,11 @@ import java.util.Map;
 
 public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
 
-    private final Map<BlockPos, List<ItemRoutePath>> NET_DATA = new HashMap<>();
+    public static final RouteCacheStats ROUTE_CACHE_STATS = new RouteCacheStats("item_pipe");
+
+    private final RouteCache<ItemRoutePath> NET_DATA = new RouteCache<>(
+            CapabilityItemHandler.ITEM_HANDLER_CAPABILITY,
+            Comparator.comparingInt((ItemRoutePath inv) -> inv.getProperties().getPriority()), ROUTE_CACHE_STATS);
 
     public ItemPipeNet(WorldPipeNet<ItemPipeProperties, ? extends PipeNet<ItemPipeProperties>> world) {
         super(world);
@@ -26,20 +34,20 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
     public List<ItemRoutePath> getNetData(BlockPos pipePos, EnumFacing facing) {
         List<ItemRoutePath> data = NET_DATA.get(pipePos);
         if (data == null) {
-            data = ItemNetWalker.createNetData(getWorldData(), pipePos, facing);
+            Map<BlockPos, RouteFactory<ItemRoutePath>> walkedPipes = new HashMap<>();
+            data = NET_DATA.put(pipePos, ItemNetWalker.createNetData(getWorldData(), pipePos, facing, walkedPipes),
+                    walkedPipes);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
                 return Collections.emptyList();
             }
-            data.sort(Comparator.comparingInt(inv -> inv.getProperties().getPriority()));
-            NET_DATA.put(pipePos, data);
         }
         return data;
     }
 
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        NET_DATA.onNeighbourUpdate(getWorldData(), fromPos);
     }
 
     @Override
@@ -47,6 +55,11 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
         NET_DATA.clear();
     }
 
+    @Override
+    public void onPipeConnectionsUpdate(BlockPos pipePos, EnumFacing side) {
+        NET_DATA.onPipeConnectionsUpdate(getWorldData(), pipePos, side);
+    }
+
     @Override
     public void onChunkUnload() {
         NET_DATA.clear();
@@ -0,0 +1,67 @@
+package gregtech.core.network.packets;
+
+import gregtech.api.metatileentity.SyncedTileEntityBase;
+import gregtech.api.network.IClientExecutor;
+import gregtech.api.network.IPacket;
+import gregtech.api.network.InitialSyncBatch;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The initial sync data of all synced tile entities in a chunk, sent right after the chunk.
+ */
+public class PacketInitialSyncBatch implements IPacket, IClientExecutor {
+
+    private int chunkX;
+    private int chunkZ;
+    private ByteBuf data;
+    private InitialSyncBatch batch;
+
+    @SuppressWarnings("unused")
+    public PacketInitialSyncBatch() {}
+
+    public PacketInitialSyncBatch(int chunkX, int chunkZ, ByteBuf data) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.data = data;
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        buf.writeInt(chunkX);
+        buf.writeInt(chunkZ);
+        buf.writeBytes(data, data.readerIndex(), data.readableBytes());
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.chunkX = buf.readInt();
+        this.chunkZ = buf.readInt();
+        // decompressed on the network thread, only applying the data has to happen on the main thread
+        this.batch = InitialSyncBatch.read(buf);
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void executeClient(NetHandlerPlayClient handler) {
+        World world = Minecraft.getMinecraft().world;
+        if (world == null) return;
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < batch.size(); i++) {
+            pos.setPos((chunkX << 4) + batch.getX(i), batch.getY(i), (chunkZ << 4) + batch.getZ(i));
+            TileEntity tileEntity = world.getTileEntity(pos);
+            if (tileEntity instanceof SyncedTileEntityBase syncedTileEntity) {
+                syncedTileEntity.receiveInitialSyncPayload(batch.getData(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package gregtech.core.network.packets;
+
+import gregtech.api.metatileentity.SyncedTileEntityBase;
+import gregtech.api.network.IClientExecutor;
+import gregtech.api.network.IPacket;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The data packets of all tile entities in a chunk which changed during a tick.
+ */
+public class PacketTileUpdateBatch implements IPacket, IClientExecutor {
+
+    private ByteBuf data;
+
+    @SuppressWarnings("unused")
+    public PacketTileUpdateBatch() {}
+
+    public PacketTileUpdateBatch(ByteBuf data) {
+        this.data = data;
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        buf.writeBytes(data, data.readerIndex(), data.readableBytes());
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.data = buf.readBytes(buf.readableBytes());
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void executeClient(NetHandlerPlayClient handler) {
+        try {
+            World world = Minecraft.getMinecraft().world;
+            if (world == null) return;
+            PacketBuffer buf = new PacketBuffer(data);
+            int tileEntities = buf.readInt();
+            for (int i = 0; i < tileEntities; i++) {
+                TileEntity tileEntity = world.getTileEntity(BlockPos.fromLong(buf.readLong()));
+                int updates = buf.readVarInt();
+                for (int j = 0; j < updates; j++) {
+                    int discriminator = buf.readVarInt();
+                    ByteBuf updateData = buf.readSlice(buf.readVarInt());
+                    // the tile entity may be gone on the client, in which case its updates are skipped
+                    if (tileEntity instanceof SyncedTileEntityBase syncedTileEntity) {
+                        syncedTileEntity.receiveUpdate(discriminator, updateData);
+                    }
+                }
+            }
+        } finally {
+            data.release();
+        }
+    }
+}
@@ -96,6 +96,12 @@ public class GroovyScriptModule extends IntegrationSubmodule implements GroovyPl
         // Not Needed if JEI Module is enabled
         if (!GregTechAPI.moduleManager.isModuleEnabled(GregTechModules.MODULE_JEI))
             GTRecipeOreInput.refreshStackCache();
+
+        // scripts may change the ore dictionary without touching recipes
+        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            recipeMap.getMissCache().invalidate();
+        }
+        RecipeMap.freezeLookups();
     }
 
     @SubscribeEvent
@@ -4,6 +4,7 @@ import gregtech.api.gui.GuiTextures;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.metatileentity.multiblock.MultiblockControllerBase;
+import gregtech.api.pattern.BlockPatternCache;
 import gregtech.api.pattern.BlockWorldState;
 import gregtech.api.pattern.MultiblockShapeInfo;
 import gregtech.api.pattern.PatternMatchContext;
@@ -616,8 +617,10 @@ public class MultiblockInfoRecipeWrapper implements IRecipeWrapper {
                 controllerBase.reinitializeStructurePattern();
             }
             if (controllerBase.structurePattern != null) {
-                controllerBase.structurePattern.cache.forEach((pos, blockInfo) -> predicateMap
-                        .put(BlockPos.fromLong(pos), (TraceabilityPredicate) blockInfo.getInfo()));
+                BlockPatternCache cache = controllerBase.structurePattern.getMatchCache();
+                for (int i = 0; i < cache.size(); i++) {
+                    predicateMap.put(BlockPos.fromLong(cache.getPosition(i)), cache.getPredicate(i));
+                }
             }
         }
 
@@ -0,0 +1,32 @@
+package gregtech.mixins.minecraft;
+
+import gregtech.api.metatileentity.InitialSyncBatcher;
+
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.world.chunk.Chunk;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+@Mixin(PlayerChunkMapEntry.class)
+public class PlayerChunkMapEntryMixin {
+
+    /**
+     * Only these chunk packets are followed by a ChunkWatchEvent, after which the initial sync data is sent in a batch.
+     */
+    @WrapOperation(method = { "sendToPlayers", "sendToPlayer" },
+                   at = @At(value = "NEW",
+                            target = "(Lnet/minecraft/world/chunk/Chunk;I)Lnet/minecraft/network/play/server/SPacketChunkData;"))
+    private SPacketChunkData buildWatchedChunkPacket(Chunk chunk, int changedSectionFilter,
+                                                     Operation<SPacketChunkData> original) {
+        InitialSyncBatcher.setBuildingWatchedChunk(true);
+        try {
+            return original.call(chunk, changedSectionFilter);
+        } finally {
+            InitialSyncBatcher.setBuildingWatchedChunk(false);
+        }
+    }
+}
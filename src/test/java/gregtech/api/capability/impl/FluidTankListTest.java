@@ -2,6 +2,7 @@ package gregtech.api.capability.impl;
 
 import gregtech.Bootstrap;
 import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.capability.IVersionedHandler;
 import gregtech.api.unification.material.Materials;
 import gregtech.api.util.OverlayedFluidHandler;
 
@@ -20,6 +21,9 @@ import java.util.stream.Collectors;
 
 import static net.minecraftforge.fluids.FluidRegistry.LAVA;
 import static net.minecraftforge.fluids.FluidRegistry.WATER;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 public class FluidTankListTest {
 
@@ -28,6 +32,32 @@ public class FluidTankListTest {
         Bootstrap.perform();
     }
 
+    @Test
+    public void testContentsVersion() {
+        FilteredFluidHandler first = new FilteredFluidHandler(1000);
+        FluidTankList tracked = new FluidTankList(false, first, new FilteredFluidHandler(1000));
+        long version = tracked.getContentsVersion();
+
+        tracked.fill(new FluidStack(WATER, 500), false);
+        assertThat(tracked.getContentsVersion(), is(version));
+
+        tracked.fill(new FluidStack(WATER, 500), true);
+        assertThat(tracked.getContentsVersion(), not(version));
+
+        version = tracked.getContentsVersion();
+        tracked.drain(100, true);
+        assertThat(tracked.getContentsVersion(), not(version));
+
+        version = tracked.getContentsVersion();
+        first.setFluid(new FluidStack(LAVA, 100));
+        assertThat(tracked.getContentsVersion(), not(version));
+
+        FluidTankList untracked = new FluidTankList(false,
+                new FilteredFluidHandler(1000),
+                new FluidTank(1000));
+        assertThat(untracked.getContentsVersion(), is(IVersionedHandler.UNTRACKED));
+    }
+
     @Test
     public void testSimpleFills() {
         new FluidHandlerTester(false,
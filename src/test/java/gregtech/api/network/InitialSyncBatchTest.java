@@ -0,0 +1,98 @@
+package gregtech.api.network;
+
+import net.minecraft.network.PacketBuffer;
+
+import io.netty.buffer.Unpooled;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class InitialSyncBatchTest {
+
+    @Test
+    public void testRoundTrip() {
+        InitialSyncBatch batch = new InitialSyncBatch();
+        batch.add(1, 64, 15, new byte[] { 1, 2, 3 });
+        batch.add(0, 255, 0, new byte[0]);
+        batch.add(15, 0, 7, new byte[] { 1, 2, 3 });
+
+        InitialSyncBatch read = writeAndRead(batch);
+        MatcherAssert.assertThat(read.size(), is(3));
+        MatcherAssert.assertThat(read.getPayloadCount(), is(2));
+
+        MatcherAssert.assertThat(read.getX(0), is(1));
+        MatcherAssert.assertThat(read.getY(0), is(64));
+        MatcherAssert.assertThat(read.getZ(0), is(15));
+        MatcherAssert.assertThat(read.getData(0), is(new byte[] { 1, 2, 3 }));
+
+        MatcherAssert.assertThat(read.getY(1), is(255));
+        MatcherAssert.assertThat(read.getData(1).length, is(0));
+
+        MatcherAssert.assertThat(read.getX(2), is(15));
+        MatcherAssert.assertThat(read.getY(2), is(0));
+        MatcherAssert.assertThat(read.getZ(2), is(7));
+        MatcherAssert.assertThat(read.getData(2), is(new byte[] { 1, 2, 3 }));
+    }
+
+    /**
+     * A chunk filled with 4096 machines, which only differ in a handful of ways like their facing and tier.
+     */
+    @Test
+    public void testSyntheticChunkOf4096Machines() {
+        Random random = new Random(0);
+        byte[][] variants = new byte[8][];
+        for (int i = 0; i < variants.length; i++) {
+            variants[i] = new byte[256];
+            random.nextBytes(variants[i]);
+        }
+
+        InitialSyncBatch batch = new InitialSyncBatch();
+        int rawSize = 0;
+        for (int i = 0; i < 4096; i++) {
+            byte[] data = variants[i % variants.length].clone();
+            batch.add(i & 15, 64 + (i >> 8), (i >> 4) & 15, data);
+            rawSize += data.length;
+        }
+        MatcherAssert.assertThat(batch.getPayloadCount(), is(variants.length));
+
+        PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        batch.write(buf);
+        // the identical payloads are sent once, and the positions compress well
+        MatcherAssert.assertThat(buf.readableBytes(), lessThan(rawSize / 50));
+
+        InitialSyncBatch read = InitialSyncBatch.read(buf);
+        MatcherAssert.assertThat(read.size(), is(4096));
+        for (int i = 0; i < 4096; i++) {
+            MatcherAssert.assertThat(read.getX(i), is(i & 15));
+            MatcherAssert.assertThat(read.getY(i), is(64 + (i >> 8)));
+            MatcherAssert.assertThat(read.getZ(i), is((i >> 4) & 15));
+            MatcherAssert.assertThat(read.getData(i), is(variants[i % variants.length]));
+        }
+    }
+
+    @Test
+    public void testRejectsOversizedLengths() {
+        PacketBuffer tooLong = new PacketBuffer(Unpooled.buffer());
+        tooLong.writeVarInt(Integer.MAX_VALUE);
+        tooLong.writeVarInt(4);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> InitialSyncBatch.read(tooLong));
+
+        // a compressed length larger than the rest of the packet
+        PacketBuffer truncated = new PacketBuffer(Unpooled.buffer());
+        truncated.writeVarInt(16);
+        truncated.writeVarInt(1024);
+        truncated.writeBytes(new byte[8]);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> InitialSyncBatch.read(truncated));
+    }
+
+    private static InitialSyncBatch writeAndRead(InitialSyncBatch batch) {
+        PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        batch.write(buf);
+        return InitialSyncBatch.read(buf);
+    }
+}
@@ -7,6 +7,7 @@ import gregtech.api.recipes.map.AbstractMapIngredient;
 import gregtech.api.recipes.map.MapFluidIngredient;
 import gregtech.api.recipes.map.MapItemStackIngredient;
 import gregtech.api.recipes.map.MapOreDictIngredient;
+import gregtech.common.ConfigHolder;
 
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
@@ -17,13 +18,16 @@ import net.minecraftforge.oredict.OreDictionary;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsNot;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import static gregtech.api.unification.material.Materials.*;
 import static org.hamcrest.CoreMatchers.*;
@@ -272,4 +276,167 @@ public class RecipeMapTest {
             MatcherAssert.assertThat(recipe, notNullValue());
         }
     }
+
+    @Test
+    public void pooledLookupMatchesAllocatingLookup() {
+        boolean pooled = ConfigHolder.performance.pooledRecipeLookup;
+        try {
+            ConfigHolder.performance.pooledRecipeLookup = false;
+            Recipe item = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                    Collections.singletonList(null));
+            Recipe fluid = map.findRecipe(30,
+                    Collections.singletonList(ItemStack.EMPTY),
+                    Arrays.asList(
+                            Epichlorohydrin.getFluid(144),
+                            Naphtha.getFluid(3000),
+                            NitrogenDioxide.getFluid(1000)));
+
+            ConfigHolder.performance.pooledRecipeLookup = true;
+            MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                    Collections.singletonList(null)), sameInstance(item));
+            MatcherAssert.assertThat(map.findRecipe(30,
+                    Collections.singletonList(ItemStack.EMPTY),
+                    Arrays.asList(
+                            Epichlorohydrin.getFluid(144),
+                            Naphtha.getFluid(3000),
+                            NitrogenDioxide.getFluid(1000))),
+                    sameInstance(fluid));
+
+            // the pooled keys must be fully re-targeted between searches
+            MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.DIRT)),
+                    Collections.emptyList()), nullValue());
+            MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                    Collections.emptyList()), sameInstance(item));
+        } finally {
+            ConfigHolder.performance.pooledRecipeLookup = pooled;
+        }
+    }
+
+    @Test
+    public void pooledLookupKeepsOverriddenSearchHooks() {
+        RecipeMap<SimpleRecipeBuilder> hiding = new RecipeMap<>("test_hiding_" + mapId++, 2, 2, 3, 2,
+                new SimpleRecipeBuilder().EUt(30), false) {
+
+            @Override
+            protected List<List<AbstractMapIngredient>> prepareRecipeFind(@NotNull Collection<ItemStack> items,
+                                                                          @NotNull Collection<FluidStack> fluids) {
+                return null;
+            }
+        };
+        hiding.recipeBuilder()
+                .notConsumable(new ItemStack(Blocks.COBBLESTONE))
+                .outputs(new ItemStack(Blocks.STONE))
+                .EUt(1).duration(1)
+                .buildAndRegister();
+
+        boolean pooled = ConfigHolder.performance.pooledRecipeLookup;
+        try {
+            ConfigHolder.performance.pooledRecipeLookup = true;
+            MatcherAssert.assertThat(hiding.findRecipe(1,
+                    Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.emptyList()),
+                    nullValue());
+        } finally {
+            ConfigHolder.performance.pooledRecipeLookup = pooled;
+        }
+    }
+
+    @Test
+    public void compiledLookupMatchesTreeLookup() {
+        Recipe item = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                Collections.singletonList(null));
+        Recipe mixed = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.STONE)),
+                Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)));
+        MatcherAssert.assertThat(item, notNullValue());
+        MatcherAssert.assertThat(mixed, notNullValue());
+
+        map.freezeLookup();
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                Collections.singletonList(null)), sameInstance(item));
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.STONE)),
+                Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1))), sameInstance(mixed));
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.STONE)),
+                Collections.emptyList()), nullValue());
+
+        MatcherAssert.assertThat(map.getRecipeList().size(), is(3));
+
+        // modifying the tree must discard the compiled lookup
+        MatcherAssert.assertThat(map.removeRecipe(mixed), is(true));
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.STONE)),
+                Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1))), nullValue());
+
+        // the dropped tree must be rebuilt with the remaining recipes
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                Collections.singletonList(null)), sameInstance(item));
+        MatcherAssert.assertThat(map.getRecipeList().size(), is(2));
+    }
+
+    @Test
+    public void missCacheIsClearedWhenRecipeAdded() {
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.DIRT)),
+                Collections.emptyList()), nullValue());
+        MatcherAssert.assertThat(map.getMissCache().size(), is(1));
+
+        map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.DIRT))
+                .outputs(new ItemStack(Blocks.GRASS))
+                .EUt(1).duration(1)
+                .buildAndRegister();
+        MatcherAssert.assertThat(map.getMissCache().size(), is(0));
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.DIRT)),
+                Collections.emptyList()), notNullValue());
+    }
+
+    @Test
+    public void missCacheIsClearedWhenRecipeRemoved() {
+        map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.DIRT))
+                .outputs(new ItemStack(Blocks.GRASS))
+                .EUt(1).duration(1)
+                .buildAndRegister();
+        Recipe dirt = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.DIRT)),
+                Collections.emptyList());
+        MatcherAssert.assertThat(dirt, notNullValue());
+
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.GRAVEL)),
+                Collections.emptyList()), nullValue());
+        MatcherAssert.assertThat(map.getMissCache().size(), is(1));
+
+        MatcherAssert.assertThat(map.removeRecipe(dirt), is(true));
+        MatcherAssert.assertThat(map.getMissCache().size(), is(0));
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.DIRT)),
+                Collections.emptyList()), nullValue());
+
+        // the miss recorded after the removal must not hide the recipe once it is added back
+        MatcherAssert.assertThat(map.compileRecipe(dirt), is(true));
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.DIRT)),
+                Collections.emptyList()), sameInstance(dirt));
+    }
+
+    @Test
+    public void missCacheSkipsSearchesWhichTestedRecipes() {
+        // the cobblestone recipes are found, but need more voltage
+        MatcherAssert.assertThat(map.findRecipe(0, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                Collections.emptyList()), nullValue());
+        MatcherAssert.assertThat(map.getMissCache().size(), is(0));
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                Collections.emptyList()), notNullValue());
+    }
+
+    @Test
+    public void findRecipesSearchesEachInventory() {
+        List<FluidStack> fluids = Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1));
+        List<List<ItemStack>> inventories = Arrays.asList(
+                Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                Collections.singletonList(new ItemStack(Blocks.GRAVEL)),
+                Arrays.asList(ItemStack.EMPTY, new ItemStack(Blocks.STONE)));
+
+        Recipe[] recipes = map.findRecipes(1, inventories, fluids, false);
+        MatcherAssert.assertThat(recipes.length, is(3));
+        MatcherAssert.assertThat(recipes[0], notNullValue());
+        MatcherAssert.assertThat(recipes[1], nullValue());
+        MatcherAssert.assertThat(recipes[2], notNullValue());
+        for (int i = 0; i < inventories.size(); i++) {
+            MatcherAssert.assertThat(recipes[i], sameInstance(map.findRecipe(1, inventories.get(i), fluids)));
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package gregtech.api.recipes.map;
+
+import gregtech.Bootstrap;
+import gregtech.api.GTValues;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class RecipeLookupMissCacheTest {
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    public void Test_Keys_Ignore_Amount_And_Order() {
+        RecipeLookupMissCache cache = new RecipeLookupMissCache();
+        cache.add(Arrays.asList(new ItemStack(Items.IRON_INGOT, 3), new ItemStack(Items.GOLD_INGOT)),
+                Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1000)), GTValues.V[GTValues.LV],
+                false, 16);
+
+        assertThat(cache.contains(Arrays.asList(new ItemStack(Items.GOLD_INGOT, 5), ItemStack.EMPTY,
+                new ItemStack(Items.IRON_INGOT)), Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)),
+                GTValues.V[GTValues.LV], false), is(true));
+    }
+
+    @Test
+    public void Test_Keys_Compare_Ingredients() {
+        RecipeLookupMissCache cache = new RecipeLookupMissCache();
+        cache.add(Collections.singletonList(new ItemStack(Items.IRON_INGOT)), Collections.emptyList(),
+                GTValues.V[GTValues.LV], false, 16);
+
+        assertThat(cache.contains(Collections.singletonList(new ItemStack(Items.GOLD_INGOT)), Collections.emptyList(),
+                GTValues.V[GTValues.LV], false), is(false));
+        assertThat(cache.contains(Collections.singletonList(new ItemStack(Items.IRON_INGOT)), Collections.emptyList(),
+                GTValues.V[GTValues.MV], false), is(false));
+    }
+
+    @Test
+    public void Test_Added_Keys_Do_Not_Refer_To_Searched_Stacks() {
+        RecipeLookupMissCache cache = new RecipeLookupMissCache();
+        ItemStack stack = new ItemStack(Items.IRON_INGOT);
+        cache.add(Collections.singletonList(stack), Collections.emptyList(), GTValues.V[GTValues.LV], false, 16);
+        stack.setItemDamage(1);
+
+        assertThat(cache.contains(Collections.singletonList(new ItemStack(Items.IRON_INGOT)), Collections.emptyList(),
+                GTValues.V[GTValues.LV], false), is(true));
+    }
+}
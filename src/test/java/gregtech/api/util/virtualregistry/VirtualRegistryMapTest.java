@@ -0,0 +1,87 @@
+package gregtech.api.util.virtualregistry;
+
+import gregtech.Bootstrap;
+import gregtech.api.util.virtualregistry.entries.VirtualTank;
+
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class VirtualRegistryMapTest {
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    public void Test_Adding_And_Removing_Entries() {
+        VirtualRegistryMap map = new VirtualRegistryMap();
+        assertThat(map.isDirty(), is(false));
+
+        map.addEntry("tank", new VirtualTank());
+        assertThat(map.isDirty(), is(true));
+
+        map.setDirty(false);
+        map.deleteEntry(EntryTypes.ENDER_FLUID, "missing");
+        assertThat(map.isDirty(), is(false));
+
+        map.deleteEntry(EntryTypes.ENDER_FLUID, "tank");
+        assertThat(map.isDirty(), is(true));
+    }
+
+    @Test
+    public void Test_Changing_Entries() {
+        VirtualRegistryMap map = new VirtualRegistryMap();
+        VirtualTank tank = new VirtualTank();
+        map.addEntry("tank", tank);
+        map.setDirty(false);
+
+        tank.fill(new FluidStack(FluidRegistry.WATER, 1000), false);
+        tank.setColor(VirtualEntry.DEFAULT_COLOR);
+        tank.setDescription("");
+        assertThat(map.isDirty(), is(false));
+
+        tank.fill(new FluidStack(FluidRegistry.WATER, 1000), true);
+        assertThat(map.isDirty(), is(true));
+
+        map.setDirty(false);
+        tank.drain(500, true);
+        assertThat(map.isDirty(), is(true));
+
+        map.setDirty(false);
+        tank.setColor("FF00FF00");
+        assertThat(map.isDirty(), is(true));
+    }
+
+    @Test
+    public void Test_Loaded_Map_Is_Clean() {
+        VirtualRegistryMap map = new VirtualRegistryMap();
+        VirtualTank tank = new VirtualTank();
+        tank.fill(new FluidStack(FluidRegistry.WATER, 1000), true);
+        tank.setDescription("water");
+        map.addEntry("tank", tank);
+
+        VirtualRegistryMap loaded = new VirtualRegistryMap(map.serializeNBT());
+        assertThat(loaded.isDirty(), is(false));
+        VirtualTank loadedTank = loaded.getEntry(EntryTypes.ENDER_FLUID, "tank");
+        assertThat(loadedTank.getFluidAmount(), is(1000));
+        assertThat(loadedTank.getDescription(), is("water"));
+    }
+
+    @Test
+    public void Test_Deleted_Entries_Are_Removed() {
+        VirtualRegistryMap map = new VirtualRegistryMap();
+        VirtualTank tank = new VirtualTank();
+        map.addEntry("tank", tank);
+        assertThat(tank.isRemoved(), is(false));
+
+        map.deleteEntry(EntryTypes.ENDER_FLUID, "tank");
+        assertThat(tank.isRemoved(), is(true));
+    }
+}
@@ -0,0 +1,82 @@
+package gregtech.common.covers.filter;
+
+import gregtech.Bootstrap;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ItemFilterMatchCacheTest {
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    public void testResultsAreReused() {
+        ItemFilterMatchCache cache = new ItemFilterMatchCache();
+        AtomicInteger matches = new AtomicInteger();
+
+        assertThat(cache.getOrMatch(new ItemStack(Items.IRON_INGOT, 3), s -> matches.incrementAndGet()), is(1));
+        // the count is not part of the key
+        assertThat(cache.getOrMatch(new ItemStack(Items.IRON_INGOT, 64), s -> matches.incrementAndGet()), is(1));
+        assertThat(matches.get(), is(1));
+    }
+
+    @Test
+    public void testMetadataAndNbtAreKeys() {
+        ItemFilterMatchCache cache = new ItemFilterMatchCache();
+        AtomicInteger matches = new AtomicInteger();
+
+        ItemStack stack = new ItemStack(Items.DYE, 1, 1);
+        ItemStack otherMeta = new ItemStack(Items.DYE, 1, 2);
+        ItemStack withTag = new ItemStack(Items.DYE, 1, 1);
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setBoolean("Test", true);
+        withTag.setTagCompound(tag);
+
+        assertThat(cache.getOrMatch(stack, s -> matches.incrementAndGet()), is(1));
+        assertThat(cache.getOrMatch(otherMeta, s -> matches.incrementAndGet()), is(2));
+        assertThat(cache.getOrMatch(withTag, s -> matches.incrementAndGet()), is(3));
+        assertThat(cache.size(), is(3));
+    }
+
+    @Test
+    public void testKeysAreCopied() {
+        ItemFilterMatchCache cache = new ItemFilterMatchCache();
+        ItemStack stack = new ItemStack(Items.DYE, 1, 1);
+        cache.getOrMatch(stack, s -> 1);
+
+        stack.setItemDamage(2);
+        assertThat(cache.getOrMatch(stack, s -> 2), is(2));
+        assertThat(cache.getOrMatch(new ItemStack(Items.DYE, 1, 1), s -> 3), is(1));
+    }
+
+    @Test
+    public void testOldestResultIsEvicted() {
+        ItemFilterMatchCache cache = new ItemFilterMatchCache();
+        for (int i = 0; i <= ItemFilterMatchCache.MAX_SIZE; i++) {
+            cache.getOrMatch(new ItemStack(Items.DYE, 1, i), s -> 1);
+        }
+        assertThat(cache.size(), is(ItemFilterMatchCache.MAX_SIZE));
+        assertThat(cache.getOrMatch(new ItemStack(Items.DYE, 1, 0), s -> 2), is(2));
+        assertThat(cache.getOrMatch(new ItemStack(Items.DYE, 1, ItemFilterMatchCache.MAX_SIZE), s -> 2), is(1));
+    }
+
+    @Test
+    public void testClear() {
+        ItemFilterMatchCache cache = new ItemFilterMatchCache();
+        cache.getOrMatch(new ItemStack(Items.IRON_INGOT), s -> 1);
+        cache.clear();
+        assertThat(cache.getOrMatch(new ItemStack(Items.IRON_INGOT), s -> 2), is(2));
+    }
+}
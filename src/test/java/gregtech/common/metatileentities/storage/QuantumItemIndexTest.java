@@ -0,0 +1,111 @@
+package gregtech.common.metatileentities.storage;
+
+import gregtech.Bootstrap;
+import gregtech.api.GTValues;
+import gregtech.api.util.GTUtility;
+import gregtech.api.util.world.DummyWorld;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static gregtech.api.util.GTUtility.gregtechId;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class QuantumItemIndexTest {
+
+    private static ItemStack GRAVEL;
+    private static ItemStack SAND;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+        GRAVEL = new ItemStack(Blocks.GRAVEL);
+        SAND = new ItemStack(Blocks.SAND);
+    }
+
+    @Test
+    public void Test_Insertion_Keeps_Items_Apart() {
+        QuantumItemIndex index = new QuantumItemIndex();
+        QuantumChestWrapper first = new QuantumChestWrapper();
+        QuantumChestWrapper second = new QuantumChestWrapper();
+        index.update(first);
+        index.update(second);
+
+        assertThat(index.insert(GTUtility.copy(100, GRAVEL), false).isEmpty(), is(true));
+        assertThat(index.insert(GTUtility.copy(50, SAND), false).isEmpty(), is(true));
+        assertThat(index.insert(GTUtility.copy(20, GRAVEL), false).isEmpty(), is(true));
+
+        assertThat(first.getStoredAmount(), is(120L));
+        assertThat(second.getStoredAmount(), is(50L));
+        assertThat(index.getCount(GRAVEL), is(120L));
+        assertThat(index.getCount(SAND), is(50L));
+        assertThat(index.getCounts().size(), is(2));
+    }
+
+    @Test
+    public void Test_Insertion_Without_Room() {
+        QuantumItemIndex index = new QuantumItemIndex();
+        QuantumChestWrapper chest = new QuantumChestWrapper();
+        index.update(chest);
+
+        index.insert(GTUtility.copy(10, GRAVEL), false);
+        ItemStack remainder = index.insert(GTUtility.copy(10, SAND), true);
+        assertThat(remainder.getCount(), is(10));
+    }
+
+    @Test
+    public void Test_Extraction() {
+        QuantumItemIndex index = new QuantumItemIndex();
+        QuantumChestWrapper chest = new QuantumChestWrapper();
+        index.update(chest);
+        index.insert(GTUtility.copy(200, GRAVEL), false);
+
+        ItemStack extracted = index.extract(GRAVEL, 150, true);
+        assertThat(extracted.getCount(), is(150));
+        assertThat(chest.getStoredAmount(), is(200L));
+
+        extracted = index.extract(GRAVEL, 500, false);
+        assertThat(extracted.getCount(), is(200));
+        assertThat(index.getCount(GRAVEL), is(0L));
+
+        // the emptied chest takes other items again
+        assertThat(index.insert(GTUtility.copy(10, SAND), false).isEmpty(), is(true));
+        assertThat(index.getCount(SAND), is(10L));
+    }
+
+    @Test
+    public void Test_Stale_Index() {
+        QuantumItemIndex index = new QuantumItemIndex();
+        QuantumChestWrapper chest = new QuantumChestWrapper();
+        index.update(chest);
+
+        // the chest is filled without the index knowing
+        chest.getCombinedInventory().insertItem(0, GTUtility.copy(10, GRAVEL), false);
+
+        ItemStack remainder = index.insert(GTUtility.copy(10, SAND), false);
+        assertThat(remainder.getCount(), is(10));
+        assertThat(index.getCount(GRAVEL), is(10L));
+    }
+
+    private static class QuantumChestWrapper extends MetaTileEntityQuantumChest {
+
+        public QuantumChestWrapper() {
+            super(gregtechId("super_chest." + GTValues.VN[GTValues.LV].toLowerCase()), GTValues.LV, 4000000L);
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public World getWorld() {
+            return DummyWorld.INSTANCE;
+        }
+    }
+}